@@ -0,0 +1,142 @@
+package seedu.address;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StartupProfiler;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.Storage;
+
+/**
+ * Loads the address book from storage into a model on a background thread, so that the main window can be shown
+ * before all of the data has been read. <br>
+ * The persons and then the appointments are added to the model a chunk at a time on the UI thread, so that the UI
+ * stays responsive and shows the data as it arrives. <br>
+ * The data from the sample address book is loaded instead if the storage's address book is not found, and the model
+ * is left with an empty address book if any error occurs when reading the storage's address book, so that loading
+ * always finishes. <br>
+ * Once loaded, the model's address book is tracked by the storage as holding the saved data, so that it is not saved
+ * until it changes, and an unreadable data file is backed up before it is replaced.
+ */
+public class AddressBookLoader {
+
+    public static final int CHUNK_SIZE = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookLoader.class);
+
+    private final Storage storage;
+    private final Model model;
+    private final Executor uiExecutor;
+    private final Runnable onLoaded;
+    private final StartupProfiler startupProfiler;
+
+    // Only accessed on the loading thread
+    private boolean isDataFileRead;
+
+    /**
+     * Creates an {@code AddressBookLoader} that loads {@code storage}'s address book into {@code model}, which must
+     * hold an empty address book. {@code uiExecutor} runs tasks on the thread that owns {@code model}, and
+     * {@code onLoaded} is run on that thread once every person and appointment has been added. The timings of reading
+     * the address book and of adding it to the model are recorded in {@code startupProfiler}.
+     */
+    public AddressBookLoader(Storage storage, Model model, Executor uiExecutor, Runnable onLoaded,
+            StartupProfiler startupProfiler) {
+        requireAllNonNull(storage, model, uiExecutor, onLoaded, startupProfiler);
+        this.storage = storage;
+        this.model = model;
+        this.uiExecutor = uiExecutor;
+        this.onLoaded = onLoaded;
+        this.startupProfiler = startupProfiler;
+    }
+
+    /**
+     * Starts loading the address book on a new background thread.
+     */
+    public void start() {
+        Thread thread = new Thread(this::load, "address-book-loader");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Loads the address book on the calling thread, waiting for each chunk to be added to the model before reading
+     * the next one.
+     */
+    void load() {
+        ReadOnlyAddressBook data;
+        try (StartupProfiler.Phase phase = startupProfiler.start("readAddressBook")) {
+            data = readAddressBook();
+        }
+        try (StartupProfiler.Phase phase = startupProfiler.start("addAddressBookToModel")) {
+            addInChunks(data.getPersonList(), model::addPersons);
+            addInChunks(data.getAppointmentList(), model::addAppointments);
+        } catch (RuntimeException e) {
+            logger.warning("Unexpected error loading data file at " + storage.getAddressBookFilePath() + ": "
+                    + StringUtil.getDetails(e) + ". Will be starting with an empty AddressBook.");
+            runOnUiThread(() -> model.setAddressBook(new AddressBook()));
+            isDataFileRead = false;
+        }
+        boolean isLoadedFromDataFile = isDataFileRead;
+        uiExecutor.execute(() -> {
+            trackLoadedAddressBook(isLoadedFromDataFile);
+            onLoaded.run();
+        });
+    }
+
+    private ReadOnlyAddressBook readAddressBook() {
+        logger.info("Using data file : " + storage.getAddressBookFilePath());
+        try {
+            Optional<ReadOnlyAddressBook> data = storage.readAddressBook();
+            isDataFileRead = data.isPresent();
+            return data.orElseGet(() -> {
+                logger.info("Creating a new data file " + storage.getAddressBookFilePath()
+                        + " populated with a sample AddressBook.");
+                return SampleDataUtil.getSampleAddressBook();
+            });
+        } catch (DataLoadingException e) {
+            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+                    + " Will be starting with an empty AddressBook.");
+            return new AddressBook();
+        } catch (RuntimeException e) {
+            logger.warning("Unexpected error reading data file at " + storage.getAddressBookFilePath() + ": "
+                    + StringUtil.getDetails(e) + ". Will be starting with an empty AddressBook.");
+            isDataFileRead = false;
+            return new AddressBook();
+        }
+    }
+
+    private void trackLoadedAddressBook(boolean isLoadedFromDataFile) {
+        try {
+            storage.trackLoadedAddressBook(model.getAddressBook(), isLoadedFromDataFile);
+        } catch (IOException e) {
+            logger.warning("Could not back up data file " + storage.getAddressBookFilePath() + ": "
+                    + StringUtil.getDetails(e));
+        }
+    }
+
+    private <T> void addInChunks(List<T> elements, Consumer<List<T>> adder) {
+        for (int start = 0; start < elements.size(); start += CHUNK_SIZE) {
+            // Copied on this thread, so that the UI thread only has to add the chunk to the model
+            List<T> chunk = List.copyOf(elements.subList(start, Math.min(start + CHUNK_SIZE, elements.size())));
+            runOnUiThread(() -> adder.accept(chunk));
+        }
+        logger.fine("Loaded " + elements.size() + " elements into the model");
+    }
+
+    private void runOnUiThread(Runnable task) {
+        CompletableFuture.runAsync(task, uiExecutor).join();
+    }
+}
@@ -2,13 +2,17 @@ package seedu.address;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Clock;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StartupProfiler;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.ConfigUtil;
@@ -16,18 +20,19 @@ import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AppointmentSweeper;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
-import seedu.address.model.ReadOnlyAddressBook;
-import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
-import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.FileAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.SegmentedAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WriteBehindStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -45,52 +50,56 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected AppointmentSweeper appointmentSweeper;
+    protected StartupProfiler startupProfiler = new StartupProfiler();
 
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing AddressBook ]===========================");
         super.init();
 
-        AppParameters appParameters = AppParameters.parse(getParameters());
-        config = initConfig(appParameters.getConfigPath());
-        initLogging(config);
+        try (StartupProfiler.Phase phase = startupProfiler.start("initConfig")) {
+            AppParameters appParameters = AppParameters.parse(getParameters());
+            config = initConfig(appParameters.getConfigPath());
+            initLogging(config);
+        }
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
-        UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        UserPrefs userPrefs;
+        try (StartupProfiler.Phase phase = startupProfiler.start("initPrefs")) {
+            userPrefs = initPrefs(userPrefsStorage);
+        }
+
+        try (StartupProfiler.Phase phase = startupProfiler.start("initStorage")) {
+            FileAddressBookStorage fileStorage = FileAddressBookStorage.of(userPrefs.getAddressBookFileFormat(),
+                    userPrefs.getAddressBookFilePath(), userPrefs.getAddressBookCompressionLevel());
+            AddressBookStorage addressBookStorage = userPrefs.getAddressBookSegmentCount() > 1
+                    ? new SegmentedAddressBookStorage(fileStorage, userPrefs.getAddressBookSegmentCount())
+                    : new JournaledAddressBookStorage(fileStorage);
+            storage = new WriteBehindStorage(new StorageManager(addressBookStorage, userPrefsStorage),
+                    WriteBehindStorage.DEFAULT_MAX_DELAY, this::handleSaveFailure);
+        }
 
-        model = initModelManager(storage, userPrefs);
+        Clock clock = Clock.systemDefaultZone();
+        try (StartupProfiler.Phase phase = startupProfiler.start("initModel")) {
+            // The address book is loaded in the background once the main window is shown
+            model = new ModelManager(new AddressBook(), userPrefs, clock);
+            appointmentSweeper = new AppointmentSweeper(model, clock, Platform::runLater);
+        }
 
-        logic = new LogicManager(model, storage);
+        try (StartupProfiler.Phase phase = startupProfiler.start("initLogic")) {
+            logic = new LogicManager(model, storage);
+            logic.startLoading();
+        }
 
-        ui = new UiManager(logic);
+        ui = new UiManager(logic, startupProfiler);
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
-     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
-     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * Shows the user that the address book could not be saved in the background because of {@code e}.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
-        logger.info("Using data file : " + storage.getAddressBookFilePath());
-
-        Optional<ReadOnlyAddressBook> addressBookOptional;
-        ReadOnlyAddressBook initialData;
-        try {
-            addressBookOptional = storage.readAddressBook();
-            if (!addressBookOptional.isPresent()) {
-                logger.info("Creating a new data file " + storage.getAddressBookFilePath()
-                        + " populated with a sample AddressBook.");
-            }
-            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
-        } catch (DataLoadingException e) {
-            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
-                    + " Will be starting with an empty AddressBook.");
-            initialData = new AddressBook();
-        }
-
-        return new ModelManager(initialData, userPrefs);
+    private void handleSaveFailure(IOException e) {
+        Platform.runLater(() -> ui.showFeedbackToUser(LogicManager.getSaveFailureMessage(e)));
     }
 
     private void initLogging(Config config) {
@@ -172,11 +181,40 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
         ui.start(primaryStage);
+        appointmentSweeper.start();
+        new AddressBookLoader(storage, model, Platform::runLater, this::handleAddressBookLoaded, startupProfiler)
+                .start();
+    }
+
+    /**
+     * Executes the commands entered while the address book was loading, once it has loaded, and reports the timings
+     * of the startup phases, which ends with the loading. <br>
+     * Changes recorded in {@code storage}'s journal since its address book was last saved in full were replayed when
+     * reading it, and {@code storage} tracks the changes made to the model's address book since it was loaded.
+     */
+    private void handleAddressBookLoaded() {
+        logger.info("Loaded " + model.getAddressBook().getPersonList().size() + " persons and "
+                + model.getAddressBook().getAppointmentList().size() + " appointments");
+        List<String> feedback = logic.finishLoading();
+        if (!feedback.isEmpty()) {
+            ui.showFeedbackToUser(String.join("\n", feedback));
+        }
+        startupProfiler.report(VERSION, config.getStartupReportFilePath());
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        appointmentSweeper.stop();
+        try {
+            storage.flush();
+            // A partly loaded address book must not replace the data file
+            if (!logic.loadingProperty().get()) {
+                storage.compactAddressBook(model.getAddressBook());
+            }
+        } catch (IOException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
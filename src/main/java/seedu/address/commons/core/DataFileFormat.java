@@ -0,0 +1,12 @@
+package seedu.address.commons.core;
+
+/**
+ * The formats in which the address book can be saved to its data file.
+ * Data files in any of these formats can be read, regardless of the format chosen for saving.
+ */
+public enum DataFileFormat {
+    /** Human-readable JSON, which other programs can read and which can be edited by hand. */
+    JSON,
+    /** A compact binary format, which is smaller and faster to load and save than JSON. */
+    BINARY
+}
@@ -0,0 +1,181 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Records the wall time, CPU time and allocated bytes of each phase of the app's startup, and reports them to the log
+ * and to a JSON file so that slow starts can be traced to a phase and compared across releases. <br>
+ * A phase's CPU time and allocated bytes are those of the thread that runs it, and are reported as -1 if the JVM
+ * cannot measure them. Phases may be recorded from any thread, and may be nested in one another.
+ */
+public class StartupProfiler {
+
+    public static final long NOT_MEASURED = -1;
+
+    private static final Logger logger = LogsCenter.getLogger(StartupProfiler.class);
+    private static final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+
+    private final List<PhaseTiming> phaseTimings = new ArrayList<>();
+
+    /**
+     * Starts timing the phase named {@code name} on the calling thread, until the returned {@code Phase} is closed on
+     * the same thread.
+     */
+    public Phase start(String name) {
+        requireNonNull(name);
+        return new Phase(name);
+    }
+
+    /**
+     * Returns the timings of the phases that have ended, in the order in which they ended.
+     */
+    public synchronized List<PhaseTiming> getPhaseTimings() {
+        return List.copyOf(phaseTimings);
+    }
+
+    /**
+     * Logs the timings of the phases that have ended, and writes them to {@code reportFilePath} as JSON together with
+     * {@code version} and the time since the JVM started. A report that cannot be written is only logged.
+     */
+    public void report(Version version, Path reportFilePath) {
+        requireNonNull(version);
+        requireNonNull(reportFilePath);
+        StartupReport report = new StartupReport(version.toString(),
+                ManagementFactory.getRuntimeMXBean().getUptime(), getPhaseTimings());
+
+        StringBuilder log = new StringBuilder("Startup report (").append(report.jvmUptimeMillis)
+                .append(" ms since the JVM started):");
+        for (PhaseTiming timing : report.phases) {
+            log.append("\n    ").append(timing);
+        }
+        logger.info(log.toString());
+
+        try {
+            JsonUtil.saveJsonFile(report, reportFilePath);
+        } catch (IOException e) {
+            logger.warning("Failed to save startup report file : " + StringUtil.getDetails(e));
+        }
+    }
+
+    private synchronized void record(PhaseTiming timing) {
+        phaseTimings.add(timing);
+    }
+
+    private static long getCurrentThreadCpuTime() {
+        return threadBean.isCurrentThreadCpuTimeSupported() && threadBean.isThreadCpuTimeEnabled()
+                ? threadBean.getCurrentThreadCpuTime()
+                : NOT_MEASURED;
+    }
+
+    private static long getCurrentThreadAllocatedBytes() {
+        if (threadBean instanceof com.sun.management.ThreadMXBean allocationBean
+                && allocationBean.isThreadAllocatedMemorySupported()
+                && allocationBean.isThreadAllocatedMemoryEnabled()) {
+            return allocationBean.getCurrentThreadAllocatedBytes();
+        }
+        return NOT_MEASURED;
+    }
+
+    private static long since(long start, long end) {
+        return start == NOT_MEASURED || end == NOT_MEASURED ? NOT_MEASURED : end - start;
+    }
+
+    /**
+     * A phase of the startup that is being timed.
+     */
+    public class Phase implements AutoCloseable {
+        private final String name;
+        private final long startNanos;
+        private final long startCpuNanos;
+        private final long startAllocatedBytes;
+
+        private Phase(String name) {
+            this.name = name;
+            this.startAllocatedBytes = getCurrentThreadAllocatedBytes();
+            this.startCpuNanos = getCurrentThreadCpuTime();
+            this.startNanos = System.nanoTime();
+        }
+
+        /**
+         * Ends the phase and records its timing.
+         */
+        @Override
+        public void close() {
+            long wallNanos = System.nanoTime() - startNanos;
+            long cpuNanos = since(startCpuNanos, getCurrentThreadCpuTime());
+            long allocatedBytes = since(startAllocatedBytes, getCurrentThreadAllocatedBytes());
+            record(new PhaseTiming(name, Thread.currentThread().getName(), wallNanos, cpuNanos, allocatedBytes));
+        }
+    }
+
+    /**
+     * The wall time, CPU time and allocated bytes of a phase that has ended.
+     */
+    public static class PhaseTiming {
+        private final String name;
+        private final String thread;
+        private final long wallTimeNanos;
+        private final long cpuTimeNanos;
+        private final long allocatedBytes;
+
+        PhaseTiming(String name, String thread, long wallTimeNanos, long cpuTimeNanos, long allocatedBytes) {
+            this.name = name;
+            this.thread = thread;
+            this.wallTimeNanos = wallTimeNanos;
+            this.cpuTimeNanos = cpuTimeNanos;
+            this.allocatedBytes = allocatedBytes;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getThread() {
+            return thread;
+        }
+
+        public long getWallTimeNanos() {
+            return wallTimeNanos;
+        }
+
+        public long getCpuTimeNanos() {
+            return cpuTimeNanos;
+        }
+
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-24s %9.1f ms wall %9.1f ms cpu %,15d bytes  [%s]", name, wallTimeNanos / 1e6,
+                    cpuTimeNanos / 1e6, allocatedBytes, thread);
+        }
+    }
+
+    /**
+     * The startup report that is written as JSON.
+     */
+    private static class StartupReport {
+        private final String version;
+        private final long jvmUptimeMillis;
+        private final List<PhaseTiming> phases;
+
+        StartupReport(String version, long jvmUptimeMillis, List<PhaseTiming> phases) {
+            this.version = version;
+            this.jvmUptimeMillis = jvmUptimeMillis;
+            this.phases = phases;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An {@code ObservableList} backed by an {@code ArrayList}, whose listeners can be notified of many changes to it as
+ * a single change.
+ * <p>
+ * Changes made while a {@link Batch} is open are applied at once, but their notifications are held back and combined,
+ * so that each listener is called once, with every change, when the batch is closed. Batches may be nested, in which
+ * case only closing the outermost one notifies the listeners.
+ */
+public class BatchableObservableList<E> extends ModifiableObservableListBase<E> implements RandomAccess {
+
+    private final List<E> elements = new ArrayList<>();
+
+    /**
+     * Holds back the notifications of changes to this list until the returned {@code Batch} is closed.
+     */
+    public Batch startBatch() {
+        beginChange();
+        return this::endChange;
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        elements.add(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        return elements.set(index, element);
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        return elements.remove(index);
+    }
+
+    /**
+     * Inserts {@code toAdd} at {@code index} as a single change, shifting the later elements only once.
+     */
+    @Override
+    public boolean addAll(int index, Collection<? extends E> toAdd) {
+        Objects.checkIndex(index, size() + 1);
+        if (toAdd.isEmpty()) {
+            return false;
+        }
+        beginChange();
+        elements.addAll(index, toAdd);
+        modCount++;
+        nextAdd(index, index + toAdd.size());
+        endChange();
+        return true;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> toAdd) {
+        return addAll(size(), toAdd);
+    }
+
+    /**
+     * Removes the elements from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) as a single change,
+     * shifting the later elements only once.
+     */
+    @Override
+    public void remove(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size());
+        if (fromIndex == toIndex) {
+            return;
+        }
+        beginChange();
+        List<E> range = elements.subList(fromIndex, toIndex);
+        List<E> removed = new ArrayList<>(range);
+        range.clear();
+        modCount++;
+        nextRemove(fromIndex, removed);
+        endChange();
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        remove(fromIndex, toIndex);
+    }
+
+    @Override
+    public void clear() {
+        remove(0, size());
+    }
+
+    /**
+     * Removes every element equal to an element of {@code toRemove} as a single change, in one pass over the list.
+     */
+    @Override
+    public boolean removeAll(Collection<?> toRemove) {
+        requireNonNull(toRemove);
+        Set<?> removable = toRemove instanceof Set<?> set ? set : new HashSet<>(toRemove);
+        beginChange();
+        int keptCount = 0;
+        for (int i = 0; i < elements.size(); i++) {
+            E element = elements.get(i);
+            if (removable.contains(element)) {
+                // The kept elements end before keptCount, so this is where the element was removed from
+                nextRemove(keptCount, element);
+            } else {
+                elements.set(keptCount++, element);
+            }
+        }
+        boolean isChanged = keptCount < elements.size();
+        if (isChanged) {
+            elements.subList(keptCount, elements.size()).clear();
+            modCount++;
+        }
+        endChange();
+        return isChanged;
+    }
+
+    /**
+     * A batch of changes to a list, whose listeners are notified of all of them when it is closed.
+     */
+    @FunctionalInterface
+    public interface Batch extends AutoCloseable {
+        /**
+         * Ends the batch, and notifies the listeners of the changes made during it if it is the outermost batch.
+         */
+        @Override
+        void close();
+    }
+}
@@ -4,7 +4,10 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Stream;
 
 /**
@@ -12,6 +15,9 @@ import java.util.stream.Stream;
  */
 public class CollectionUtil {
 
+    /** The largest set that {@link #toCompactSet(Collection)} stores in a plain array. */
+    public static final int MAX_ARRAY_SET_SIZE = 8;
+
     /** @see #requireAllNonNull(Collection) */
     public static void requireAllNonNull(Object... items) {
         requireNonNull(items);
@@ -32,4 +38,24 @@ public class CollectionUtil {
     public static boolean isAnyNonNull(Object... items) {
         return items != null && Arrays.stream(items).anyMatch(Objects::nonNull);
     }
+
+    /**
+     * Returns an immutable set of the distinct elements of {@code items}, using as little memory as possible:
+     * a shared empty set, or a plain array of at most {@link #MAX_ARRAY_SET_SIZE} elements.
+     * Larger sets fall back to a hash set. The set iterates in the same order as {@code items}.
+     * Throws NullPointerException if {@code items} or any element of {@code items} is null.
+     */
+    public static <T> Set<T> toCompactSet(Collection<? extends T> items) {
+        requireAllNonNull(items);
+        Collection<? extends T> elements = items instanceof Set ? items : new LinkedHashSet<>(items);
+
+        if (elements.isEmpty()) {
+            @SuppressWarnings("unchecked")
+            Set<T> empty = (Set<T>) ArraySet.EMPTY;
+            return empty;
+        } else if (elements.size() <= MAX_ARRAY_SET_SIZE) {
+            return new ArraySet<>(elements.toArray());
+        }
+        return Collections.unmodifiableSet(new LinkedHashSet<>(elements));
+    }
 }
@@ -1,17 +1,39 @@
 package seedu.address.commons.util;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    /** The compression level at which files are written without being compressed. */
+    public static final int NO_COMPRESSION = Deflater.NO_COMPRESSION;
+    /** The highest compression level, which writes the smallest files at the cost of the most time. */
+    public static final int MAX_COMPRESSION_LEVEL = Deflater.BEST_COMPRESSION;
+    /** The extension appended to the name of a file to name its backup. */
+    public static final String BACKUP_FILE_EXTENSION = ".bak";
+    public static final String MESSAGE_COMPRESSION_LEVEL_CONSTRAINTS =
+            "The compression level should be between " + NO_COMPRESSION + " and " + MAX_COMPRESSION_LEVEL;
+
     private static final String CHARSET = "UTF-8";
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int GZIP_MAGIC_SIZE = 2;
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -54,6 +76,17 @@ public class FileUtil {
         Files.createFile(file);
     }
 
+    /**
+     * Copies {@code file}, if it exists, to a file next to it whose name is its name followed by
+     * {@link #BACKUP_FILE_EXTENSION}, replacing any earlier backup.
+     */
+    public static void backUpIfExists(Path file) throws IOException {
+        if (Files.exists(file)) {
+            Files.copy(file, file.resolveSibling(file.getFileName() + BACKUP_FILE_EXTENSION),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.COPY_ATTRIBUTES);
+        }
+    }
+
     /**
      * Creates parent directories of file if it has a parent directory
      */
@@ -66,10 +99,66 @@ public class FileUtil {
     }
 
     /**
-     * Assumes file exists
+     * Assumes file exists.
+     * A file compressed in the gzip format is decompressed as it is read.
      */
     public static String readFromFile(Path file) throws IOException {
-        return new String(Files.readAllBytes(file), CHARSET);
+        try (InputStream inputStream = openInputStream(file)) {
+            return new String(inputStream.readAllBytes(), CHARSET);
+        }
+    }
+
+    /**
+     * Returns a buffered stream that reads the contents of {@code file}, decompressing them if the file is compressed
+     * in the gzip format, which is detected from its first bytes. Closing the stream closes the file.
+     *
+     * @throws IOException if the file could not be opened, or its gzip header is corrupted.
+     */
+    public static InputStream openInputStream(Path file) throws IOException {
+        requireNonNull(file);
+
+        InputStream inputStream = new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE);
+        try {
+            inputStream.mark(GZIP_MAGIC_SIZE);
+            int firstByte = inputStream.read();
+            int secondByte = inputStream.read();
+            inputStream.reset();
+            boolean isCompressed = firstByte == (GZIPInputStream.GZIP_MAGIC & 0xff)
+                    && secondByte == (GZIPInputStream.GZIP_MAGIC >>> 8);
+            return isCompressed ? new GZIPInputStream(inputStream, BUFFER_SIZE) : inputStream;
+        } catch (IOException e) {
+            inputStream.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns a stream that compresses what is written to it in the gzip format at {@code compressionLevel} and
+     * writes it to {@code outputStream}, or {@code outputStream} itself if {@code compressionLevel} is
+     * {@link #NO_COMPRESSION}. {@link #finishCompressing(OutputStream)} must be called after the last write.
+     *
+     * @throws IOException if the gzip header could not be written.
+     */
+    public static OutputStream compress(OutputStream outputStream, int compressionLevel) throws IOException {
+        requireNonNull(outputStream);
+        checkArgument(compressionLevel >= NO_COMPRESSION && compressionLevel <= MAX_COMPRESSION_LEVEL,
+                MESSAGE_COMPRESSION_LEVEL_CONSTRAINTS);
+
+        if (compressionLevel == NO_COMPRESSION) {
+            return outputStream;
+        }
+        return new LevelledGzipOutputStream(outputStream, compressionLevel);
+    }
+
+    /**
+     * Writes the rest of the compressed data of a stream returned by {@link #compress(OutputStream, int)}, without
+     * closing the stream it writes to, and flushes it.
+     */
+    public static void finishCompressing(OutputStream outputStream) throws IOException {
+        if (outputStream instanceof DeflaterOutputStream deflaterOutputStream) {
+            deflaterOutputStream.finish();
+        }
+        outputStream.flush();
     }
 
     /**
@@ -80,4 +169,14 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * A {@code GZIPOutputStream} that compresses at a given level, rather than the default one.
+     */
+    private static class LevelledGzipOutputStream extends GZIPOutputStream {
+        LevelledGzipOutputStream(OutputStream outputStream, int compressionLevel) throws IOException {
+            super(outputStream, BUFFER_SIZE);
+            def.setLevel(compressionLevel);
+        }
+    }
+
 }
@@ -0,0 +1,69 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Shares a single instance of an immutable value class between all values created from the same string.
+ * Intended for low-cardinality values, such as tags and blood types, that are repeated across many persons.
+ * <p>
+ * Values are created with the given factory, so invalid strings are rejected exactly as the factory rejects them,
+ * and are never cached. Once {@code maxSize} values are cached, further values are created without being cached,
+ * so that unexpectedly high-cardinality input cannot grow the cache without bound.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @param <T> the type of the interned values, which must be immutable.
+ */
+public class Interner<T> {
+
+    public static final int DEFAULT_MAX_SIZE = 10_000;
+
+    private final Map<String, T> instances = new ConcurrentHashMap<>();
+    private final Function<String, T> factory;
+    private final int maxSize;
+
+    /**
+     * Creates an {@code Interner} that creates values with {@code factory} and caches at most
+     * {@link #DEFAULT_MAX_SIZE} of them.
+     */
+    public Interner(Function<String, T> factory) {
+        this(factory, DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Creates an {@code Interner} that creates values with {@code factory} and caches at most {@code maxSize} of them.
+     */
+    public Interner(Function<String, T> factory, int maxSize) {
+        requireNonNull(factory);
+        AppUtil.checkArgument(maxSize >= 0, "maxSize must not be negative");
+        this.factory = factory;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the value created from {@code value}, reusing a previously created instance if there is one.
+     * Exceptions thrown by the factory are propagated to the caller.
+     */
+    public T intern(String value) {
+        requireNonNull(value);
+        T instance = instances.get(value);
+        if (instance != null) {
+            return instance;
+        }
+        if (instances.size() >= maxSize) {
+            return factory.apply(value);
+        }
+        return instances.computeIfAbsent(value, factory);
+    }
+
+    /**
+     * Returns the number of values currently cached.
+     */
+    public int size() {
+        return instances.size();
+    }
+}
@@ -0,0 +1,287 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * An immutable list that shares its structure with the lists it is derived from.
+ * The elements are kept in a balanced binary tree ordered by position, so reading, replacing, inserting or removing
+ * elements anywhere in the list takes O(log n) time, and only the O(log n) nodes on the paths to the changed
+ * positions are copied. A list and every list derived from it can therefore be kept at the same time for little more
+ * memory than one of them.
+ * Every method inherited from {@code List} that would modify the list throws {@code UnsupportedOperationException}.
+ */
+public final class PersistentList<E> extends AbstractList<E> implements RandomAccess {
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<E> root;
+
+    private PersistentList(Node<E> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    /**
+     * Returns a list of the elements of {@code elements}, in iteration order.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> copyOf(Collection<? extends E> elements) {
+        requireNonNull(elements);
+        if (elements instanceof PersistentList) {
+            return (PersistentList<E>) elements;
+        }
+        Object[] array = elements.toArray();
+        return array.length == 0 ? empty() : new PersistentList<>(build(array, 0, array.length));
+    }
+
+    @Override
+    public int size() {
+        return sizeOf(root);
+    }
+
+    @Override
+    public E get(int index) {
+        Objects.checkIndex(index, size());
+        Node<E> node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node.element;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * Returns this list with the element at {@code index} replaced by {@code element}.
+     */
+    public PersistentList<E> with(int index, E element) {
+        Objects.checkIndex(index, size());
+        return new PersistentList<>(withElement(root, index, element));
+    }
+
+    /**
+     * Returns this list with {@code element} inserted at {@code index}.
+     */
+    public PersistentList<E> plus(int index, E element) {
+        return replace(index, index, List.of(element));
+    }
+
+    /**
+     * Returns this list without the element at {@code index}.
+     */
+    public PersistentList<E> minus(int index) {
+        Objects.checkIndex(index, size());
+        return replace(index, index + 1, List.of());
+    }
+
+    /**
+     * Returns this list with the elements from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) replaced
+     * by the elements of {@code elements}, in iteration order.
+     */
+    public PersistentList<E> replace(int fromIndex, int toIndex, Collection<? extends E> elements) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size());
+        requireNonNull(elements);
+        Split<E> head = split(root, fromIndex);
+        Split<E> tail = split(head.right, toIndex - fromIndex);
+        PersistentList<E> middle = copyOf(elements);
+        return new PersistentList<>(concat(concat(head.left, middle.root), tail.right));
+    }
+
+    /**
+     * Returns the elements from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) as a
+     * {@code PersistentList}, which shares its structure with this list.
+     */
+    @Override
+    public PersistentList<E> subList(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size());
+        Split<E> head = split(root, fromIndex);
+        return new PersistentList<>(split(head.right, toIndex - fromIndex).left);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            // The nodes whose element and right subtree are still to be visited, innermost first
+            private final Deque<Node<E>> pending = new ArrayDeque<>();
+
+            {
+                pushLeftSpine(root);
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !pending.isEmpty();
+            }
+
+            @Override
+            public E next() {
+                if (pending.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                Node<E> node = pending.pop();
+                pushLeftSpine(node.right);
+                return node.element;
+            }
+
+            private void pushLeftSpine(Node<E> node) {
+                for (Node<E> current = node; current != null; current = current.left) {
+                    pending.push(current);
+                }
+            }
+        };
+    }
+
+    //// tree operations, which treat null as the empty tree
+
+    private static int sizeOf(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int heightOf(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> Node<E> build(Object[] elements, int from, int to) {
+        if (from == to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        return new Node<>(build(elements, from, middle), (E) elements[middle], build(elements, middle + 1, to));
+    }
+
+    private static <E> Node<E> withElement(Node<E> node, int index, E element) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return new Node<>(withElement(node.left, index, element), node.element, node.right);
+        } else if (index == leftSize) {
+            return new Node<>(node.left, element, node.right);
+        } else {
+            return new Node<>(node.left, node.element, withElement(node.right, index - leftSize - 1, element));
+        }
+    }
+
+    /**
+     * Returns a tree of the elements of {@code left}, then {@code element}, then the elements of {@code right},
+     * whose heights may differ by at most 3.
+     */
+    private static <E> Node<E> balance(Node<E> left, E element, Node<E> right) {
+        int leftHeight = heightOf(left);
+        int rightHeight = heightOf(right);
+        if (leftHeight > rightHeight + 2) {
+            if (heightOf(left.left) >= heightOf(left.right)) {
+                return new Node<>(left.left, left.element, new Node<>(left.right, element, right));
+            }
+            return new Node<>(new Node<>(left.left, left.element, left.right.left), left.right.element,
+                    new Node<>(left.right.right, element, right));
+        }
+        if (rightHeight > leftHeight + 2) {
+            if (heightOf(right.right) >= heightOf(right.left)) {
+                return new Node<>(new Node<>(left, element, right.left), right.element, right.right);
+            }
+            return new Node<>(new Node<>(left, element, right.left.left), right.left.element,
+                    new Node<>(right.left.right, right.element, right.right));
+        }
+        return new Node<>(left, element, right);
+    }
+
+    /**
+     * Returns a tree of the elements of {@code left}, then {@code element}, then the elements of {@code right}, in
+     * O(difference in height) time.
+     */
+    private static <E> Node<E> join(Node<E> left, E element, Node<E> right) {
+        int leftHeight = heightOf(left);
+        int rightHeight = heightOf(right);
+        if (leftHeight > rightHeight + 2) {
+            return balance(left.left, left.element, join(left.right, element, right));
+        }
+        if (rightHeight > leftHeight + 2) {
+            return balance(join(left, element, right.left), right.element, right.right);
+        }
+        return new Node<>(left, element, right);
+    }
+
+    /**
+     * Returns a tree of the elements of {@code left}, then the elements of {@code right}.
+     */
+    private static <E> Node<E> concat(Node<E> left, Node<E> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        Split<E> first = split(right, 1);
+        return join(left, first.left.element, first.right);
+    }
+
+    /**
+     * Splits {@code node} into the tree of its first {@code index} elements and the tree of the rest.
+     */
+    private static <E> Split<E> split(Node<E> node, int index) {
+        if (node == null) {
+            return new Split<>(null, null);
+        }
+        int leftSize = sizeOf(node.left);
+        if (index <= leftSize) {
+            Split<E> leftSplit = split(node.left, index);
+            return new Split<>(leftSplit.left, join(leftSplit.right, node.element, node.right));
+        }
+        Split<E> rightSplit = split(node.right, index - leftSize - 1);
+        return new Split<>(join(node.left, node.element, rightSplit.left), rightSplit.right);
+    }
+
+    /**
+     * A node of the tree, which is never modified once created.
+     */
+    private static final class Node<E> {
+        private final Node<E> left;
+        private final E element;
+        private final Node<E> right;
+        private final int size;
+        private final int height;
+
+        Node(Node<E> left, E element, Node<E> right) {
+            this.left = left;
+            this.element = element;
+            this.right = right;
+            this.size = sizeOf(left) + sizeOf(right) + 1;
+            this.height = Math.max(heightOf(left), heightOf(right)) + 1;
+        }
+    }
+
+    /**
+     * The two trees that a tree is split into.
+     */
+    private static final class Split<E> {
+        private final Node<E> left;
+        private final Node<E> right;
+
+        Split(Node<E> left, Node<E> right) {
+            this.left = left;
+            this.right = right;
+        }
+    }
+}
@@ -1,7 +1,12 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
 
+import javafx.beans.property.ReadOnlyBooleanProperty;
 import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -26,6 +31,23 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Marks the address book as being loaded into the model in the background. Until {@link #finishLoading()} is
+     * called, commands that need the address book are queued instead of executed, and the address book is not saved.
+     */
+    void startLoading();
+
+    /**
+     * Marks the address book as loaded, and executes the commands queued while it was loading, in the order in which
+     * they were entered.
+     *
+     * @return the feedback of each queued command, or the message of the error that it failed with.
+     */
+    List<String> finishLoading();
+
+    /** Returns true while the address book is being loaded into the model. */
+    ReadOnlyBooleanProperty loadingProperty();
+
     /**
      * Returns the AddressBook.
      *
@@ -36,6 +58,26 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
+    /**
+     * Updates the filter of the filtered person list to filter by the given {@code predicate}.
+     *
+     * @see seedu.address.model.Model#updateFilteredPersonList(Predicate)
+     */
+    void updateFilteredPersonList(Predicate<Person> predicate);
+
+    /**
+     * Returns the predicate that the filtered person list is currently filtered by.
+     */
+    Predicate<Person> getFilteredPersonListPredicate();
+
+    /**
+     * Returns the identity numbers of at most {@code limit} persons whose name or identity number contains a word
+     * starting with any of {@code prefixes}. This may be called from any thread.
+     *
+     * @see seedu.address.model.Model#findPersonsByKeywordPrefixes(Collection, int)
+     */
+    Set<IdentityNumber> findPersonsByKeywordPrefixes(Collection<String> prefixes, int limit);
+
     /** Returns an unmodifiable view of the list of ALL upcoming appointments */
     ObservableList<Appointment> getUpcomingAppointmentList();
 
@@ -3,8 +3,15 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
 import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -30,40 +37,140 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    public static final String MESSAGE_COMMAND_QUEUED =
+            "The data is still loading. This command will be executed once it has loaded.";
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final ReadOnlyBooleanWrapper loading = new ReadOnlyBooleanWrapper(false);
+    private final List<Command> queuedCommands = new ArrayList<>();
+
+    // Version of the model's address book when it was last handed to storage to be saved, or loaded from storage
+    private long savedVersion;
+    // Version of the model's address book when it was loaded from storage
+    private long loadedVersion;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * The model's address book is taken to hold the data in {@code storage}.
      */
     public LogicManager(Model model, Storage storage) {
         this.model = model;
         this.storage = storage;
         this.addressBookParser = new AddressBookParser();
+        this.savedVersion = model.getAddressBook().getVersion();
+        this.loadedVersion = savedVersion;
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        if (loading.get() && command.requiresAddressBook()) {
+            logger.info("----------------[QUEUED][address book loading]");
+            queuedCommands.add(command);
+            return new CommandResult(MESSAGE_COMMAND_QUEUED);
+        }
+        return executeCommand(command);
+    }
 
+    private CommandResult executeCommand(Command command) throws CommandException {
+        CommandResult commandResult;
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            commandResult = command.execute(model);
+        } finally {
+            // Changes left by a failed command can be undone as well
+            if (!loading.get()) {
+                model.commitAddressBook();
+            }
         }
 
+        if (saveAddressBookIfChanged()) {
+            return commandResult.withAddressBookSaved();
+        }
         return commandResult;
     }
 
+    @Override
+    public void startLoading() {
+        loading.set(true);
+    }
+
+    @Override
+    public List<String> finishLoading() {
+        // The loaded address book holds the data in storage
+        savedVersion = model.getAddressBook().getVersion();
+        loadedVersion = savedVersion;
+        model.resetAddressBookHistory();
+        loading.set(false);
+
+        List<String> feedback = new ArrayList<>();
+        for (Command command : queuedCommands) {
+            try {
+                feedback.add(executeCommand(command).getFeedbackToUser());
+            } catch (CommandException e) {
+                feedback.add(e.getMessage());
+            }
+        }
+        queuedCommands.clear();
+        return feedback;
+    }
+
+    @Override
+    public ReadOnlyBooleanProperty loadingProperty() {
+        return loading.getReadOnlyProperty();
+    }
+
+    /**
+     * Saves the model's address book if it changed since it was last saved.
+     * Changes left unsaved by a failed command or a failed save are saved along with the next command, including
+     * saves that storage accepted but then failed to write in the background.
+     *
+     * @return true if the address book was saved.
+     */
+    private boolean saveAddressBookIfChanged() throws CommandException {
+        if (loading.get()) {
+            logger.info("----------------[SAVE SKIPPED][address book loading]");
+            return false;
+        }
+
+        // A save that storage accepted, but then failed to write, is handed to it again. The pending check comes
+        // first, so that a write finishing in between is not mistaken for a failed one.
+        if (!storage.isAddressBookWritePending()) {
+            savedVersion = storage.getWrittenAddressBookVersion().orElse(loadedVersion);
+        }
+
+        ReadOnlyAddressBook addressBook = model.getAddressBook();
+        long version = addressBook.getVersion();
+        if (version == savedVersion) {
+            logger.info("----------------[SAVE SKIPPED][address book unchanged]");
+            return false;
+        }
+
+        try {
+            storage.saveAddressBook(addressBook);
+        } catch (IOException ioe) {
+            throw new CommandException(getSaveFailureMessage(ioe), ioe);
+        }
+        savedVersion = version;
+        logger.info("----------------[SAVED][address book version " + version + "]");
+        return true;
+    }
+
+    /**
+     * Returns the message shown to the user when the address book could not be saved because of {@code e}.
+     */
+    public static String getSaveFailureMessage(IOException e) {
+        if (e instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, e.getMessage());
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -74,6 +181,21 @@ public class LogicManager implements Logic {
         return model.getFilteredPersonList();
     }
 
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate) {
+        model.updateFilteredPersonList(predicate);
+    }
+
+    @Override
+    public Predicate<Person> getFilteredPersonListPredicate() {
+        return model.getFilteredPersonListPredicate();
+    }
+
+    @Override
+    public Set<IdentityNumber> findPersonsByKeywordPrefixes(Collection<String> prefixes, int limit) {
+        return model.findPersonsByKeywordPrefixes(prefixes, limit);
+    }
+
     @Override
     public ObservableList<Appointment> getUpcomingAppointmentList() {
         return model.getUpcomingAppointmentList();
@@ -15,7 +15,7 @@ public class ClearCommand extends Command {
     public static final String CONFIRMATION_ARGUMENT = "CONFIRM";
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Clears all data in HealthNote. \n"
             + "To confirm, type '" + COMMAND_WORD + " " + CONFIRMATION_ARGUMENT + "'. "
-            + "This action cannot be undone. ";
+            + "This action can only be undone before HealthNote is closed. ";
 
     @Override
     public CommandResult execute(Model model) {
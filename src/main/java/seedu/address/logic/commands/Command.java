@@ -17,4 +17,12 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if the command reads or changes the address book, and so cannot be executed until the address
+     * book has been loaded.
+     */
+    public boolean requiresAddressBook() {
+        return true;
+    }
+
 }
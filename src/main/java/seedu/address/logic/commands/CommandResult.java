@@ -16,15 +16,22 @@ public class CommandResult {
     private final Optional<String> themePath;
     private final boolean isHelp;
     private final boolean isExit;
+    private final boolean isAddressBookSaved;
 
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      */
     public CommandResult(String feedbackToUser, boolean showHelp, boolean exit, String themePath) {
+        this(feedbackToUser, showHelp, exit, Optional.ofNullable(themePath), false);
+    }
+
+    private CommandResult(String feedbackToUser, boolean isHelp, boolean isExit, Optional<String> themePath,
+            boolean isAddressBookSaved) {
         this.feedbackToUser = requireNonNull(feedbackToUser);
-        this.isHelp = showHelp;
-        this.isExit = exit;
-        this.themePath = Optional.ofNullable(themePath);
+        this.isHelp = isHelp;
+        this.isExit = isExit;
+        this.themePath = themePath;
+        this.isAddressBookSaved = isAddressBookSaved;
     }
 
     /**
@@ -59,6 +66,21 @@ public class CommandResult {
         return themePath;
     }
 
+    /**
+     * Returns true if the address book was saved after the command was executed, because the command changed it or
+     * a change left unsaved by an earlier command had not been saved yet.
+     */
+    public boolean isAddressBookSaved() {
+        return isAddressBookSaved;
+    }
+
+    /**
+     * Returns a copy of this result that records that the address book was saved after the command was executed.
+     */
+    public CommandResult withAddressBookSaved() {
+        return new CommandResult(feedbackToUser, isHelp, isExit, themePath, true);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -74,6 +96,7 @@ public class CommandResult {
         return feedbackToUser.equals(otherCommandResult.feedbackToUser)
                 && isHelp == otherCommandResult.isHelp
                 && isExit == otherCommandResult.isExit
+                && isAddressBookSaved == otherCommandResult.isAddressBookSaved
                 && Objects.equals(themePath, otherCommandResult.themePath);
     }
 
@@ -84,11 +107,12 @@ public class CommandResult {
                 .add("isHelp", isHelp)
                 .add("isExit", isExit)
                 .add("themePath", themePath)
+                .add("isAddressBookSaved", isAddressBookSaved)
                 .toString();
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(feedbackToUser, themePath, isHelp, isExit);
+        return Objects.hash(feedbackToUser, themePath, isHelp, isExit, isAddressBookSaved);
     }
 }
@@ -1,15 +1,29 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ALLERGY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_BLOOD_TYPE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GENDER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MEDICINE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
+import seedu.address.model.person.IdentityNumber;
 import seedu.address.model.person.NameOrIdContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonHasAttributesPredicate;
 
 /**
- * Finds and lists all persons in address book whose name or id contains any of the argument keywords.
- * Keyword matching is case-insensitive.
+ * Finds and lists all persons in address book whose name or id contains any of the argument keywords,
+ * and who have all of the given allergies, medicines, tags, blood type and gender.
+ * Keyword and attribute matching is case-insensitive.
  */
 public class FindCommand extends Command {
 
@@ -17,23 +31,69 @@ public class FindCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names or id contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie A1234567E";
+            + "Persons can also be narrowed down to those having all of the given attribute values.\n"
+            + "Parameters: [KEYWORD]... "
+            + "[" + PREFIX_ALLERGY + "ALLERGY]... "
+            + "[" + PREFIX_MEDICINE + "MEDICINE]... "
+            + "[" + PREFIX_TAG + "TAG]... "
+            + "[" + PREFIX_BLOOD_TYPE + "BLOOD_TYPE] "
+            + "[" + PREFIX_GENDER + "GENDER]\n"
+            + "Example: " + COMMAND_WORD + " alice bob charlie A1234567E\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_MEDICINE + "Warfarin " + PREFIX_ALLERGY + "Penicillin";
 
     private final NameOrIdContainsKeywordsPredicate predicate;
+    private final PersonHasAttributesPredicate attributesPredicate;
 
     public FindCommand(NameOrIdContainsKeywordsPredicate predicate) {
+        this(predicate, new PersonHasAttributesPredicate(Collections.emptyMap()));
+    }
+
+    /**
+     * Creates a FindCommand to find the persons matching {@code predicate} and {@code attributesPredicate}.
+     * If {@code attributesPredicate} has values to test for, {@code predicate} is only applied if it has keywords.
+     */
+    public FindCommand(NameOrIdContainsKeywordsPredicate predicate, PersonHasAttributesPredicate attributesPredicate) {
         this.predicate = predicate;
+        this.attributesPredicate = attributesPredicate;
     }
 
+    /**
+     * Shows the persons found in the model's keyword and attribute indexes. The indexes are queried again whenever
+     * the persons change, so the list keeps showing exactly the persons that match, without testing every person.
+     */
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        model.showFoundPersons(() -> findMatchingPersons(model), getPredicate());
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
 
+    /**
+     * Returns the identity numbers of the persons in {@code model} that match, looked up in its indexes.
+     */
+    private Set<IdentityNumber> findMatchingPersons(Model model) {
+        if (attributesPredicate.isEmpty()) {
+            return model.findPersonsByKeywords(predicate.getKeywords());
+        }
+        Set<IdentityNumber> matchingIds =
+                new HashSet<>(model.findPersonsByAttributes(attributesPredicate.getCriteria()));
+        if (!predicate.getKeywords().isEmpty()) {
+            matchingIds.retainAll(model.findPersonsByKeywords(predicate.getKeywords()));
+        }
+        return matchingIds;
+    }
+
+    /**
+     * Returns the predicate that the persons shown by this command match.
+     */
+    private Predicate<Person> getPredicate() {
+        if (attributesPredicate.isEmpty()) {
+            return predicate;
+        }
+        return predicate.getKeywords().isEmpty() ? attributesPredicate : predicate.and(attributesPredicate);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -46,13 +106,15 @@ public class FindCommand extends Command {
         }
 
         FindCommand otherFindCommand = (FindCommand) other;
-        return predicate.equals(otherFindCommand.predicate);
+        return predicate.equals(otherFindCommand.predicate)
+                && attributesPredicate.equals(otherFindCommand.attributesPredicate);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("predicate", predicate)
+                .add("attributesPredicate", attributesPredicate)
                 .toString();
     }
 }
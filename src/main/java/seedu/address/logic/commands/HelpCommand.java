@@ -42,6 +42,11 @@ public class HelpCommand extends Command {
         }
     }
 
+    @Override
+    public boolean requiresAddressBook() {
+        return false;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -56,6 +56,11 @@ public class ThemeCommand extends Command {
                 || theme.equals("blue");
     }
 
+    @Override
+    public boolean requiresAddressBook() {
+        return false;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
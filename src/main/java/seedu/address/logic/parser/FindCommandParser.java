@@ -1,10 +1,23 @@
 package seedu.address.logic.parser;
 
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ALLERGY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_BLOOD_TYPE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GENDER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MEDICINE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.NameOrIdContainsKeywordsPredicate;
+import seedu.address.model.person.PersonAttribute;
+import seedu.address.model.person.PersonHasAttributesPredicate;
 
 /**
  * Parses input arguments and creates a new FindCommand object
@@ -13,21 +26,63 @@ public class FindCommandParser implements Parser<FindCommand> {
 
     public static final String MESSAGE_INVALID_FIND = "Error! Please provide at least one keyword \n%1$s";
 
+    private static final Map<PersonAttribute, Prefix> ATTRIBUTE_PREFIXES = new EnumMap<>(Map.of(
+            PersonAttribute.ALLERGY, PREFIX_ALLERGY,
+            PersonAttribute.MEDICINE, PREFIX_MEDICINE,
+            PersonAttribute.TAG, PREFIX_TAG,
+            PersonAttribute.BLOOD_TYPE, PREFIX_BLOOD_TYPE,
+            PersonAttribute.GENDER, PREFIX_GENDER));
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns a FindCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindCommand parse(String args) throws ParseException {
-        String trimmedArgs = args.trim();
-        if (trimmedArgs.isEmpty()) {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args,
+                ATTRIBUTE_PREFIXES.values().toArray(new Prefix[0]));
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_BLOOD_TYPE, PREFIX_GENDER);
+
+        Map<PersonAttribute, List<String>> criteria = new EnumMap<>(PersonAttribute.class);
+        for (Map.Entry<PersonAttribute, Prefix> attributePrefix : ATTRIBUTE_PREFIXES.entrySet()) {
+            List<String> values = parseAttributeValues(attributePrefix.getKey(),
+                    argMultimap.getAllValues(attributePrefix.getValue()));
+            if (!values.isEmpty()) {
+                criteria.put(attributePrefix.getKey(), values);
+            }
+        }
+
+        String trimmedPreamble = argMultimap.getPreamble().trim();
+        if (trimmedPreamble.isEmpty() && criteria.isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_FIND, FindCommand.MESSAGE_USAGE));
         }
 
-        String[] nameKeywords = trimmedArgs.split("\\s+");
+        List<String> nameKeywords = trimmedPreamble.isEmpty()
+                ? Collections.emptyList()
+                : Arrays.asList(trimmedPreamble.split("\\s+"));
 
-        return new FindCommand(new NameOrIdContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+        if (criteria.isEmpty()) {
+            return new FindCommand(new NameOrIdContainsKeywordsPredicate(nameKeywords));
+        }
+        return new FindCommand(new NameOrIdContainsKeywordsPredicate(nameKeywords),
+                new PersonHasAttributesPredicate(criteria));
     }
 
+    /**
+     * Trims and validates each of {@code values} as a value of {@code attribute}.
+     * @throws ParseException if any of the values is invalid.
+     */
+    private static List<String> parseAttributeValues(PersonAttribute attribute, List<String> values)
+            throws ParseException {
+        List<String> parsedValues = new ArrayList<>();
+        for (String value : values) {
+            String trimmedValue = value.trim();
+            if (!attribute.isValidValue(trimmedValue)) {
+                throw new ParseException(attribute.getMessageConstraints());
+            }
+            parsedValues.add(trimmedValue);
+        }
+        return parsedValues;
+    }
 }
@@ -171,7 +171,7 @@ public class ParserUtil {
         if (!Allergy.isValidAllergyName(trimmedAllergy)) {
             throw new ParseException(Allergy.MESSAGE_CONSTRAINTS);
         }
-        return new Allergy(trimmedAllergy);
+        return Allergy.of(trimmedAllergy);
     }
 
     /**
@@ -198,7 +198,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -225,7 +225,7 @@ public class ParserUtil {
         if (!Medicine.isValidMedicineName(trimmedMedicine)) {
             throw new ParseException(Medicine.MESSAGE_CONSTRAINTS);
         }
-        return new Medicine(trimmedMedicine);
+        return Medicine.of(trimmedMedicine);
     }
 
     /**
@@ -252,7 +252,7 @@ public class ParserUtil {
         if (!BloodType.isValidBloodType(trimmedBloodType)) {
             throw new ParseException(BloodType.MESSAGE_CONSTRAINTS);
         }
-        return new BloodType(trimmedBloodType);
+        return BloodType.of(trimmedBloodType);
     }
 
     /**
@@ -267,7 +267,7 @@ public class ParserUtil {
         if (!AlcoholicRecord.isValidAlcoholicRecord(trimmedAlcoholicRecord)) {
             throw new ParseException(AlcoholicRecord.MESSAGE_CONSTRAINTS);
         }
-        return new AlcoholicRecord(trimmedAlcoholicRecord);
+        return AlcoholicRecord.of(trimmedAlcoholicRecord);
     }
 
     /**
@@ -282,7 +282,7 @@ public class ParserUtil {
         if (!Gender.isValidGender(trimmedGender)) {
             throw new ParseException(Gender.MESSAGE_CONSTRAINTS);
         }
-        return new Gender(trimmedGender);
+        return Gender.of(trimmedGender);
     }
 
     /**
@@ -295,7 +295,7 @@ public class ParserUtil {
         if (!SmokingRecord.isValidSmokingRecord(trimmedSmokingRecord)) {
             throw new ParseException(SmokingRecord.MESSAGE_CONSTRAINTS);
         }
-        return new SmokingRecord(trimmedSmokingRecord);
+        return SmokingRecord.of(trimmedSmokingRecord);
     }
 
     /**
@@ -2,14 +2,26 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.BatchableObservableList.Batch;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.appointment.Appointment;
 import seedu.address.model.appointment.AppointmentList;
+import seedu.address.model.person.IdentityNumber;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonAttribute;
+import seedu.address.model.person.PersonAttributeIndex;
 import seedu.address.model.person.UniquePersonList;
 
 /**
@@ -18,9 +30,22 @@ import seedu.address.model.person.UniquePersonList;
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
+    // Last version given to any address book, so that no two address books share a version unless one is a copy
+    private static final AtomicLong LAST_VERSION = new AtomicLong();
+
     private final UniquePersonList persons;
     private final AppointmentList appointments;
 
+    // Persons by allergy, medicine, tag, blood type and gender, kept in sync with the person list
+    private final PersonAttributeIndex attributeIndex = new PersonAttributeIndex();
+
+    // Immutable copies of the person and appointment lists, updated on every change to them
+    private PersistentList<Person> personSnapshot = PersistentList.empty();
+    private PersistentList<Appointment> appointmentSnapshot = PersistentList.empty();
+
+    // Updated on every change to the person or appointment list
+    private long version = LAST_VERSION.incrementAndGet();
+
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -31,16 +56,25 @@ public class AddressBook implements ReadOnlyAddressBook {
     {
         persons = new UniquePersonList();
         appointments = new AppointmentList();
+        persons.asUnmodifiableObservableList().addListener(this::updateAttributeIndex);
+        persons.asUnmodifiableObservableList().addListener(this::updateVersion);
+        appointments.asUnmodifiableObservableList().addListener(this::updateVersion);
+        persons.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change ->
+                personSnapshot = applyChange(personSnapshot, change));
+        appointments.asUnmodifiableObservableList().addListener((ListChangeListener<Appointment>) change ->
+                appointmentSnapshot = applyChange(appointmentSnapshot, change));
     }
 
     public AddressBook() {}
 
     /**
-     * Creates an AddressBook using the Persons in the {@code toBeCopied}
+     * Creates an AddressBook using the Persons in the {@code toBeCopied}.
+     * The copy has the same version as {@code toBeCopied} until either of them changes.
      */
     public AddressBook(ReadOnlyAddressBook toBeCopied) {
         this();
         resetData(toBeCopied);
+        version = toBeCopied.getVersion();
     }
 
     //// list overwrite operations
@@ -53,6 +87,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         this.persons.setPersons(persons);
     }
 
+    /**
+     * Replaces the persons from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) with {@code persons}.
+     * {@code persons} must not contain duplicate persons, or persons that are the same as those outside the range.
+     */
+    void setPersons(int fromIndex, int toIndex, List<Person> persons) {
+        this.persons.setPersons(fromIndex, toIndex, persons);
+    }
+
     /**
      * Replaces the contents of the appointment list with {@code appointments}.
      * {@code appointments} must not contain duplicate appointments.
@@ -61,6 +103,15 @@ public class AddressBook implements ReadOnlyAddressBook {
         this.appointments.setAppointments(appointments);
     }
 
+    /**
+     * Replaces the appointments from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) with
+     * {@code appointments}. {@code appointments} must not contain duplicate appointments, or appointments that are
+     * the same as those outside the range.
+     */
+    void setAppointments(int fromIndex, int toIndex, List<Appointment> appointments) {
+        this.appointments.setAppointments(fromIndex, toIndex, appointments);
+    }
+
     /**
      * Resets the existing data of this {@code AddressBook} with {@code newData}.
      */
@@ -81,6 +132,49 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Returns the person with the given {@code identityNumber}, if present in the address book.
+     */
+    public Optional<Person> getPerson(IdentityNumber identityNumber) {
+        requireNonNull(identityNumber);
+        return persons.getPerson(identityNumber);
+    }
+
+    /**
+     * Returns the persons in the address book with any of {@code identityNumbers}, in address book order.
+     */
+    public List<Person> getPersons(Collection<IdentityNumber> identityNumbers) {
+        requireNonNull(identityNumbers);
+        return persons.getPersons(identityNumbers);
+    }
+
+    /**
+     * Returns the identity numbers of the persons whose name or identity number contains any of {@code keywords},
+     * ignoring case.
+     */
+    public Set<IdentityNumber> findPersonsByKeywords(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return persons.findByKeywords(keywords);
+    }
+
+    /**
+     * Returns the identity numbers of at most {@code limit} persons whose name or identity number contains a word
+     * starting with any of {@code prefixes}, ignoring case. This may be called from any thread.
+     */
+    public Set<IdentityNumber> findPersonsByKeywordPrefixes(Collection<String> prefixes, int limit) {
+        requireNonNull(prefixes);
+        return persons.findByKeywordPrefixes(prefixes, limit);
+    }
+
+    /**
+     * Returns the identity numbers of the persons having every attribute value in {@code criteria}, ignoring case.
+     * {@code criteria} must not be empty.
+     */
+    public Set<IdentityNumber> findPersonsByAttributes(Map<PersonAttribute, List<String>> criteria) {
+        requireNonNull(criteria);
+        return attributeIndex.findAll(criteria);
+    }
+
     /**
      * Returns true if an appointment with the same patientId and time as {@code appointment}
      * exists in the address book.
@@ -90,6 +184,28 @@ public class AddressBook implements ReadOnlyAddressBook {
         return appointments.contains(appointment);
     }
 
+    /**
+     * Returns the appointments of the patient with the given {@code patientId}.
+     */
+    public List<Appointment> getPatientAppointments(IdentityNumber patientId) {
+        requireNonNull(patientId);
+        return appointments.getPatientAppointments(patientId);
+    }
+
+    /**
+     * Returns the appointments strictly before {@code time}, in chronological order.
+     */
+    public Collection<Appointment> getAppointmentsBefore(LocalDateTime time) {
+        return appointments.getAppointmentsBefore(time);
+    }
+
+    /**
+     * Returns the appointments strictly after {@code time}, in chronological order.
+     */
+    public Collection<Appointment> getAppointmentsAfter(LocalDateTime time) {
+        return appointments.getAppointmentsAfter(time);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
@@ -106,6 +222,23 @@ public class AddressBook implements ReadOnlyAddressBook {
         appointments.add(a);
     }
 
+    /**
+     * Adds {@code persons} to the address book, in order.
+     * None of the persons may already exist in the address book, or appear more than once in {@code persons}.
+     */
+    public void addPersons(List<Person> persons) {
+        this.persons.addAll(persons);
+    }
+
+    /**
+     * Adds {@code appointments} to the address book, in order.
+     * None of the appointments may already exist in the address book, or appear more than once in
+     * {@code appointments}.
+     */
+    public void addAppointments(List<Appointment> appointments) {
+        this.appointments.addAll(appointments);
+    }
+
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -145,7 +278,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     }
 
     /**
-     * Removes the specified appointments from the address book.
+     * Removes the specified appointments from the address book, as a single change to the appointment list.
      * The appointments to be removed must already exist in the address book.
      *
      * @param appointmentsToRemove The appointments to be removed. Each appointment must not be null.
@@ -154,6 +287,53 @@ public class AddressBook implements ReadOnlyAddressBook {
         appointments.removeAll(appointmentsToRemove);
     }
 
+    /**
+     * Holds back the notifications of changes to the person and appointment lists until the returned {@code Batch}
+     * is closed, and then notifies the listeners of each list of all of its changes as a single change.
+     * The changes are made at once, but the listeners of the appointment list and then those of the person list,
+     * including those that update this address book's version and snapshot, are only called when the batch is closed.
+     */
+    public Batch startBatch() {
+        Batch personBatch = persons.startBatch();
+        Batch appointmentBatch = appointments.startBatch();
+        return () -> {
+            appointmentBatch.close();
+            personBatch.close();
+        };
+    }
+
+    /**
+     * Updates the attribute index with {@code change}, a change to the person list.
+     */
+    private void updateAttributeIndex(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            change.getRemoved().forEach(attributeIndex::remove);
+            change.getAddedSubList().forEach(attributeIndex::add);
+        }
+    }
+
+    /**
+     * Returns {@code snapshot}, a copy of a list before {@code change}, with {@code change} applied to it.
+     * Only the changed elements are copied, so this takes O(log n) time for each of them.
+     */
+    private static <T> PersistentList<T> applyChange(PersistentList<T> snapshot,
+            ListChangeListener.Change<? extends T> change) {
+        PersistentList<T> updated = snapshot;
+        while (change.next()) {
+            int from = change.getFrom();
+            if (change.wasPermutated() || change.wasUpdated()) {
+                updated = updated.replace(from, change.getTo(), change.getList().subList(from, change.getTo()));
+            } else {
+                updated = updated.replace(from, from + change.getRemovedSize(), change.getAddedSubList());
+            }
+        }
+        return updated;
+    }
+
+    private void updateVersion(ListChangeListener.Change<?> change) {
+        version = LAST_VERSION.incrementAndGet();
+    }
+
     //// util methods
 
     @Override
@@ -174,6 +354,46 @@ public class AddressBook implements ReadOnlyAddressBook {
         return appointments.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns an immutable copy of the person list, which shares its structure with the copies taken before and
+     * after it.
+     */
+    PersistentList<Person> getPersonSnapshot() {
+        return personSnapshot;
+    }
+
+    /**
+     * Returns an immutable copy of the appointment list, which shares its structure with the copies taken before and
+     * after it.
+     */
+    PersistentList<Appointment> getAppointmentSnapshot() {
+        return appointmentSnapshot;
+    }
+
+    /**
+     * Makes {@code personSnapshot} and {@code appointmentSnapshot}, which must hold the same persons and appointments
+     * as this address book, its copies of the person and appointment lists, so that it shares their structure.
+     */
+    void shareSnapshots(PersistentList<Person> personSnapshot, PersistentList<Appointment> appointmentSnapshot) {
+        assert personSnapshot.equals(persons.asUnmodifiableObservableList())
+                && appointmentSnapshot.equals(appointments.asUnmodifiableObservableList());
+        this.personSnapshot = personSnapshot;
+        this.appointmentSnapshot = appointmentSnapshot;
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns an immutable copy of the data in O(1) time, which shares its structure with this address book.
+     */
+    @Override
+    public AddressBookSnapshot snapshot() {
+        return new AddressBookSnapshot(personSnapshot, appointmentSnapshot, version);
+    }
+
 
     @Override
     public boolean equals(Object other) {
@@ -0,0 +1,128 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Iterator;
+import java.util.Objects;
+
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import seedu.address.commons.util.PersistentList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.person.Person;
+
+/**
+ * An immutable copy of the persons and appointments of an address book at one version.
+ * <p>
+ * The copy shares its structure with the address book it was taken from, so it is taken in O(1) time, and it can be
+ * read from any thread while the address book keeps changing. Its lists never change, so listeners added to them are
+ * never called.
+ */
+public final class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Person> persons;
+    private final ObservableList<Appointment> appointments;
+    private final long version;
+
+    /**
+     * Creates a snapshot holding {@code persons} and {@code appointments}, which were the data of an address book
+     * when it had {@code version}.
+     */
+    AddressBookSnapshot(PersistentList<Person> persons, PersistentList<Appointment> appointments, long version) {
+        requireAllNonNull(persons, appointments);
+        this.persons = new FrozenList<>(persons);
+        this.appointments = new FrozenList<>(appointments);
+        this.version = version;
+    }
+
+    /**
+     * Returns a snapshot of {@code addressBook} made by copying its lists, which takes O(n) time.
+     */
+    public static AddressBookSnapshot copyOf(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        return new AddressBookSnapshot(PersistentList.copyOf(addressBook.getPersonList()),
+                PersistentList.copyOf(addressBook.getAppointmentList()), addressBook.getVersion());
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Appointment> getAppointmentList() {
+        return appointments;
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns this snapshot, which is already immutable.
+     */
+    @Override
+    public ReadOnlyAddressBook snapshot() {
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("persons", persons)
+                .add("appointments", appointments)
+                .add("version", version)
+                .toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddressBookSnapshot otherSnapshot)) {
+            return false;
+        }
+
+        return persons.equals(otherSnapshot.persons) && appointments.equals(otherSnapshot.appointments);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(persons, appointments);
+    }
+
+    /**
+     * An {@code ObservableList} view of a {@code PersistentList}, which cannot be modified.
+     */
+    private static class FrozenList<E> extends ObservableListBase<E> {
+        private final PersistentList<E> elements;
+
+        FrozenList(PersistentList<E> elements) {
+            this.elements = elements;
+        }
+
+        @Override
+        public E get(int index) {
+            return elements.get(index);
+        }
+
+        @Override
+        public int size() {
+            return elements.size();
+        }
+
+        /**
+         * Returns an iterator that walks the tree of the list, rather than looking up each element from its root.
+         */
+        @Override
+        public Iterator<E> iterator() {
+            return elements.iterator();
+        }
+    }
+}
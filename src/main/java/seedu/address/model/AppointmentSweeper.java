@@ -0,0 +1,123 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.appointment.Appointment;
+
+/**
+ * Keeps the upcoming and past appointment lists of a {@code Model} correct as time passes.
+ * <p>
+ * Rather than re-checking every appointment periodically, the sweeper waits until the earliest upcoming appointment
+ * is due, then asks the model to move the appointments that are no longer upcoming. It waits at most
+ * {@code MAX_SWEEP_INTERVAL} between sweeps, even when there are no upcoming appointments, so that changes to the
+ * system time are picked up and sweeping recovers even if a change to the appointments was missed.
+ */
+public class AppointmentSweeper {
+
+    public static final Duration MAX_SWEEP_INTERVAL = Duration.ofMinutes(1);
+
+    private static final Logger logger = LogsCenter.getLogger(AppointmentSweeper.class);
+
+    private final Model model;
+    private final Clock clock;
+    private final Executor modelExecutor;
+    private final ScheduledExecutorService timer;
+    private final ListChangeListener<Appointment> upcomingAppointmentsListener = change -> scheduleNextSweep();
+
+    private ScheduledFuture<?> pendingSweep;
+
+    /**
+     * Creates a sweeper for {@code model}, which must use the same {@code clock}.
+     * Sweeps are run through {@code modelExecutor}, which should run them on the thread that owns the model.
+     */
+    public AppointmentSweeper(Model model, Clock clock, Executor modelExecutor) {
+        requireAllNonNull(model, clock, modelExecutor);
+        this.model = model;
+        this.clock = clock;
+        this.modelExecutor = modelExecutor;
+        this.timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "appointment-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Sweeps the model once, and keeps sweeping it whenever the earliest upcoming appointment becomes due.
+     * Must be called on the thread that owns the model.
+     */
+    public void start() {
+        model.getUpcomingAppointmentList().addListener(upcomingAppointmentsListener);
+        sweep();
+    }
+
+    /**
+     * Stops sweeping the model.
+     * Must be called on the thread that owns the model.
+     */
+    public void stop() {
+        model.getUpcomingAppointmentList().removeListener(upcomingAppointmentsListener);
+        timer.shutdownNow();
+    }
+
+    /**
+     * Moves the appointments that are no longer upcoming, then schedules the next sweep.
+     */
+    void sweep() {
+        model.advanceAppointmentSchedule();
+        scheduleNextSweep();
+    }
+
+    /**
+     * Returns how long to wait before the next sweep, which is at most {@code MAX_SWEEP_INTERVAL} even if there are
+     * no upcoming appointments to wait for, so that sweeping never stops.
+     */
+    Duration getDelayToNextSweep() {
+        List<Appointment> upcomingAppointments = model.getUpcomingAppointmentList();
+        if (upcomingAppointments.isEmpty()) {
+            return MAX_SWEEP_INTERVAL;
+        }
+
+        LocalDateTime nextBoundary = upcomingAppointments.get(0).getDateTime().getDateTime();
+        Duration delay = Duration.between(LocalDateTime.now(clock), nextBoundary);
+        if (delay.isNegative()) {
+            return Duration.ZERO;
+        }
+        return delay.compareTo(MAX_SWEEP_INTERVAL) > 0 ? MAX_SWEEP_INTERVAL : delay;
+    }
+
+    /**
+     * Returns true if a sweep is scheduled to run.
+     */
+    boolean isSweepScheduled() {
+        return pendingSweep != null && !pendingSweep.isDone();
+    }
+
+    private void scheduleNextSweep() {
+        if (pendingSweep != null) {
+            pendingSweep.cancel(false);
+            pendingSweep = null;
+        }
+        if (timer.isShutdown()) {
+            return;
+        }
+
+        Duration delay = getDelayToNextSweep();
+        logger.fine("Next appointment sweep in " + delay);
+        pendingSweep = timer.schedule(() -> modelExecutor.execute(this::sweep),
+                delay.toNanos(), TimeUnit.NANOSECONDS);
+    }
+}
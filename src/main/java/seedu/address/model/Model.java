@@ -1,14 +1,21 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.util.BatchableObservableList.Batch;
 import seedu.address.model.appointment.Appointment;
 import seedu.address.model.person.IdentityNumber;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonAttribute;
 
 /**
  * The API of the Model component.
@@ -68,11 +75,70 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Saves the address book's current data as a state that can be undone to, if it changed since the last state.
+     */
+    void commitAddressBook();
+
+    /**
+     * Returns true if the address book has a state before the current one to undo to.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Restores the address book's state before the current one.
+     */
+    void undoAddressBook();
+
+    /**
+     * Returns true if the address book has an undone state to redo to.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Restores the address book's undone state after the current one.
+     */
+    void redoAddressBook();
+
+    /**
+     * Forgets the address book's earlier states, so that its current data cannot be undone.
+     */
+    void resetAddressBookHistory();
+
+    /**
+     * Holds back the notifications of changes to the address book until the returned {@code Batch} is closed, and
+     * then passes all of the changes to each list on as a single change.
+     * The changes are made at once, but the filtered and sorted lists only show them once the batch is closed.
+     */
+    Batch startBatch();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
     boolean hasPerson(Person person);
 
+    /**
+     * Returns the identity numbers of the persons whose name or identity number contains any of {@code keywords},
+     * ignoring case.
+     * @throws NullPointerException if {@code keywords} is null.
+     */
+    Set<IdentityNumber> findPersonsByKeywords(Collection<String> keywords);
+
+    /**
+     * Returns the identity numbers of at most {@code limit} persons whose name or identity number contains a word
+     * starting with any of {@code prefixes}, ignoring case.
+     * Unlike the other methods of the model, this may be called from any thread.
+     * @throws NullPointerException if {@code prefixes} is null.
+     */
+    Set<IdentityNumber> findPersonsByKeywordPrefixes(Collection<String> prefixes, int limit);
+
+    /**
+     * Returns the identity numbers of the persons having every attribute value in {@code criteria}, ignoring case.
+     * @throws NullPointerException if {@code criteria} is null.
+     * @throws IllegalArgumentException if {@code criteria} is empty.
+     */
+    Set<IdentityNumber> findPersonsByAttributes(Map<PersonAttribute, List<String>> criteria);
+
     /**
      * Returns true if an appointment with the same patientId and time as {@code appointment}
      * exists in the address book.
@@ -80,7 +146,7 @@ public interface Model {
     boolean hasAppointment(Appointment appointment);
 
     /**
-     * Deletes the given person.
+     * Deletes the given person and their appointments, as a single change to each list.
      * The person must exist in the address book.
      */
     void deletePerson(Person target);
@@ -104,7 +170,21 @@ public interface Model {
     void addAppointment(Appointment appointment);
 
     /**
-     * Replaces the given person {@code target} with {@code editedPerson}.
+     * Adds the given persons, in order, without changing the filter of the filtered person list.
+     * None of {@code persons} may already exist in the address book, or appear more than once in {@code persons}.
+     */
+    void addPersons(List<Person> persons);
+
+    /**
+     * Adds the given appointments, in order.
+     * None of {@code appointments} may already exist in the address book, or appear more than once in
+     * {@code appointments}.
+     */
+    void addAppointments(List<Appointment> appointments);
+
+    /**
+     * Replaces the given person {@code target} with {@code editedPerson}, and moves their appointments to
+     * {@code editedPerson}'s identity number, as a single change to each list.
      * {@code target} must exist in the address book.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the address book.
      */
@@ -126,12 +206,32 @@ public interface Model {
     /** Returns an unmodifiable view of the filtered past appointment list */
     ObservableList<Appointment> getPastAppointmentList();
 
+    /**
+     * Moves the appointments that are no longer after the current time from the upcoming appointment lists
+     * to the past appointment lists.
+     */
+    void advanceAppointmentSchedule();
+
     /**
      * Updates the filter of the filtered person list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Replaces the filter of the filtered person list to show the persons whose identity numbers are returned by
+     * {@code query}, in address book order. {@code query} is run again whenever the persons in the address book
+     * change, and should look them up in the model's indexes, so that the list is built without testing every person.
+     * {@code predicate} must match the same persons, and is returned by {@link #getFilteredPersonListPredicate()}.
+     * @throws NullPointerException if {@code query} or {@code predicate} is null.
+     */
+    void showFoundPersons(Supplier<Set<IdentityNumber>> query, Predicate<Person> predicate);
+
+    /**
+     * Returns the predicate that the filtered person list is currently filtered by.
+     */
+    Predicate<Person> getFilteredPersonListPredicate();
+
     /**
      * Updates the filter of the filtered appointment list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
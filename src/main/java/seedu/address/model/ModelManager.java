@@ -4,24 +4,34 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
+import javafx.beans.binding.Bindings;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.value.ObservableValue;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
-import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.BatchableObservableList.Batch;
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentSchedule;
 import seedu.address.model.person.IdentityNumber;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonAttribute;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -29,53 +39,63 @@ import seedu.address.model.person.Person;
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
-    private final AddressBook addressBook;
+    private final VersionedAddressBook addressBook;
     private final UserPrefs userPrefs;
+    private final Clock clock;
     private final FilteredList<Person> filteredPersons;
     private final FilteredList<Appointment> filteredAppointments;
 
-    // Lists from the full AddressBook appointment list
-    private final SortedList<Appointment> sortedAllUpcomingAppointments;
-    private final SortedList<Appointment> sortedAllPastAppointments;
+    // The persons shown by the filtered person list: a copy of filteredPersons, or the persons found by a query
+    private final ObservableList<Person> shownPersons = FXCollections.observableArrayList();
+    private final ObservableList<Person> unmodifiableShownPersons =
+            FXCollections.unmodifiableObservableList(shownPersons);
+    private Supplier<Set<IdentityNumber>> shownPersonsQuery;
+    private Predicate<Person> shownPersonsPredicate;
+
+    // Upcoming and past appointments from the full AddressBook appointment list
+    private final AppointmentSchedule appointmentSchedule;
 
     // Lists to hold appointments for the person currently being viewed
-    private final FilteredList<Appointment> viewedPersonAppointments;
-    private final ObservableList<Appointment> viewedPersonUpcomingAppointments;
-    private final ObservableList<Appointment> unmodifiableViewedPersonUpcomingAppointments;
-    private final ObservableList<Appointment> viewedPersonPastAppointments;
-    private final ObservableList<Appointment> unmodifiableViewedPersonPastAppointments;
+    private final ObservableList<Appointment> viewedPersonAppointments = FXCollections.observableArrayList();
+    private final ObservableList<Appointment> unmodifiableViewedPersonAppointments =
+            FXCollections.unmodifiableObservableList(viewedPersonAppointments);
+    private final AppointmentSchedule viewedPersonSchedule;
 
     private final ObjectProperty<Person> viewedPerson = new SimpleObjectProperty<>();
+    private IdentityNumber viewedPersonId;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
+     * Appointments are split into upcoming and past appointments using the time given by {@code clock}.
      */
-    public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
-        requireAllNonNull(addressBook, userPrefs);
+    public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs, Clock clock) {
+        requireAllNonNull(addressBook, userPrefs, clock);
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
-        this.addressBook = new AddressBook(addressBook);
+        this.addressBook = new VersionedAddressBook(addressBook, userPrefs.getUndoHistoryLimit());
         this.userPrefs = new UserPrefs(userPrefs);
+        this.clock = clock;
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
         filteredAppointments = new FilteredList<>(this.addressBook.getAppointmentList());
+        Bindings.bindContent(shownPersons, filteredPersons);
+        // Added after the address book's own listeners, so that its indexes are up to date when the query is rerun
+        this.addressBook.getPersonList().addListener((ListChangeListener<Person>) change -> refreshFoundPersons());
 
+        LocalDateTime now = LocalDateTime.now(clock);
+        appointmentSchedule = new AppointmentSchedule(now);
+        viewedPersonSchedule = new AppointmentSchedule(now);
 
-        viewedPersonAppointments = new FilteredList<>(this.addressBook.getAppointmentList());
-        viewedPersonUpcomingAppointments = new FilteredList<>(viewedPersonAppointments, Appointment::isAfterNow);
-        viewedPersonPastAppointments = new FilteredList<>(viewedPersonAppointments, Appointment::isBeforeNow);
-        unmodifiableViewedPersonUpcomingAppointments = FXCollections.unmodifiableObservableList(
-                new SortedList<>(viewedPersonUpcomingAppointments, Appointment::compareByDateTime));
-        unmodifiableViewedPersonPastAppointments = FXCollections.unmodifiableObservableList(
-                new SortedList<>(viewedPersonPastAppointments, Appointment::compareByDateTime));
-
-        FilteredList<Appointment> allUpcomingAppointments =
-                new FilteredList<>(this.addressBook.getAppointmentList(), Appointment::isAfterNow);
-        FilteredList<Appointment> allPastAppointments =
-                new FilteredList<>(this.addressBook.getAppointmentList(), Appointment::isBeforeNow);
+        this.addressBook.getAppointmentList().addListener(this::refreshViewedPersonAppointmentsIfAffected);
+        resetAppointmentSchedule();
+        this.addressBook.getAppointmentList().addListener(this::updateAppointmentSchedule);
+    }
 
-        sortedAllUpcomingAppointments = new SortedList<>(allUpcomingAppointments, Appointment::compareByDateTime);
-        sortedAllPastAppointments = new SortedList<>(allPastAppointments, Appointment::compareByDateTime);
+    /**
+     * Initializes a ModelManager with the given addressBook and userPrefs, using the system clock.
+     */
+    public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
+        this(addressBook, userPrefs, Clock.systemDefaultZone());
     }
 
     public ModelManager() {
@@ -88,6 +108,7 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        addressBook.setHistoryLimit(userPrefs.getUndoHistoryLimit());
     }
 
     @Override
@@ -129,12 +150,67 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public void commitAddressBook() {
+        addressBook.commit();
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return addressBook.canUndo();
+    }
+
+    @Override
+    public void undoAddressBook() {
+        addressBook.undo();
+        refreshViewedPerson();
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return addressBook.canRedo();
+    }
+
+    @Override
+    public void redoAddressBook() {
+        addressBook.redo();
+        refreshViewedPerson();
+    }
+
+    @Override
+    public void resetAddressBookHistory() {
+        addressBook.resetHistory();
+    }
+
+    @Override
+    public Batch startBatch() {
+        return addressBook.startBatch();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
         return addressBook.hasPerson(person);
     }
 
+    @Override
+    public Set<IdentityNumber> findPersonsByKeywords(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return addressBook.findPersonsByKeywords(keywords);
+    }
+
+    @Override
+    public Set<IdentityNumber> findPersonsByKeywordPrefixes(Collection<String> prefixes, int limit) {
+        requireNonNull(prefixes);
+        return addressBook.findPersonsByKeywordPrefixes(prefixes, limit);
+    }
+
+    @Override
+    public Set<IdentityNumber> findPersonsByAttributes(Map<PersonAttribute, List<String>> criteria) {
+        requireNonNull(criteria);
+        return addressBook.findPersonsByAttributes(criteria);
+    }
+
     @Override
     public boolean hasAppointment(Appointment appointment) {
         requireNonNull(appointment);
@@ -143,13 +219,13 @@ public class ModelManager implements Model {
 
     @Override
     public void deletePerson(Person target) {
-        addressBook.removePerson(target);
-        Predicate<Appointment> personAppointmentPredicate =
-                a -> a.getPatientId().equals(target.getIdentityNumber());
-        List<Appointment> toRemove = this.addressBook.getAppointmentList().stream()
-                .filter(personAppointmentPredicate)
-                .toList();
-        toRemove.forEach(addressBook::removeAppointment);
+        try (Batch batch = addressBook.startBatch()) {
+            addressBook.removePerson(target);
+            List<Appointment> toRemove = addressBook.getPatientAppointments(target.getIdentityNumber());
+            if (!toRemove.isEmpty()) {
+                addressBook.removeAppointments(toRemove.toArray(Appointment[]::new));
+            }
+        }
         logger.fine("Removed appointments associated with deleted person: " + target.getName());
     }
 
@@ -169,28 +245,38 @@ public class ModelManager implements Model {
         addressBook.addAppointment(appointment);
     }
 
+    @Override
+    public void addPersons(List<Person> persons) {
+        addressBook.addPersons(persons);
+    }
+
+    @Override
+    public void addAppointments(List<Appointment> appointments) {
+        addressBook.addAppointments(appointments);
+    }
+
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
-        if (!target.getIdentityNumber().equals(editedPerson.getIdentityNumber())) {
-            IdentityNumber oldId = target.getIdentityNumber();
-            IdentityNumber newId = editedPerson.getIdentityNumber();
-
-            List<Appointment> appointmentsToUpdate = addressBook.getAppointmentList().stream()
-                    .filter(appointment -> appointment.getPatientId().equals(oldId))
-                    .collect(Collectors.toList());
-
-            for (Appointment oldAppointment : appointmentsToUpdate) {
-                Appointment updatedAppointment = new Appointment(
-                        oldAppointment.getNotes(),
-                        oldAppointment.getDateTime(),
-                        newId
-                );
-
-                addressBook.setAppointment(oldAppointment, updatedAppointment);
+        try (Batch batch = addressBook.startBatch()) {
+            if (!target.getIdentityNumber().equals(editedPerson.getIdentityNumber())) {
+                IdentityNumber oldId = target.getIdentityNumber();
+                IdentityNumber newId = editedPerson.getIdentityNumber();
+
+                List<Appointment> appointmentsToUpdate = addressBook.getPatientAppointments(oldId);
+
+                for (Appointment oldAppointment : appointmentsToUpdate) {
+                    Appointment updatedAppointment = new Appointment(
+                            oldAppointment.getNotes(),
+                            oldAppointment.getDateTime(),
+                            newId
+                    );
+
+                    addressBook.setAppointment(oldAppointment, updatedAppointment);
+                }
             }
+            addressBook.setPerson(target, editedPerson);
         }
-        addressBook.setPerson(target, editedPerson);
     }
 
     @Override
@@ -207,13 +293,51 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return unmodifiableShownPersons;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
         filteredPersons.setPredicate(predicate);
+        if (shownPersonsQuery != null) {
+            shownPersonsQuery = null;
+            shownPersonsPredicate = null;
+            Bindings.bindContent(shownPersons, filteredPersons);
+        }
+    }
+
+    @Override
+    public void showFoundPersons(Supplier<Set<IdentityNumber>> query, Predicate<Person> predicate) {
+        requireAllNonNull(query, predicate);
+        if (shownPersonsQuery == null) {
+            Bindings.unbindContent(shownPersons, filteredPersons);
+        }
+        shownPersonsQuery = query;
+        shownPersonsPredicate = predicate;
+        refreshFoundPersons();
+    }
+
+    @Override
+    public Predicate<Person> getFilteredPersonListPredicate() {
+        if (shownPersonsQuery != null) {
+            return shownPersonsPredicate;
+        }
+        Predicate<? super Person> predicate = filteredPersons.getPredicate();
+        return predicate == null ? PREDICATE_SHOW_ALL_PERSONS : predicate::test;
+    }
+
+    /**
+     * Shows the persons found by running the query again, if the filtered person list shows the result of a query.
+     */
+    private void refreshFoundPersons() {
+        if (shownPersonsQuery == null) {
+            return;
+        }
+        List<Person> foundPersons = addressBook.getPersons(shownPersonsQuery.get());
+        if (!foundPersons.equals(shownPersons)) {
+            shownPersons.setAll(foundPersons);
+        }
     }
 
     //=========== Filtered Appointment List Accessors ==========================================================
@@ -236,16 +360,56 @@ public class ModelManager implements Model {
     }
 
     /**
-     * Returns a filtered list of appointments for a specific person ID.
-     * Sets the internal viewed person list to the returned filtered list.
-     * It filters directly from the source AddressBook list.
+     * Returns a list of appointments for a specific person ID.
+     * Sets the internal viewed person list to the returned list.
+     * It is filled from the AddressBook's per-patient appointment index, and is kept up to date as
+     * that person's appointments change.
      */
     @Override
     public ObservableList<Appointment> getFilteredAppointmentList(IdentityNumber personId) {
         requireNonNull(personId);
-        Predicate<Appointment> personPredicate = appointment -> appointment.getPatientId().equals(personId);
-        viewedPersonAppointments.setPredicate(personPredicate);
-        return viewedPersonAppointments;
+        viewedPersonId = personId;
+        refreshViewedPersonAppointments();
+        return unmodifiableViewedPersonAppointments;
+    }
+
+    /**
+     * Refreshes the viewed person's appointments if {@code change} added or removed any of their appointments.
+     */
+    private void refreshViewedPersonAppointmentsIfAffected(ListChangeListener.Change<? extends Appointment> change) {
+        if (viewedPersonId == null) {
+            return;
+        }
+        while (change.next()) {
+            if (change.getRemoved().stream().anyMatch(this::isViewedPersonAppointment)
+                    || change.getAddedSubList().stream().anyMatch(this::isViewedPersonAppointment)) {
+                refreshViewedPersonAppointments();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Refills the viewed person's appointments, and their upcoming and past appointments, from the AddressBook.
+     */
+    private void refreshViewedPersonAppointments() {
+        List<Appointment> patientAppointments = addressBook.getPatientAppointments(viewedPersonId);
+        viewedPersonAppointments.setAll(patientAppointments);
+
+        List<Appointment> chronologicalAppointments = new ArrayList<>(patientAppointments);
+        chronologicalAppointments.sort(Appointment.CHRONOLOGICAL_ORDER);
+        LocalDateTime now = appointmentSchedule.getNow();
+        int firstUpcoming = 0;
+        while (firstUpcoming < chronologicalAppointments.size()
+                && !chronologicalAppointments.get(firstUpcoming).getDateTime().isAfter(now)) {
+            firstUpcoming++;
+        }
+        viewedPersonSchedule.setAppointments(chronologicalAppointments.subList(0, firstUpcoming),
+                chronologicalAppointments.subList(firstUpcoming, chronologicalAppointments.size()), now);
+    }
+
+    private boolean isViewedPersonAppointment(Appointment appointment) {
+        return appointment.getPatientId().equals(viewedPersonId);
     }
 
 
@@ -257,7 +421,7 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Appointment> getViewedPersonUpcomingAppointmentList() {
-        return unmodifiableViewedPersonUpcomingAppointments;
+        return viewedPersonSchedule.getUpcomingAppointments();
     }
 
     /**
@@ -266,7 +430,7 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Appointment> getViewedPersonPastAppointmentList() {
-        return unmodifiableViewedPersonPastAppointments;
+        return viewedPersonSchedule.getPastAppointments();
     }
 
 
@@ -277,7 +441,7 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Appointment> getUpcomingAppointmentList() {
-        return sortedAllUpcomingAppointments;
+        return appointmentSchedule.getUpcomingAppointments();
     }
 
     /**
@@ -285,7 +449,39 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Appointment> getPastAppointmentList() {
-        return sortedAllPastAppointments;
+        return appointmentSchedule.getPastAppointments();
+    }
+
+    @Override
+    public void advanceAppointmentSchedule() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        appointmentSchedule.advanceTo(now);
+        viewedPersonSchedule.advanceTo(now);
+    }
+
+    /**
+     * Rebuilds the upcoming and past appointment lists from the AddressBook's chronological appointment index,
+     * as of the time the schedule was last advanced to.
+     */
+    private void resetAppointmentSchedule() {
+        LocalDateTime now = appointmentSchedule.getNow();
+        appointmentSchedule.setAppointments(addressBook.getAppointmentsBefore(now.plusNanos(1)),
+                addressBook.getAppointmentsAfter(now), now);
+    }
+
+    /**
+     * Applies {@code change} to the upcoming and past appointment lists.
+     * Replacing or clearing the whole appointment list rebuilds them instead of moving appointments one at a time.
+     */
+    private void updateAppointmentSchedule(ListChangeListener.Change<? extends Appointment> change) {
+        while (change.next()) {
+            if (change.getAddedSize() == change.getList().size()) {
+                resetAppointmentSchedule();
+                return;
+            }
+            change.getRemoved().forEach(appointmentSchedule::remove);
+            change.getAddedSubList().forEach(appointmentSchedule::add);
+        }
     }
 
     //=========== Viewed Person Setters And Accessors ==================================================
@@ -309,6 +505,16 @@ public class ModelManager implements Model {
         }
     }
 
+    /**
+     * Shows the viewed person as they are in the address book now, or no person if they are no longer in it.
+     */
+    private void refreshViewedPerson() {
+        Person person = viewedPerson.get();
+        if (person != null) {
+            setViewedPerson(addressBook.getPerson(person.getIdentityNumber()).orElse(null));
+        }
+    }
+
     //=========== Equals ====================================================================================
 
     @Override
@@ -325,8 +531,9 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return addressBook.equals(otherModelManager.addressBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredPersons.equals(otherModelManager.filteredPersons)
+                && shownPersons.equals(otherModelManager.shownPersons)
                 && filteredAppointments.equals(otherModelManager.filteredAppointments)
+                && Objects.equals(viewedPersonId, otherModelManager.viewedPersonId)
                 && viewedPersonAppointments.equals(otherModelManager.viewedPersonAppointments)
                 && Objects.equals(viewedPerson.get(), otherModelManager.viewedPerson.get());
     }
@@ -21,4 +21,19 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Appointment> getAppointmentList();
 
+    /**
+     * Returns the version of the data, which changes whenever the persons or appointments change.
+     * No two address books have the same version, unless one is a copy of the other and neither has changed since.
+     */
+    long getVersion();
+
+    /**
+     * Returns an immutable copy of the data with the same version, which later changes to this address book do not
+     * affect, so that it can be read on another thread while this address book keeps changing.
+     * Address books that share their structure with their snapshots take them in O(1) time; others copy their lists.
+     */
+    default ReadOnlyAddressBook snapshot() {
+        return AddressBookSnapshot.copyOf(this);
+    }
+
 }
@@ -1,20 +1,34 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
+import seedu.address.commons.core.DataFileFormat;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.util.FileUtil;
 
 /**
  * Represents User's preferences.
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    /** The largest number of segment files that the address book can be split into. */
+    public static final int MAX_ADDRESS_BOOK_SEGMENT_COUNT = 36;
+    public static final String MESSAGE_SEGMENT_COUNT_CONSTRAINTS =
+            "The number of address book segments should be between 1 and " + MAX_ADDRESS_BOOK_SEGMENT_COUNT;
+    public static final String MESSAGE_UNDO_HISTORY_LIMIT_CONSTRAINTS =
+            "The number of commands that can be undone should not be negative";
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "healthnote.json");
+    private DataFileFormat addressBookFileFormat = DataFileFormat.JSON;
+    private int addressBookSegmentCount = 1;
+    private int addressBookCompressionLevel = FileUtil.NO_COMPRESSION;
+    private int undoHistoryLimit = 20;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +50,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setAddressBookFileFormat(newUserPrefs.getAddressBookFileFormat());
+        setAddressBookSegmentCount(newUserPrefs.getAddressBookSegmentCount());
+        setAddressBookCompressionLevel(newUserPrefs.getAddressBookCompressionLevel());
+        setUndoHistoryLimit(newUserPrefs.getUndoHistoryLimit());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +74,45 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public DataFileFormat getAddressBookFileFormat() {
+        return addressBookFileFormat;
+    }
+
+    public void setAddressBookFileFormat(DataFileFormat addressBookFileFormat) {
+        requireNonNull(addressBookFileFormat);
+        this.addressBookFileFormat = addressBookFileFormat;
+    }
+
+    public int getAddressBookSegmentCount() {
+        return addressBookSegmentCount;
+    }
+
+    public void setAddressBookSegmentCount(int addressBookSegmentCount) {
+        checkArgument(addressBookSegmentCount >= 1 && addressBookSegmentCount <= MAX_ADDRESS_BOOK_SEGMENT_COUNT,
+                MESSAGE_SEGMENT_COUNT_CONSTRAINTS);
+        this.addressBookSegmentCount = addressBookSegmentCount;
+    }
+
+    public int getAddressBookCompressionLevel() {
+        return addressBookCompressionLevel;
+    }
+
+    public void setAddressBookCompressionLevel(int addressBookCompressionLevel) {
+        checkArgument(addressBookCompressionLevel >= FileUtil.NO_COMPRESSION
+                && addressBookCompressionLevel <= FileUtil.MAX_COMPRESSION_LEVEL,
+                FileUtil.MESSAGE_COMPRESSION_LEVEL_CONSTRAINTS);
+        this.addressBookCompressionLevel = addressBookCompressionLevel;
+    }
+
+    public int getUndoHistoryLimit() {
+        return undoHistoryLimit;
+    }
+
+    public void setUndoHistoryLimit(int undoHistoryLimit) {
+        checkArgument(undoHistoryLimit >= 0, MESSAGE_UNDO_HISTORY_LIMIT_CONSTRAINTS);
+        this.undoHistoryLimit = undoHistoryLimit;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +126,17 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && addressBookFileFormat == otherUserPrefs.addressBookFileFormat
+                && addressBookSegmentCount == otherUserPrefs.addressBookSegmentCount
+                && addressBookCompressionLevel == otherUserPrefs.addressBookCompressionLevel
+                && undoHistoryLimit == otherUserPrefs.undoHistoryLimit;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, addressBookFileFormat, addressBookSegmentCount,
+                addressBookCompressionLevel, undoHistoryLimit);
     }
 
     @Override
@@ -82,6 +144,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nLocal data file format : " + addressBookFileFormat);
+        sb.append("\nLocal data file segments : " + addressBookSegmentCount);
+        sb.append("\nLocal data file compression level : " + addressBookCompressionLevel);
+        sb.append("\nUndo history limit : " + undoHistoryLimit);
         return sb.toString();
     }
 
@@ -0,0 +1,238 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.util.BatchableObservableList.Batch;
+import seedu.address.commons.util.PersistentList;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.person.Person;
+
+/**
+ * An {@code AddressBook} that remembers its earlier states, so that changes to it can be undone and redone.
+ * <p>
+ * Each committed state keeps the address book's immutable copies of its person and appointment lists, which share
+ * their structure with the copies in the states before and after it, so a state costs O(log n) time and memory for
+ * each person or appointment that changed rather than a copy of the whole address book. Each state also records the
+ * range of each list that changed since the state before it, so that undoing or redoing only replaces that range.
+ * <p>
+ * At most {@code historyLimit} states before the current one are kept.
+ */
+public class VersionedAddressBook extends AddressBook {
+
+    public static final String MESSAGE_HISTORY_LIMIT_CONSTRAINTS = "The history limit should not be negative";
+
+    private final List<State> states = new ArrayList<>();
+    private final ChangedRange changedPersons = new ChangedRange();
+    private final ChangedRange changedAppointments = new ChangedRange();
+    private int currentStatePointer;
+    private int historyLimit;
+    // Version of the address book when it was last committed, undone or redone
+    private long committedVersion;
+
+    /**
+     * Creates a {@code VersionedAddressBook} with the data in {@code initialState} as its only state, which keeps at
+     * most {@code historyLimit} states before the current one.
+     */
+    public VersionedAddressBook(ReadOnlyAddressBook initialState, int historyLimit) {
+        super(initialState);
+        checkArgument(historyLimit >= 0, MESSAGE_HISTORY_LIMIT_CONSTRAINTS);
+        this.historyLimit = historyLimit;
+        getPersonList().addListener(changedPersons::record);
+        getAppointmentList().addListener(changedAppointments::record);
+        resetHistory();
+    }
+
+    /**
+     * Sets the number of states before the current one that are kept, forgetting the oldest states beyond it.
+     */
+    public void setHistoryLimit(int historyLimit) {
+        checkArgument(historyLimit >= 0, MESSAGE_HISTORY_LIMIT_CONSTRAINTS);
+        this.historyLimit = historyLimit;
+        forgetStatesBeyondLimit();
+    }
+
+    /**
+     * Saves the current data as a new state after the current one, if it changed since the current state, and
+     * forgets the states after the current one that were undone.
+     */
+    public void commit() {
+        if (getVersion() == committedVersion) {
+            return;
+        }
+
+        State previous = states.get(currentStatePointer);
+        PersistentList<Person> persons = getPersonSnapshot();
+        PersistentList<Appointment> appointments = getAppointmentSnapshot();
+        State committed = new State(persons, appointments,
+                changedPersons.toRange(previous.persons.size(), persons.size()),
+                changedAppointments.toRange(previous.appointments.size(), appointments.size()));
+
+        states.subList(currentStatePointer + 1, states.size()).clear();
+        states.add(committed);
+        currentStatePointer++;
+        forgetStatesBeyondLimit();
+        markCommitted();
+    }
+
+    /**
+     * Returns true if there is a state to undo to, counting changes that have not been committed yet.
+     */
+    public boolean canUndo() {
+        return currentStatePointer > 0 || getVersion() != committedVersion && historyLimit > 0;
+    }
+
+    /**
+     * Returns true if there is an undone state to redo to.
+     */
+    public boolean canRedo() {
+        return currentStatePointer < states.size() - 1 && getVersion() == committedVersion;
+    }
+
+    /**
+     * Commits any changes since the current state, and then restores the state before the current one.
+     *
+     * @throws IllegalStateException if there is no state to undo to.
+     */
+    public void undo() {
+        commit();
+        if (currentStatePointer == 0) {
+            throw new IllegalStateException("There is no state to undo to");
+        }
+
+        State current = states.get(currentStatePointer);
+        currentStatePointer--;
+        restore(states.get(currentStatePointer), current.changedPersons, current.changedAppointments);
+    }
+
+    /**
+     * Restores the state after the current one, which must have been undone.
+     *
+     * @throws IllegalStateException if there is no state to redo to.
+     */
+    public void redo() {
+        if (!canRedo()) {
+            throw new IllegalStateException("There is no state to redo to");
+        }
+
+        currentStatePointer++;
+        State next = states.get(currentStatePointer);
+        restore(next, next.changedPersons, next.changedAppointments);
+    }
+
+    /**
+     * Forgets every state, and saves the current data as the only state.
+     */
+    public void resetHistory() {
+        states.clear();
+        states.add(new State(getPersonSnapshot(), getAppointmentSnapshot(), null, null));
+        currentStatePointer = 0;
+        markCommitted();
+    }
+
+    /**
+     * Replaces the range of each list that differs between the current data and {@code target} with the data in
+     * {@code target}, which differs from the current data only in {@code changedPersons} and
+     * {@code changedAppointments}.
+     */
+    private void restore(State target, Range changedPersons, Range changedAppointments) {
+        try (Batch batch = startBatch()) {
+            int personCount = getPersonList().size();
+            setPersons(changedPersons.unchangedPrefix, personCount - changedPersons.unchangedSuffix,
+                    target.persons.subList(changedPersons.unchangedPrefix,
+                            target.persons.size() - changedPersons.unchangedSuffix));
+            int appointmentCount = getAppointmentList().size();
+            setAppointments(changedAppointments.unchangedPrefix,
+                    appointmentCount - changedAppointments.unchangedSuffix,
+                    target.appointments.subList(changedAppointments.unchangedPrefix,
+                            target.appointments.size() - changedAppointments.unchangedSuffix));
+        }
+
+        shareSnapshots(target.persons, target.appointments);
+        markCommitted();
+    }
+
+    private void forgetStatesBeyondLimit() {
+        int excess = currentStatePointer - historyLimit;
+        if (excess > 0) {
+            states.subList(0, excess).clear();
+            currentStatePointer -= excess;
+        }
+    }
+
+    private void markCommitted() {
+        committedVersion = getVersion();
+        changedPersons.clear();
+        changedAppointments.clear();
+    }
+
+    /**
+     * A committed state of the address book.
+     */
+    private static class State {
+        private final PersistentList<Person> persons;
+        private final PersistentList<Appointment> appointments;
+        // The ranges that changed since the state before this one, or null for the first state
+        private final Range changedPersons;
+        private final Range changedAppointments;
+
+        State(PersistentList<Person> persons, PersistentList<Appointment> appointments, Range changedPersons,
+                Range changedAppointments) {
+            this.persons = persons;
+            this.appointments = appointments;
+            this.changedPersons = changedPersons;
+            this.changedAppointments = changedAppointments;
+        }
+    }
+
+    /**
+     * The range of a list that differs between two states, given by the number of elements before and after it that
+     * are the same in both.
+     */
+    private static class Range {
+        private final int unchangedPrefix;
+        private final int unchangedSuffix;
+
+        Range(int unchangedPrefix, int unchangedSuffix) {
+            this.unchangedPrefix = unchangedPrefix;
+            this.unchangedSuffix = unchangedSuffix;
+        }
+    }
+
+    /**
+     * Tracks the range of a list that has changed since it was last cleared.
+     */
+    private static class ChangedRange {
+        private int unchangedPrefix = Integer.MAX_VALUE;
+        private int unchangedSuffix = Integer.MAX_VALUE;
+
+        void record(ListChangeListener.Change<?> change) {
+            int size = change.getList().size();
+            while (change.next()) {
+                int end = change.wasPermutated() || change.wasUpdated()
+                        ? change.getTo()
+                        : change.getFrom() + change.getAddedSize();
+                unchangedPrefix = Math.min(unchangedPrefix, change.getFrom());
+                unchangedSuffix = Math.min(unchangedSuffix, size - end);
+            }
+        }
+
+        /**
+         * Returns the range that changed, for a list that had {@code oldSize} elements when last cleared and has
+         * {@code newSize} elements now.
+         */
+        Range toRange(int oldSize, int newSize) {
+            int prefix = Math.min(unchangedPrefix, Math.min(oldSize, newSize));
+            int suffix = Math.min(unchangedSuffix, Math.min(oldSize, newSize) - prefix);
+            return new Range(prefix, suffix);
+        }
+
+        void clear() {
+            unchangedPrefix = Integer.MAX_VALUE;
+            unchangedSuffix = Integer.MAX_VALUE;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.model.appointment;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.Objects;
 
 import seedu.address.model.person.IdentityNumber;
@@ -19,6 +20,16 @@ import seedu.address.model.person.IdentityNumber;
  */
 public class Appointment {
 
+    /**
+     * Orders appointments by date and time, then by patient ID.
+     * Two appointments compare as equal exactly when they are the same appointment.
+     *
+     * @see #isSameAppointment(Appointment)
+     */
+    public static final Comparator<Appointment> CHRONOLOGICAL_ORDER =
+            Comparator.comparing((Appointment appointment) -> appointment.getDateTime().getDateTime())
+                    .thenComparing(appointment -> appointment.getPatientId().identityNumber);
+
     private final AppointmentTime dateTime;
     private final IdentityNumber patientId;
     private final AppointmentNotes notes;
@@ -2,13 +2,27 @@ package seedu.address.model.appointment;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.BatchableObservableList;
+import seedu.address.commons.util.BatchableObservableList.Batch;
 import seedu.address.model.appointment.exceptions.AppointmentNotFoundException;
 import seedu.address.model.appointment.exceptions.DuplicateAppointmentException;
+import seedu.address.model.person.IdentityNumber;
 import seedu.address.model.person.Person;
 
 
@@ -20,23 +34,62 @@ import seedu.address.model.person.Person;
  * However, the removal of an appointment uses Appointment#equals(Object) to ensure that the appointment
  * with exactly the same fields will be removed.
  * <p>
+ * Appointments are additionally indexed by their patient ID and date-time, so that uniqueness checks do not need
+ * to scan the whole list, and by their patient ID alone, so that a patient's appointments can be retrieved
+ * without scanning the appointments of other patients. They are also kept in chronological order, so that the
+ * appointments before, after or between given times can be retrieved without scanning the whole list.
+ * <p>
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
  */
 public class AppointmentList implements Iterable<Appointment> {
 
-    private Person patient;
-    private final ObservableList<Appointment> appointmentList = FXCollections.observableArrayList();
+    private final BatchableObservableList<Appointment> appointmentList = new BatchableObservableList<>();
     private final ObservableList<Appointment> unmodifiableAppointmentList =
             FXCollections.unmodifiableObservableList(appointmentList);
 
+    // Every appointment in appointmentList, keyed by its patient ID and date-time
+    private final Map<AppointmentKey, Appointment> appointmentsByKey = new HashMap<>();
+    // Every appointment in appointmentList, grouped by patient ID in insertion order
+    private final Map<IdentityNumber, List<Appointment>> appointmentsByPatient = new HashMap<>();
+    // Every appointment in appointmentList, in the order of Appointment#CHRONOLOGICAL_ORDER
+    private final NavigableMap<AppointmentKey, Appointment> appointmentsByTime = new TreeMap<>();
+
     /**
      * Returns true if the list contains an equivalent appointment as the given argument.
      */
     public boolean contains(Appointment toCheck) {
         requireNonNull(toCheck);
-        return appointmentList.stream().anyMatch(toCheck::isSameAppointment);
+        return appointmentsByKey.containsKey(new AppointmentKey(toCheck));
+    }
+
+    /**
+     * Returns the appointments of the patient with the given {@code patientId}, in the order they were added.
+     * An edited appointment keeps its place, unless it was moved to another patient.
+     */
+    public List<Appointment> getPatientAppointments(IdentityNumber patientId) {
+        requireNonNull(patientId);
+        List<Appointment> patientAppointments = appointmentsByPatient.get(patientId);
+        return patientAppointments == null ? Collections.emptyList() : List.copyOf(patientAppointments);
+    }
+
+    /**
+     * Returns a chronologically ordered, unmodifiable view of the appointments strictly before {@code time}.
+     */
+    public Collection<Appointment> getAppointmentsBefore(LocalDateTime time) {
+        requireNonNull(time);
+        return Collections.unmodifiableCollection(
+                appointmentsByTime.headMap(AppointmentKey.earliestAt(time), false).values());
+    }
+
+    /**
+     * Returns a chronologically ordered, unmodifiable view of the appointments strictly after {@code time}.
+     */
+    public Collection<Appointment> getAppointmentsAfter(LocalDateTime time) {
+        requireNonNull(time);
+        return Collections.unmodifiableCollection(
+                appointmentsByTime.tailMap(AppointmentKey.earliestAt(time.plusNanos(1)), true).values());
     }
 
     /**
@@ -48,9 +101,28 @@ public class AppointmentList implements Iterable<Appointment> {
         if (contains(toAdd)) {
             throw new DuplicateAppointmentException();
         }
+        index(toAdd);
         appointmentList.add(toAdd);
     }
 
+    /**
+     * Adds {@code toAdd} to the end of the list, in order, as a single change to the list.
+     * None of the appointments may already exist in the list, or appear more than once in {@code toAdd}.
+     */
+    public void addAll(List<Appointment> toAdd) {
+        requireAllNonNull(toAdd);
+        Set<AppointmentKey> addedKeys = new HashSet<>();
+        for (Appointment appointment : toAdd) {
+            AppointmentKey key = new AppointmentKey(appointment);
+            if (appointmentsByKey.containsKey(key) || !addedKeys.add(key)) {
+                throw new DuplicateAppointmentException();
+            }
+        }
+
+        toAdd.forEach(this::index);
+        appointmentList.addAll(toAdd);
+    }
+
     /**
      * Replaces the appointment {@code target} in the list with {@code editedAppointment}.
      * {@code target} must exist in the list.
@@ -59,8 +131,7 @@ public class AppointmentList implements Iterable<Appointment> {
     public void setAppointment(Appointment target, Appointment editedAppointment) {
         requireAllNonNull(target, editedAppointment);
 
-        int index = appointmentList.indexOf(target);
-        if (index == -1) {
+        if (!isInList(target)) {
             throw new AppointmentNotFoundException();
         }
 
@@ -68,6 +139,13 @@ public class AppointmentList implements Iterable<Appointment> {
             throw new DuplicateAppointmentException();
         }
 
+        int index = appointmentList.indexOf(target);
+        if (target.getPatientId().equals(editedAppointment.getPatientId())) {
+            reindex(target, editedAppointment);
+        } else {
+            unindex(target);
+            index(editedAppointment);
+        }
         appointmentList.set(index, editedAppointment);
     }
 
@@ -77,24 +155,37 @@ public class AppointmentList implements Iterable<Appointment> {
      */
     public void remove(Appointment toRemove) {
         requireNonNull(toRemove);
-        if (!appointmentList.remove(toRemove)) {
+        if (!isInList(toRemove)) {
             throw new AppointmentNotFoundException();
         }
+
+        unindex(toRemove);
+        appointmentList.remove(toRemove);
     }
 
     /**
      * Removes the equivalent appointments from the list.
-     * The appointments must exist in the list.
+     * At least one of the appointments must exist in the list.
      */
     public void removeAll(Appointment... toRemove) {
         requireNonNull(toRemove);
-        if (!appointmentList.removeAll(toRemove)) {
+        List<Appointment> existing = new ArrayList<>();
+        for (Appointment appointment : toRemove) {
+            if (isInList(appointment)) {
+                existing.add(appointment);
+                unindex(appointment);
+            }
+        }
+        if (existing.isEmpty()) {
             throw new AppointmentNotFoundException();
         }
+
+        appointmentList.removeAll(existing);
     }
 
     public void setAppointments(AppointmentList replacement) {
         requireNonNull(replacement);
+        reindex(replacement.appointmentList);
         appointmentList.setAll(replacement.appointmentList);
     }
 
@@ -104,13 +195,52 @@ public class AppointmentList implements Iterable<Appointment> {
      */
     public void setAppointments(List<Appointment> appointments) {
         requireAllNonNull(appointments);
-        if (!appointmentsAreUnique(appointments)) {
-            throw new DuplicateAppointmentException();
+        Set<AppointmentKey> replacementKeys = new HashSet<>();
+        for (Appointment appointment : appointments) {
+            if (!replacementKeys.add(new AppointmentKey(appointment))) {
+                throw new DuplicateAppointmentException();
+            }
         }
 
+        reindex(appointments);
         appointmentList.setAll(appointments);
     }
 
+    /**
+     * Replaces the appointments from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) with
+     * {@code appointments}. {@code appointments} must not contain duplicate appointments, or appointments that are
+     * the same as those outside the range.
+     */
+    public void setAppointments(int fromIndex, int toIndex, List<Appointment> appointments) {
+        requireAllNonNull(appointments);
+        Objects.checkFromToIndex(fromIndex, toIndex, appointmentList.size());
+        List<Appointment> replaced = new ArrayList<>(appointmentList.subList(fromIndex, toIndex));
+        Set<AppointmentKey> replacedKeys = new HashSet<>();
+        replaced.forEach(appointment -> replacedKeys.add(new AppointmentKey(appointment)));
+        Set<AppointmentKey> replacementKeys = new HashSet<>();
+        for (Appointment appointment : appointments) {
+            AppointmentKey key = new AppointmentKey(appointment);
+            if (!replacementKeys.add(key) || appointmentsByKey.containsKey(key) && !replacedKeys.contains(key)) {
+                throw new DuplicateAppointmentException();
+            }
+        }
+
+        replaced.forEach(this::unindex);
+        appointments.forEach(this::index);
+        try (Batch batch = appointmentList.startBatch()) {
+            appointmentList.remove(fromIndex, toIndex);
+            appointmentList.addAll(fromIndex, appointments);
+        }
+    }
+
+    /**
+     * Holds back the notifications of changes to this list until the returned {@code Batch} is closed, and then
+     * notifies the listeners of all of them as a single change.
+     */
+    public Batch startBatch() {
+        return appointmentList.startBatch();
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -148,16 +278,109 @@ public class AppointmentList implements Iterable<Appointment> {
     }
 
     /**
-     * Returns true if {@code appointments} contains only unique appointments.
+     * Returns true if an appointment equal to {@code appointment} is in the list.
+     */
+    private boolean isInList(Appointment appointment) {
+        return appointment.equals(appointmentsByKey.get(new AppointmentKey(appointment)));
+    }
+
+    /**
+     * Records {@code appointment} in the lookup indexes.
+     */
+    private void index(Appointment appointment) {
+        AppointmentKey key = new AppointmentKey(appointment);
+        appointmentsByKey.put(key, appointment);
+        appointmentsByTime.put(key, appointment);
+        appointmentsByPatient.computeIfAbsent(appointment.getPatientId(), unused -> new ArrayList<>())
+                .add(appointment);
+    }
+
+    /**
+     * Removes {@code appointment} from the lookup indexes.
+     */
+    private void unindex(Appointment appointment) {
+        AppointmentKey key = new AppointmentKey(appointment);
+        appointmentsByKey.remove(key);
+        appointmentsByTime.remove(key);
+        List<Appointment> patientAppointments = appointmentsByPatient.get(appointment.getPatientId());
+        patientAppointments.remove(appointment);
+        if (patientAppointments.isEmpty()) {
+            appointmentsByPatient.remove(appointment.getPatientId());
+        }
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedAppointment} in the lookup indexes, keeping its place among the
+     * appointments of its patient. Both must have the same patient ID.
      */
-    private boolean appointmentsAreUnique(List<Appointment> appointments) {
-        for (int i = 0; i < appointments.size() - 1; i++) {
-            for (int j = i + 1; j < appointments.size(); j++) {
-                if (appointments.get(i).isSameAppointment(appointments.get(j))) {
-                    return false;
-                }
+    private void reindex(Appointment target, Appointment editedAppointment) {
+        AppointmentKey targetKey = new AppointmentKey(target);
+        appointmentsByKey.remove(targetKey);
+        appointmentsByTime.remove(targetKey);
+        AppointmentKey editedKey = new AppointmentKey(editedAppointment);
+        appointmentsByKey.put(editedKey, editedAppointment);
+        appointmentsByTime.put(editedKey, editedAppointment);
+        List<Appointment> patientAppointments = appointmentsByPatient.get(target.getPatientId());
+        patientAppointments.set(patientAppointments.indexOf(target), editedAppointment);
+    }
+
+    /**
+     * Rebuilds the lookup indexes from {@code appointments}, which must not contain duplicate appointments.
+     */
+    private void reindex(List<Appointment> appointments) {
+        appointmentsByKey.clear();
+        appointmentsByPatient.clear();
+        appointmentsByTime.clear();
+        appointments.forEach(this::index);
+    }
+
+    /**
+     * Identifies an appointment by its date-time and patient ID, matching {@code Appointment#isSameAppointment}.
+     * Keys are ordered in the same way as {@code Appointment#CHRONOLOGICAL_ORDER}.
+     */
+    private static class AppointmentKey implements Comparable<AppointmentKey> {
+        private final LocalDateTime dateTime;
+        private final String patientId;
+
+        AppointmentKey(Appointment appointment) {
+            this(appointment.getDateTime().getDateTime(), appointment.getPatientId().identityNumber);
+        }
+
+        private AppointmentKey(LocalDateTime dateTime, String patientId) {
+            this.dateTime = dateTime;
+            this.patientId = patientId;
+        }
+
+        /**
+         * Returns a key that is ordered before the keys of all appointments at or after {@code dateTime}.
+         */
+        static AppointmentKey earliestAt(LocalDateTime dateTime) {
+            return new AppointmentKey(dateTime, "");
+        }
+
+        @Override
+        public int compareTo(AppointmentKey other) {
+            int dateTimeComparison = dateTime.compareTo(other.dateTime);
+            return dateTimeComparison != 0 ? dateTimeComparison : patientId.compareTo(other.patientId);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
             }
+
+            // instanceof handles nulls
+            if (!(other instanceof AppointmentKey otherKey)) {
+                return false;
+            }
+
+            return dateTime.equals(otherKey.dateTime) && patientId.equals(otherKey.patientId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(dateTime, patientId);
         }
-        return true;
     }
 }
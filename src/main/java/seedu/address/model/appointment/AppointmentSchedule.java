@@ -0,0 +1,152 @@
+package seedu.address.model.appointment;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+/**
+ * Splits appointments into upcoming and past appointments as of a given time, keeping both lists in
+ * {@code Appointment#CHRONOLOGICAL_ORDER}.
+ * An appointment is upcoming if it is after that time, and past otherwise.
+ * <p>
+ * Appointments are inserted and removed by binary search, so that a single change does not re-sort either list.
+ * Advancing the time only moves the appointments that crossed it from the front of the upcoming list to the end
+ * of the past list.
+ */
+public class AppointmentSchedule {
+
+    private final ObservableList<Appointment> upcomingAppointments = FXCollections.observableArrayList();
+    private final ObservableList<Appointment> unmodifiableUpcomingAppointments =
+            FXCollections.unmodifiableObservableList(upcomingAppointments);
+    private final ObservableList<Appointment> pastAppointments = FXCollections.observableArrayList();
+    private final ObservableList<Appointment> unmodifiablePastAppointments =
+            FXCollections.unmodifiableObservableList(pastAppointments);
+
+    private LocalDateTime now;
+
+    /**
+     * Creates an empty schedule as of {@code now}.
+     */
+    public AppointmentSchedule(LocalDateTime now) {
+        requireNonNull(now);
+        this.now = now;
+    }
+
+    /**
+     * Returns the time that separates the upcoming appointments from the past appointments.
+     */
+    public LocalDateTime getNow() {
+        return now;
+    }
+
+    /**
+     * Returns the upcoming appointments as an unmodifiable {@code ObservableList}.
+     */
+    public ObservableList<Appointment> getUpcomingAppointments() {
+        return unmodifiableUpcomingAppointments;
+    }
+
+    /**
+     * Returns the past appointments as an unmodifiable {@code ObservableList}.
+     */
+    public ObservableList<Appointment> getPastAppointments() {
+        return unmodifiablePastAppointments;
+    }
+
+    /**
+     * Replaces the contents of the schedule with {@code past} and {@code upcoming}, as of {@code now}.
+     * Both collections must already be in {@code Appointment#CHRONOLOGICAL_ORDER}, {@code past} must only contain
+     * appointments that are not after {@code now}, and {@code upcoming} must only contain appointments after it.
+     */
+    public void setAppointments(Collection<Appointment> past, Collection<Appointment> upcoming, LocalDateTime now) {
+        requireAllNonNull(past, upcoming, now);
+        this.now = now;
+        pastAppointments.setAll(past);
+        upcomingAppointments.setAll(upcoming);
+    }
+
+    /**
+     * Moves the schedule to {@code newNow}.
+     * Upcoming appointments that are no longer after {@code newNow} are moved to the past appointments.
+     * If {@code newNow} is before the current time of the schedule, the schedule is rebuilt instead.
+     */
+    public void advanceTo(LocalDateTime newNow) {
+        requireNonNull(newNow);
+        if (newNow.isBefore(now)) {
+            List<Appointment> appointments = new ArrayList<>(pastAppointments);
+            appointments.addAll(upcomingAppointments);
+            int firstUpcoming = countNotAfter(appointments, newNow);
+            setAppointments(appointments.subList(0, firstUpcoming),
+                    appointments.subList(firstUpcoming, appointments.size()), newNow);
+            return;
+        }
+
+        now = newNow;
+        int crossed = countNotAfter(upcomingAppointments, newNow);
+        if (crossed == 0) {
+            return;
+        }
+        List<Appointment> crossedAppointments = new ArrayList<>(upcomingAppointments.subList(0, crossed));
+        upcomingAppointments.remove(0, crossed);
+        pastAppointments.addAll(crossedAppointments);
+    }
+
+    /**
+     * Adds {@code appointment} to the upcoming or past appointments, depending on how it compares to the current
+     * time of the schedule.
+     */
+    public void add(Appointment appointment) {
+        requireNonNull(appointment);
+        insert(appointment.getDateTime().isAfter(now) ? upcomingAppointments : pastAppointments, appointment);
+    }
+
+    /**
+     * Removes {@code appointment} from the schedule, if present.
+     */
+    public void remove(Appointment appointment) {
+        requireNonNull(appointment);
+        if (!delete(upcomingAppointments, appointment)) {
+            delete(pastAppointments, appointment);
+        }
+    }
+
+    /**
+     * Returns the number of appointments at the front of the chronologically ordered {@code appointments} that are
+     * not after {@code time}.
+     */
+    private static int countNotAfter(List<Appointment> appointments, LocalDateTime time) {
+        int low = 0;
+        int high = appointments.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (appointments.get(mid).getDateTime().isAfter(time)) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    private static void insert(ObservableList<Appointment> appointments, Appointment appointment) {
+        int index = Collections.binarySearch(appointments, appointment, Appointment.CHRONOLOGICAL_ORDER);
+        appointments.add(index < 0 ? -index - 1 : index, appointment);
+    }
+
+    private static boolean delete(ObservableList<Appointment> appointments, Appointment appointment) {
+        int index = Collections.binarySearch(appointments, appointment, Appointment.CHRONOLOGICAL_ORDER);
+        if (index < 0) {
+            return false;
+        }
+        appointments.remove(index);
+        return true;
+    }
+}
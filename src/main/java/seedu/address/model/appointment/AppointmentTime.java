@@ -6,6 +6,7 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.ResolverStyle;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 import seedu.address.model.util.DateTimeParserUtil;
@@ -52,6 +53,22 @@ public class AppointmentTime {
         this.dateTime = DateTimeParserUtil.parseDateTime(dateTime, FORMATTERS);
     }
 
+    private AppointmentTime(LocalDateTime dateTime) {
+        this.dateTime = dateTime;
+    }
+
+    /**
+     * Returns an {@code AppointmentTime} at the specified date and time, to the minute, without formatting and
+     * parsing it.
+     *
+     * @param dateTime The date and time of the appointment. Must not be null.
+     * @throws NullPointerException If {@code dateTime} is null.
+     */
+    public static AppointmentTime fromDateTime(LocalDateTime dateTime) {
+        requireNonNull(dateTime);
+        return new AppointmentTime(dateTime.truncatedTo(ChronoUnit.MINUTES));
+    }
+
     /**
      * Returns true if a given string is a valid dateTime.
      */
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents a person's alcoholic status in the HealthNote address book.
  * Stores a string value, restricted to "Yes" or "No" (case-insensitive).
@@ -12,6 +14,9 @@ public class AlcoholicRecord {
             "Alcoholic record can be any string, and it should not be blank.";
 
     public static final String VALIDATION_REGEX = "[^\\s].*";
+
+    private static final Interner<AlcoholicRecord> INTERNER = new Interner<>(AlcoholicRecord::new);
+
     public final String alcoholicRecord;
 
     /**
@@ -25,6 +30,15 @@ public class AlcoholicRecord {
         this.alcoholicRecord = alcoholicRecord;
     }
 
+    /**
+     * Returns an {@code AlcoholicRecord} of the given value, reusing a previously created instance where possible.
+     *
+     * @param alcoholicRecord A valid alcoholic record.
+     */
+    public static AlcoholicRecord of(String alcoholicRecord) {
+        return INTERNER.intern(alcoholicRecord);
+    }
+
     /**
      * Returns true if a given string is a valid alcoholic record.
      */
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents an Allergy in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidAllergyName(String)}
@@ -17,6 +19,8 @@ public class Allergy {
      */
     public static final String VALIDATION_REGEX = "^[^\\s].*";
 
+    private static final Interner<Allergy> INTERNER = new Interner<>(Allergy::new);
+
     public final String allergyName;
 
     /**
@@ -30,6 +34,15 @@ public class Allergy {
         this.allergyName = allergyName;
     }
 
+    /**
+     * Returns an {@code Allergy} of the given value, reusing a previously created instance where possible.
+     *
+     * @param allergyName A valid allergy name.
+     */
+    public static Allergy of(String allergyName) {
+        return INTERNER.intern(allergyName);
+    }
+
     /**
      * Returns true if a given string is a valid allergy name.
      */
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents a Person's bloodType in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidBloodType(String)}
@@ -18,6 +20,8 @@ public class BloodType {
      */
     public static final String VALIDATION_REGEX = "^[^\\s].*";
 
+    private static final Interner<BloodType> INTERNER = new Interner<>(BloodType::new);
+
     public final String bloodType;
 
     /**
@@ -31,6 +35,15 @@ public class BloodType {
         this.bloodType = bloodType;
     }
 
+    /**
+     * Returns a {@code BloodType} of the given value, reusing a previously created instance where possible.
+     *
+     * @param bloodType A valid blood type.
+     */
+    public static BloodType of(String bloodType) {
+        return INTERNER.intern(bloodType);
+    }
+
     /**
      * Returns true if a given string is a valid blood type.
      */
@@ -38,7 +51,6 @@ public class BloodType {
         return test.matches(VALIDATION_REGEX);
     }
 
-
     @Override
     public String toString() {
         return bloodType;
@@ -85,6 +85,22 @@ public class DateOfBirth {
         this.dateOfBirth = DateParserUtil.parseDate(dateOfBirth, FORMATTERS);
     }
 
+    private DateOfBirth(LocalDate dateOfBirth) {
+        this.dateOfBirth = dateOfBirth;
+    }
+
+    /**
+     * Returns a {@code DateOfBirth} of the given date, without formatting and parsing it.
+     *
+     * @param dateOfBirth A date that is not after today. Must not be null.
+     * @throws IllegalArgumentException If {@code dateOfBirth} is a future date.
+     */
+    public static DateOfBirth fromDate(LocalDate dateOfBirth) {
+        requireNonNull(dateOfBirth);
+        checkArgument(!dateOfBirth.isAfter(LocalDate.now()), MESSAGE_PAST_DATE_CONSTRAINTS);
+        return new DateOfBirth(dateOfBirth);
+    }
+
     /**
      * Returns true if a given string is a valid date format.
      */
@@ -35,8 +35,14 @@ public class EmergencyContact {
      *                             contact in the specified format.
      */
     public EmergencyContact(String relationshipAndPhone) {
+        this(relationshipAndPhone, true);
+    }
+
+    private EmergencyContact(String relationshipAndPhone, boolean isChecked) {
         requireNonNull(relationshipAndPhone);
-        checkArgument(isValidEmergencyContact(relationshipAndPhone), MESSAGE_FORMAT_CONSTRAINTS);
+        if (isChecked) {
+            checkArgument(isValidEmergencyContact(relationshipAndPhone), MESSAGE_FORMAT_CONSTRAINTS);
+        }
 
         String trimmed = relationshipAndPhone.trim();
 
@@ -46,7 +52,16 @@ public class EmergencyContact {
         String phonePart = trimmed.substring(endBracket + 1).trim();
 
         this.relationship = relationshipPart;
-        this.phone = new Phone(phonePart);
+        this.phone = isChecked ? new Phone(phonePart) : Phone.fromTrusted(phonePart);
+    }
+
+    /**
+     * Returns an {@code EmergencyContact} of {@code relationshipAndPhone} without matching it against
+     * {@link #VALIDATION_REGEX}. {@code relationshipAndPhone} must still hold a relationship in brackets followed by
+     * a phone number, or it cannot be split into the two.
+     */
+    public static EmergencyContact fromTrusted(String relationshipAndPhone) {
+        return new EmergencyContact(relationshipAndPhone, false);
     }
 
     /**
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents a Person's gender in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidGender(String)}
@@ -18,6 +20,8 @@ public class Gender {
      */
     public static final String VALIDATION_REGEX = "^[^\\s].*";
 
+    private static final Interner<Gender> INTERNER = new Interner<>(Gender::new);
+
     public final String gender;
 
     /**
@@ -31,6 +35,15 @@ public class Gender {
         this.gender = gender;
     }
 
+    /**
+     * Returns a {@code Gender} of the given value, reusing a previously created instance where possible.
+     *
+     * @param gender A valid gender.
+     */
+    public static Gender of(String gender) {
+        return INTERNER.intern(gender);
+    }
+
     /**
      * Returns true if a given string is a valid gender.
      */
@@ -38,7 +51,6 @@ public class Gender {
         return test.matches(VALIDATION_REGEX);
     }
 
-
     @Override
     public String toString() {
         return gender;
@@ -27,11 +27,24 @@ public class IdentityNumber {
      * @param id A valid id.
      */
     public IdentityNumber(String id) {
+        this(id, true);
+    }
+
+    private IdentityNumber(String id, boolean isChecked) {
         requireNonNull(id);
-        checkArgument(isValidId(id), MESSAGE_CONSTRAINTS);
+        if (isChecked) {
+            checkArgument(isValidId(id), MESSAGE_CONSTRAINTS);
+        }
         this.identityNumber = id.toUpperCase();
     }
 
+    /**
+     * Returns an {@code IdentityNumber} of {@code id} without matching it against {@link #VALIDATION_REGEX}.
+     */
+    public static IdentityNumber fromTrusted(String id) {
+        return new IdentityNumber(id, false);
+    }
+
     /**
      * Returns true if a given string is a valid identity number.
      */
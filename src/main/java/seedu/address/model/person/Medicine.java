@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents a Person's medicine in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidMedicineName(String)}
@@ -18,6 +20,8 @@ public class Medicine {
      */
     public static final String VALIDATION_REGEX = "^[^\\s].*";
 
+    private static final Interner<Medicine> INTERNER = new Interner<>(Medicine::new);
+
     public final String medicine;
 
     /**
@@ -31,6 +35,15 @@ public class Medicine {
         this.medicine = medicine;
     }
 
+    /**
+     * Returns a {@code Medicine} of the given value, reusing a previously created instance where possible.
+     *
+     * @param medicine A valid medicine.
+     */
+    public static Medicine of(String medicine) {
+        return INTERNER.intern(medicine);
+    }
+
     /**
      * Returns true if a given string is a valid medicine.
      */
@@ -38,7 +51,6 @@ public class Medicine {
         return test.matches(VALIDATION_REGEX);
     }
 
-
     @Override
     public boolean equals(Object other) {
         if (other == this) {
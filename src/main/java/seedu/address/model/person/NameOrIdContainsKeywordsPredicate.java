@@ -3,11 +3,11 @@ package seedu.address.model.person;
 import java.util.List;
 import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
- * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
+ * Tests that a {@code Person}'s {@code Name} or {@code IdentityNumber} contains any of the keywords given as a word,
+ * ignoring case in the same way as {@link PersonTokenIndex}.
  */
 public class NameOrIdContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
@@ -16,11 +16,15 @@ public class NameOrIdContainsKeywordsPredicate implements Predicate<Person> {
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Person person) {
         return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword)
-                        || StringUtil.containsWordIgnoreCase(person.getIdentityNumber().identityNumber, keyword));
+                .anyMatch(keyword -> PersonTokenIndex.containsWord(person.getName().fullName, keyword)
+                        || PersonTokenIndex.containsWord(person.getIdentityNumber().identityNumber, keyword));
     }
 
     @Override
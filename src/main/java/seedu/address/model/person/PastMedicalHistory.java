@@ -20,11 +20,25 @@ public class PastMedicalHistory {
      * @param medicalHistory A string representing the past medical history. Can be empty.
      */
     public PastMedicalHistory(String medicalHistory) {
+        this(medicalHistory, true);
+    }
+
+    private PastMedicalHistory(String medicalHistory, boolean isChecked) {
         requireNonNull(medicalHistory);
-        checkArgument(isValidPastMedicalHistory(medicalHistory), MESSAGE_CONSTRAINTS);
+        if (isChecked) {
+            checkArgument(isValidPastMedicalHistory(medicalHistory), MESSAGE_CONSTRAINTS);
+        }
         this.value = medicalHistory;
     }
 
+    /**
+     * Returns a {@code PastMedicalHistory} of {@code medicalHistory} without checking that it starts with a
+     * non-whitespace character.
+     */
+    public static PastMedicalHistory fromTrusted(String medicalHistory) {
+        return new PastMedicalHistory(medicalHistory, false);
+    }
+
     /**
      * Returns true if a given string is a valid past medical history.
      */
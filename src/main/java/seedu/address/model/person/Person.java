@@ -1,9 +1,8 @@
 package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.commons.util.CollectionUtil.toCompactSet;
 
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
@@ -25,14 +24,14 @@ public class Person {
     // Data fields
     private final Address address;
     private final EmergencyContact emergencyContact;
-    private final Set<Tag> tags = new HashSet<>();
-    private final Set<Allergy> allergies = new HashSet<>();
+    private final Set<Tag> tags;
+    private final Set<Allergy> allergies;
     private final BloodType bloodType;
     private final DateOfBirth dateOfBirth;
     private final AlcoholicRecord alcoholicRecord;
     private final Gender gender;
     private final SmokingRecord smokingRecord;
-    private final Set<Medicine> medicines = new HashSet<>();
+    private final Set<Medicine> medicines;
     private final PastMedicalHistory pastMedicalHistory;
 
     /**
@@ -51,14 +50,14 @@ public class Person {
         this.email = email;
         this.address = address;
         this.emergencyContact = emergencyContact;
-        this.tags.addAll(tags);
-        this.allergies.addAll(allergies);
+        this.tags = toCompactSet(tags);
+        this.allergies = toCompactSet(allergies);
         this.dateOfBirth = dateOfBirth;
         this.bloodType = bloodType;
         this.alcoholicRecord = alcoholicRecord;
         this.gender = gender;
         this.smokingRecord = smokingRecord;
-        this.medicines.addAll(medicines);
+        this.medicines = toCompactSet(medicines);
         this.pastMedicalHistory = pastMedicalHistory;
     }
 
@@ -103,7 +102,7 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Allergy> getAllergies() {
-        return Collections.unmodifiableSet(allergies);
+        return allergies;
     }
 
     public Gender getGender() {
@@ -115,7 +114,7 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
     /**
@@ -123,7 +122,7 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Medicine> getMedicines() {
-        return Collections.unmodifiableSet(medicines);
+        return medicines;
     }
 
     public SmokingRecord getSmokingRecord() {
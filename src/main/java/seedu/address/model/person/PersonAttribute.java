@@ -0,0 +1,52 @@
+package seedu.address.model.person;
+
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * A clinical attribute of a {@code Person} that patients can be looked up by.
+ */
+public enum PersonAttribute {
+    ALLERGY(person -> person.getAllergies().stream().map(allergy -> allergy.allergyName),
+            Allergy::isValidAllergyName, Allergy.MESSAGE_CONSTRAINTS),
+    MEDICINE(person -> person.getMedicines().stream().map(medicine -> medicine.medicine),
+            Medicine::isValidMedicineName, Medicine.MESSAGE_CONSTRAINTS),
+    TAG(person -> person.getTags().stream().map(tag -> tag.tagName),
+            Tag::isValidTagName, Tag.MESSAGE_CONSTRAINTS),
+    BLOOD_TYPE(person -> Stream.of(person.getBloodType().bloodType),
+            BloodType::isValidBloodType, BloodType.MESSAGE_CONSTRAINTS),
+    GENDER(person -> Stream.of(person.getGender().gender),
+            Gender::isValidGender, Gender.MESSAGE_CONSTRAINTS);
+
+    private final Function<Person, Stream<String>> valueExtractor;
+    private final Predicate<String> validator;
+    private final String messageConstraints;
+
+    PersonAttribute(Function<Person, Stream<String>> valueExtractor, Predicate<String> validator,
+            String messageConstraints) {
+        this.valueExtractor = valueExtractor;
+        this.validator = validator;
+        this.messageConstraints = messageConstraints;
+    }
+
+    /**
+     * Returns the values of this attribute for {@code person}.
+     */
+    public Stream<String> valuesOf(Person person) {
+        return valueExtractor.apply(person);
+    }
+
+    /**
+     * Returns true if {@code value} is a valid value of this attribute.
+     */
+    public boolean isValidValue(String value) {
+        return validator.test(value);
+    }
+
+    public String getMessageConstraints() {
+        return messageConstraints;
+    }
+}
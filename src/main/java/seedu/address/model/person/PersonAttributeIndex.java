@@ -0,0 +1,99 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Inverted indexes from the values of each {@code PersonAttribute} to the persons having them.
+ * Values are matched case-insensitively.
+ */
+public class PersonAttributeIndex {
+
+    // For each attribute, the identity numbers of the persons having each lower-cased value
+    private final Map<PersonAttribute, Map<String, Set<IdentityNumber>>> postings =
+            new EnumMap<>(PersonAttribute.class);
+
+    /**
+     * Creates an empty index.
+     */
+    public PersonAttributeIndex() {
+        for (PersonAttribute attribute : PersonAttribute.values()) {
+            postings.put(attribute, new HashMap<>());
+        }
+    }
+
+    /**
+     * Records the attribute values of {@code person} in the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        IdentityNumber identityNumber = person.getIdentityNumber();
+        postings.forEach((attribute, attributePostings) -> attribute.valuesOf(person)
+                .forEach(value -> attributePostings.computeIfAbsent(normalize(value), unused -> new HashSet<>())
+                        .add(identityNumber)));
+    }
+
+    /**
+     * Removes the attribute values of {@code person} from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        IdentityNumber identityNumber = person.getIdentityNumber();
+        postings.forEach((attribute, attributePostings) -> attribute.valuesOf(person).forEach(value -> {
+            String normalizedValue = normalize(value);
+            Set<IdentityNumber> posting = attributePostings.get(normalizedValue);
+            if (posting != null) {
+                posting.remove(identityNumber);
+                if (posting.isEmpty()) {
+                    attributePostings.remove(normalizedValue);
+                }
+            }
+        }));
+    }
+
+    /**
+     * Returns the identity numbers of the persons having every value in {@code criteria}.
+     * The cost is proportional to the number of persons having the rarest value, not to the number of persons.
+     *
+     * @param criteria the values to look for, by attribute. Must not be empty.
+     */
+    public Set<IdentityNumber> findAll(Map<PersonAttribute, List<String>> criteria) {
+        requireNonNull(criteria);
+        checkArgument(!criteria.isEmpty(), "Criteria cannot be empty");
+
+        List<Set<IdentityNumber>> matchingPostings = new ArrayList<>();
+        for (Map.Entry<PersonAttribute, List<String>> criterion : criteria.entrySet()) {
+            for (String value : criterion.getValue()) {
+                Set<IdentityNumber> posting = postings.get(criterion.getKey()).get(normalize(value));
+                if (posting == null) {
+                    return new HashSet<>();
+                }
+                matchingPostings.add(posting);
+            }
+        }
+        if (matchingPostings.isEmpty()) {
+            return new HashSet<>();
+        }
+
+        matchingPostings.sort(Comparator.comparingInt(Set::size));
+        Set<IdentityNumber> matches = new HashSet<>(matchingPostings.get(0));
+        for (Set<IdentityNumber> posting : matchingPostings.subList(1, matchingPostings.size())) {
+            matches.removeIf(identityNumber -> !posting.contains(identityNumber));
+        }
+        return matches;
+    }
+
+    static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+}
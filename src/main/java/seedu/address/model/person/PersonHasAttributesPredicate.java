@@ -0,0 +1,68 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Person} has every one of the given attribute values, ignoring case in the same way as
+ * {@link PersonAttributeIndex}.
+ */
+public class PersonHasAttributesPredicate implements Predicate<Person> {
+    private final Map<PersonAttribute, List<String>> criteria;
+
+    /**
+     * Creates a predicate that tests for every value in {@code criteria}.
+     */
+    public PersonHasAttributesPredicate(Map<PersonAttribute, List<String>> criteria) {
+        requireNonNull(criteria);
+        this.criteria = criteria.isEmpty()
+                ? Collections.emptyMap()
+                : Collections.unmodifiableMap(new EnumMap<>(criteria));
+    }
+
+    public Map<PersonAttribute, List<String>> getCriteria() {
+        return criteria;
+    }
+
+    /**
+     * Returns true if there are no values to test for.
+     */
+    public boolean isEmpty() {
+        return criteria.values().stream().allMatch(List::isEmpty);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return criteria.entrySet().stream().allMatch(criterion -> criterion.getValue().stream()
+                .map(PersonAttributeIndex::normalize)
+                .allMatch(value -> criterion.getKey().valuesOf(person)
+                        .map(PersonAttributeIndex::normalize)
+                        .anyMatch(value::equals)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonHasAttributesPredicate otherPredicate)) {
+            return false;
+        }
+
+        return criteria.equals(otherPredicate.criteria);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("criteria", criteria).toString();
+    }
+}
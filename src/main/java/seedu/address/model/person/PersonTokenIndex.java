@@ -0,0 +1,136 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * An inverted index from the words in each person's name and identity number to the persons containing them.
+ * Words are matched case-insensitively, in the same way as {@code NameOrIdContainsKeywordsPredicate}.
+ * <p>
+ * Words are kept in sorted order, so that the words starting with a given prefix are next to each other.
+ * The index may be queried from other threads while it is being modified by a single thread; such queries see
+ * the index as it was at some point during the query.
+ */
+public class PersonTokenIndex {
+
+    // Identity numbers of the persons whose name or identity number contains each lower-cased word
+    private final ConcurrentNavigableMap<String, Set<IdentityNumber>> postings = new ConcurrentSkipListMap<>();
+
+    /**
+     * Records the words of {@code person} in the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (String token : tokensOf(person)) {
+            postings.computeIfAbsent(token, unused -> ConcurrentHashMap.newKeySet()).add(person.getIdentityNumber());
+        }
+    }
+
+    /**
+     * Removes the words of {@code person} from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (String token : tokensOf(person)) {
+            Set<IdentityNumber> posting = postings.get(token);
+            if (posting != null) {
+                posting.remove(person.getIdentityNumber());
+                if (posting.isEmpty()) {
+                    postings.remove(token, posting);
+                }
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with the words of {@code persons}.
+     */
+    public void setPersons(Iterable<Person> persons) {
+        requireNonNull(persons);
+        postings.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the identity numbers of the persons whose name or identity number contains any of {@code keywords}.
+     */
+    public Set<IdentityNumber> findAny(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<IdentityNumber> matches = new HashSet<>();
+        for (String keyword : keywords) {
+            Set<IdentityNumber> posting = postings.get(normalize(keyword));
+            if (posting != null) {
+                matches.addAll(posting);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the identity numbers of the persons whose name or identity number contains a word starting with any of
+     * {@code prefixes}, stopping once {@code limit} persons are found.
+     */
+    public Set<IdentityNumber> findAnyByPrefix(Collection<String> prefixes, int limit) {
+        requireNonNull(prefixes);
+        Set<IdentityNumber> matches = new LinkedHashSet<>();
+        for (String prefix : prefixes) {
+            String normalizedPrefix = normalize(prefix);
+            if (normalizedPrefix.isEmpty()) {
+                continue;
+            }
+            for (Map.Entry<String, Set<IdentityNumber>> entry : postings.tailMap(normalizedPrefix).entrySet()) {
+                if (!entry.getKey().startsWith(normalizedPrefix)) {
+                    break;
+                }
+                for (IdentityNumber identityNumber : entry.getValue()) {
+                    if (matches.size() >= limit) {
+                        return matches;
+                    }
+                    matches.add(identityNumber);
+                }
+            }
+        }
+        return matches;
+    }
+
+    private static Set<String> tokensOf(Person person) {
+        Set<String> tokens = new HashSet<>();
+        addTokens(tokens, person.getName().fullName);
+        addTokens(tokens, person.getIdentityNumber().identityNumber);
+        return tokens;
+    }
+
+    /**
+     * Returns true if {@code text} contains {@code keyword} as a word, matched in the same way as by this index.
+     */
+    static boolean containsWord(String text, String keyword) {
+        String normalizedKeyword = normalize(keyword);
+        for (String word : text.split("\\s+")) {
+            if (!word.isEmpty() && normalize(word).equals(normalizedKeyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void addTokens(Set<String> tokens, String text) {
+        for (String word : text.split("\\s+")) {
+            if (!word.isEmpty()) {
+                tokens.add(normalize(word));
+            }
+        }
+    }
+
+    private static String normalize(String word) {
+        return word.trim().toLowerCase(Locale.ROOT);
+    }
+}
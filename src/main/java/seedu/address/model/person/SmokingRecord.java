@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents a Person's smoking record in the HealthNote.
  */
@@ -14,6 +16,9 @@ public class SmokingRecord {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "^[^\\s].*";
+
+    private static final Interner<SmokingRecord> INTERNER = new Interner<>(SmokingRecord::new);
+
     public final String value;
 
     /**
@@ -27,6 +32,15 @@ public class SmokingRecord {
         this.value = record;
     }
 
+    /**
+     * Returns a {@code SmokingRecord} of the given value, reusing a previously created instance where possible.
+     *
+     * @param record A valid smoking record.
+     */
+    public static SmokingRecord of(String record) {
+        return INTERNER.intern(record);
+    }
+
     /**
      * Returns true if a given string is a valid smoking record.
      */
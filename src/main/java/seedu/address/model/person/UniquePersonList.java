@@ -3,11 +3,21 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.BatchableObservableList;
+import seedu.address.commons.util.BatchableObservableList.Batch;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 
@@ -18,22 +28,77 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Persons are additionally indexed by their {@code IdentityNumber}, so that identity lookups, duplicate checks
+ * and replacements do not need to scan the whole list, and by the words in their name and identity number, so that
+ * keyword searches do not need to scan the whole list either.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final BatchableObservableList<Person> internalList = new BatchableObservableList<>();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    // Position of each person in internalList, keyed by identity number
+    private final Map<IdentityNumber, Integer> positions = new HashMap<>();
+    private final PersonTokenIndex tokenIndex = new PersonTokenIndex();
+
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return positions.containsKey(toCheck.getIdentityNumber());
+    }
+
+    /**
+     * Returns the person with the given {@code identityNumber}, if present in the list.
+     */
+    public Optional<Person> getPerson(IdentityNumber identityNumber) {
+        requireNonNull(identityNumber);
+        Integer index = positions.get(identityNumber);
+        return index == null ? Optional.empty() : Optional.of(internalList.get(index));
+    }
+
+    /**
+     * Returns the persons in the list with any of {@code identityNumbers}, in list order.
+     * Takes time in proportion to the number of identity numbers, rather than to the size of the list.
+     */
+    public List<Person> getPersons(Collection<IdentityNumber> identityNumbers) {
+        requireNonNull(identityNumbers);
+        int[] indexes = identityNumbers.stream()
+                .map(positions::get)
+                .filter(Objects::nonNull)
+                .mapToInt(Integer::intValue)
+                .sorted()
+                .toArray();
+        List<Person> persons = new ArrayList<>(indexes.length);
+        for (int index : indexes) {
+            persons.add(internalList.get(index));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns the identity numbers of the persons whose name or identity number contains any of {@code keywords},
+     * ignoring case.
+     */
+    public Set<IdentityNumber> findByKeywords(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return tokenIndex.findAny(keywords);
+    }
+
+    /**
+     * Returns the identity numbers of at most {@code limit} persons whose name or identity number contains a word
+     * starting with any of {@code prefixes}, ignoring case.
+     * Unlike the other methods of this class, this may be called from any thread.
+     */
+    public Set<IdentityNumber> findByKeywordPrefixes(Collection<String> prefixes, int limit) {
+        requireNonNull(prefixes);
+        return tokenIndex.findAnyByPrefix(prefixes, limit);
     }
 
     /**
@@ -45,9 +110,31 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        positions.put(toAdd.getIdentityNumber(), internalList.size());
+        tokenIndex.add(toAdd);
         internalList.add(toAdd);
     }
 
+    /**
+     * Adds {@code toAdd} to the end of the list, in order, as a single change to the list.
+     * None of the persons may already exist in the list, or appear more than once in {@code toAdd}.
+     */
+    public void addAll(List<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        Map<IdentityNumber, Integer> addedPositions = new HashMap<>();
+        for (int i = 0; i < toAdd.size(); i++) {
+            IdentityNumber identityNumber = toAdd.get(i).getIdentityNumber();
+            if (positions.containsKey(identityNumber)
+                    || addedPositions.putIfAbsent(identityNumber, internalList.size() + i) != null) {
+                throw new DuplicatePersonException();
+            }
+        }
+
+        positions.putAll(addedPositions);
+        toAdd.forEach(tokenIndex::add);
+        internalList.addAll(toAdd);
+    }
+
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
@@ -56,7 +143,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -65,6 +152,10 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        positions.remove(target.getIdentityNumber());
+        positions.put(editedPerson.getIdentityNumber(), index);
+        tokenIndex.remove(target);
+        tokenIndex.add(editedPerson);
         internalList.set(index, editedPerson);
     }
 
@@ -74,13 +165,25 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        // The positions are updated before the list, so that they are current when its listeners are called
+        positions.remove(toRemove.getIdentityNumber());
+        for (int i = index + 1; i < internalList.size(); i++) {
+            positions.put(internalList.get(i).getIdentityNumber(), i - 1);
+        }
+        tokenIndex.remove(toRemove);
+        internalList.remove(index);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        positions.clear();
+        positions.putAll(replacement.positions);
+        tokenIndex.setPersons(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
@@ -90,13 +193,58 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        Map<IdentityNumber, Integer> replacementPositions = new HashMap<>();
+        for (int i = 0; i < persons.size(); i++) {
+            if (replacementPositions.putIfAbsent(persons.get(i).getIdentityNumber(), i) != null) {
+                throw new DuplicatePersonException();
+            }
         }
 
+        positions.clear();
+        positions.putAll(replacementPositions);
+        tokenIndex.setPersons(persons);
         internalList.setAll(persons);
     }
 
+    /**
+     * Replaces the persons from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) with {@code persons}.
+     * {@code persons} must not contain duplicate persons, or persons that are the same as those outside the range.
+     */
+    public void setPersons(int fromIndex, int toIndex, List<Person> persons) {
+        requireAllNonNull(persons);
+        Objects.checkFromToIndex(fromIndex, toIndex, internalList.size());
+        List<Person> replaced = new ArrayList<>(internalList.subList(fromIndex, toIndex));
+        Set<IdentityNumber> replacedIdentityNumbers = new HashSet<>();
+        replaced.forEach(person -> replacedIdentityNumbers.add(person.getIdentityNumber()));
+        Set<IdentityNumber> replacementIdentityNumbers = new HashSet<>();
+        for (Person person : persons) {
+            IdentityNumber identityNumber = person.getIdentityNumber();
+            if (!replacementIdentityNumbers.add(identityNumber)
+                    || positions.containsKey(identityNumber) && !replacedIdentityNumbers.contains(identityNumber)) {
+                throw new DuplicatePersonException();
+            }
+        }
+
+        for (Person person : replaced) {
+            positions.remove(person.getIdentityNumber());
+            tokenIndex.remove(person);
+        }
+        persons.forEach(tokenIndex::add);
+        try (Batch batch = internalList.startBatch()) {
+            internalList.remove(fromIndex, toIndex);
+            internalList.addAll(fromIndex, persons);
+            reindexFrom(fromIndex);
+        }
+    }
+
+    /**
+     * Holds back the notifications of changes to this list until the returned {@code Batch} is closed, and then
+     * notifies the listeners of all of them as a single change.
+     */
+    public Batch startBatch() {
+        return internalList.startBatch();
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -135,16 +283,19 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the position of the person that is equal to {@code person} in the backing list, or -1 if absent.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
-            }
+    private int indexOf(Person person) {
+        Integer index = positions.get(person.getIdentityNumber());
+        return index != null && internalList.get(index).equals(person) ? index : -1;
+    }
+
+    /**
+     * Refreshes the recorded positions of all persons at or after {@code fromIndex} in the backing list.
+     */
+    private void reindexFrom(int fromIndex) {
+        for (int i = fromIndex; i < internalList.size(); i++) {
+            positions.put(internalList.get(i).getIdentityNumber(), i);
         }
-        return true;
     }
 }
@@ -33,38 +33,38 @@ public class SampleDataUtil {
             new Person(new Name("Alex Yeoh"), new IdentityNumber("ALY123"), new Phone("87438807"),
                 new Email("alexyeoh@example.com"), new Address("Blk 30 Geylang Street 29, #06-40"),
                 new EmergencyContact("[Mother] +65 28937632"),
-                getTagSet("urgent"), new DateOfBirth("01-01-1998"), new BloodType("AB"),
-                new AlcoholicRecord("Social drinker"), new Gender("M"), new SmokingRecord("Heavy smoker"),
+                getTagSet("urgent"), new DateOfBirth("01-01-1998"), BloodType.of("AB"),
+                AlcoholicRecord.of("Social drinker"), Gender.of("M"), SmokingRecord.of("Heavy smoker"),
                 getAllergySet("nuts"), new PastMedicalHistory("Diabetes"), getMedicineSet("antidepressents")),
             new Person(new Name("Bernice Yu"), new IdentityNumber("BY6767"), new Phone("99272758"),
                 new Email("berniceyu@example.com"), new Address("Blk 30 Lorong 3 Serangoon Gardens, #07-18"),
                 new EmergencyContact("[Mother] +60 1296739024"),
-                getTagSet("VIP", "urgent"), new DateOfBirth("02-02-1999"), new BloodType("AB"),
-                new AlcoholicRecord("Occasional"), new Gender("F"), new SmokingRecord("Non-smoker"),
+                getTagSet("VIP", "urgent"), new DateOfBirth("02-02-1999"), BloodType.of("AB"),
+                AlcoholicRecord.of("Occasional"), Gender.of("F"), SmokingRecord.of("Non-smoker"),
                 getAllergySet("nuts"), new PastMedicalHistory("None"), getMedicineSet("antidepressents")),
             new Person(new Name("Charlotte Oliveiro"), new IdentityNumber("CO6969"), new Phone("93210283"),
                 new Email("charlotte@example.com"), new Address("Blk 11 Ang Mo Kio Street 74, #11-04"),
                 new EmergencyContact("[Father] 47592832"),
-                getTagSet("urgent"), new DateOfBirth("03-03-2000"), new BloodType("AB"),
-                new AlcoholicRecord("Never"), new Gender("F"), new SmokingRecord("Non-smoker"),
+                getTagSet("urgent"), new DateOfBirth("03-03-2000"), BloodType.of("AB"),
+                AlcoholicRecord.of("Never"), Gender.of("F"), SmokingRecord.of("Non-smoker"),
                 getAllergySet("nuts"), new PastMedicalHistory("Hypertension"), getMedicineSet("antidepressents")),
             new Person(new Name("David Li"), new IdentityNumber("DL6767"), new Phone("91031282"),
                 new Email("lidavid@example.com"), new Address("Blk 436 Serangoon Gardens Street 26, #16-43"),
                 new EmergencyContact("[Someone] +5521351231"),
-                getTagSet("urgent"), new DateOfBirth("04-04-2001"), new BloodType("AB"),
-                new AlcoholicRecord("Yes"), new Gender("M"), new SmokingRecord("Quitter"),
+                getTagSet("urgent"), new DateOfBirth("04-04-2001"), BloodType.of("AB"),
+                AlcoholicRecord.of("Yes"), Gender.of("M"), SmokingRecord.of("Quitter"),
                 getAllergySet("nuts"), new PastMedicalHistory("Asthma"), getMedicineSet("antidepressents")),
             new Person(new Name("Irfan Ibrahim"), new IdentityNumber("II6767"), new Phone("92492021"),
                 new Email("irfan@example.com"), new Address("Blk 47 Tampines Street 20, #17-35"),
                 new EmergencyContact("[Another person] +429-482-3834"),
-                getTagSet("urgent"), new DateOfBirth("05-05-2002"), new BloodType("AB"),
-                new AlcoholicRecord("Former drinker"), new Gender("M"), new SmokingRecord("Occasional smoker"),
+                getTagSet("urgent"), new DateOfBirth("05-05-2002"), BloodType.of("AB"),
+                AlcoholicRecord.of("Former drinker"), Gender.of("M"), SmokingRecord.of("Occasional smoker"),
                 getAllergySet("nuts"), new PastMedicalHistory("None"), getMedicineSet("antidepressents")),
             new Person(new Name("Roy Balakrishnan"), new IdentityNumber("RB6767"),
                 new Phone("92624417"), new Email("royb@example.com"), new Address("Blk 45 Aljunied Street 85, #11-31"),
                 new EmergencyContact("[Another person] +429-482-3834"),
-                getTagSet("VIP"), new DateOfBirth("06-06-2003"), new BloodType("AB"),
-                new AlcoholicRecord("Yes"), new Gender("M"), new SmokingRecord("Non-smoker"),
+                getTagSet("VIP"), new DateOfBirth("06-06-2003"), BloodType.of("AB"),
+                AlcoholicRecord.of("Yes"), Gender.of("M"), SmokingRecord.of("Non-smoker"),
                 getAllergySet("nuts"), new PastMedicalHistory("None"), getMedicineSet("antidepressents"))
         };
     }
@@ -82,7 +82,7 @@ public class SampleDataUtil {
      */
     public static Set<Tag> getTagSet(String... strings) {
         return Arrays.stream(strings)
-                .map(Tag::new)
+                .map(Tag::of)
                 .collect(Collectors.toSet());
     }
 
@@ -91,7 +91,7 @@ public class SampleDataUtil {
      */
     public static Set<Allergy> getAllergySet(String... strings) {
         return Arrays.stream(strings)
-                .map(Allergy::new)
+                .map(Allergy::of)
                 .collect(Collectors.toSet());
     }
 
@@ -100,7 +100,7 @@ public class SampleDataUtil {
      */
     public static Set<Medicine> getMedicineSet(String... strings) {
         return Arrays.stream(strings)
-                .map(Medicine::new)
+                .map(Medicine::of)
                 .collect(Collectors.toSet());
     }
 
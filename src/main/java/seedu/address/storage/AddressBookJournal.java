@@ -0,0 +1,278 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.zip.CRC32C;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.BatchableObservableList.Batch;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * An append-only file of the changes made to an address book since its snapshot was last saved, with one
+ * {@link JsonAdaptedJournalEntry} per line.
+ * <p>
+ * The first line of the journal identifies the snapshot file that the changes apply to by its size and a CRC32C
+ * checksum of its contents, so that the journal still applies to the snapshot after both are copied or restored
+ * together, whatever their last modified times. A journal left behind by a crash after a new snapshot was saved, but
+ * before the journal was reset, therefore no longer matches that snapshot and is not applied to it a second time.
+ * Journals written by earlier versions identify the snapshot by its size and last modified time instead. They are
+ * still replayed, but not appended to. A last line that was only partially written before a crash is discarded.
+ */
+class AddressBookJournal {
+
+    public static final String JOURNAL_FILE_EXTENSION = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookJournal.class);
+    private static final byte LINE_SEPARATOR = '\n';
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Path filePath;
+    private int entryCount;
+    private boolean isCurrent;
+
+    /**
+     * Creates a journal stored at {@code filePath}.
+     */
+    AddressBookJournal(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the path of the journal kept next to the snapshot at {@code snapshotFilePath}, which has the same
+     * name as the snapshot but with the extension replaced by {@link #JOURNAL_FILE_EXTENSION}.
+     */
+    static Path getJournalFilePath(Path snapshotFilePath) {
+        String fileName = snapshotFilePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        return snapshotFilePath.resolveSibling(baseName + JOURNAL_FILE_EXTENSION);
+    }
+
+    Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the number of changes in the journal, as of the last replay, reset or append.
+     */
+    int getEntryCount() {
+        return entryCount;
+    }
+
+    /**
+     * Returns true if the journal, as of the last replay or reset, identifies its snapshot by checksum, and can
+     * therefore have more changes appended to it.
+     */
+    boolean isCurrent() {
+        return isCurrent;
+    }
+
+    /**
+     * Returns the header of the journal if it exists and records changes to the snapshot currently at
+     * {@code snapshotFilePath}, or null otherwise.
+     */
+    private JsonAdaptedJournalHeader readHeaderFor(Path snapshotFilePath) throws IOException {
+        if (!Files.exists(filePath) || !Files.exists(snapshotFilePath)) {
+            return null;
+        }
+        String headerLine;
+        try (BufferedReader reader = Files.newBufferedReader(filePath, UTF_8)) {
+            headerLine = reader.readLine();
+        }
+        if (headerLine == null) {
+            return null;
+        }
+        JsonAdaptedJournalHeader header = readHeader(headerLine);
+        return header.matches(snapshotFilePath) ? header : null;
+    }
+
+    /**
+     * Returns {@code snapshot}, which must hold the data of the snapshot at {@code snapshotFilePath}, with the changes
+     * in the journal made to it. {@code snapshot} itself is returned if the journal records no changes to that
+     * snapshot, and is otherwise copied into an {@code AddressBook} to make the changes, unless it is one already.
+     *
+     * @throws DataLoadingException if the journal could not be read, or a change could not be made.
+     */
+    ReadOnlyAddressBook replay(ReadOnlyAddressBook snapshot, Path snapshotFilePath) throws DataLoadingException {
+        requireNonNull(snapshot);
+        requireNonNull(snapshotFilePath);
+
+        try {
+            isCurrent = false;
+            JsonAdaptedJournalHeader header = readHeaderFor(snapshotFilePath);
+            if (header == null) {
+                if (Files.exists(filePath)) {
+                    logger.warning("Journal " + filePath + " does not match " + snapshotFilePath + " and is ignored.");
+                }
+                entryCount = 0;
+                return snapshot;
+            }
+            isCurrent = header.hasChecksum();
+
+            byte[] content = Files.readAllBytes(filePath);
+            int end = discardPartialLastLine(content);
+            String[] lines = new String(content, 0, end, UTF_8).split("\n");
+            if (lines.length <= 1) {
+                entryCount = 0;
+                return snapshot;
+            }
+
+            AddressBook addressBook = snapshot instanceof AddressBook snapshotAddressBook
+                    ? snapshotAddressBook
+                    : new AddressBook(snapshot);
+            try (Batch batch = addressBook.startBatch()) {
+                for (int i = 1; i < lines.length; i++) {
+                    JsonUtil.fromJsonString(lines[i], JsonAdaptedJournalEntry.class).applyTo(addressBook);
+                }
+            }
+            entryCount = lines.length - 1;
+            logger.info("Replayed " + entryCount + " changes from journal " + filePath);
+            return addressBook;
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Error replaying journal " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Replaces the journal with an empty journal for the snapshot currently at {@code snapshotFilePath}.
+     */
+    void reset(Path snapshotFilePath) throws IOException {
+        requireNonNull(snapshotFilePath);
+        Path tempFilePath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        FileUtil.createParentDirsOfFile(tempFilePath);
+        String header = JsonUtil.toCompactJsonString(JsonAdaptedJournalHeader.of(snapshotFilePath));
+        Files.write(tempFilePath, (header + (char) LINE_SEPARATOR).getBytes(UTF_8));
+        Files.move(tempFilePath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        entryCount = 0;
+        isCurrent = true;
+    }
+
+    /**
+     * Appends {@code entries} to the journal, and waits for them to be written to the storage device.
+     * The journal must have been replayed or reset before.
+     */
+    void append(List<JsonAdaptedJournalEntry> entries) throws IOException {
+        requireNonNull(entries);
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalEntry entry : entries) {
+            lines.append(JsonUtil.toCompactJsonString(entry)).append((char) LINE_SEPARATOR);
+        }
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+        entryCount += entries.size();
+    }
+
+    /**
+     * Truncates the journal after its last complete line, if {@code content} ends with a partially written line.
+     *
+     * @return the length of {@code content} without the partially written line.
+     */
+    private int discardPartialLastLine(byte[] content) throws IOException {
+        int end = content.length;
+        while (end > 0 && content[end - 1] != LINE_SEPARATOR) {
+            end--;
+        }
+        if (end < content.length) {
+            logger.warning("Discarding partially written last change in journal " + filePath);
+            try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.WRITE)) {
+                channel.truncate(end);
+            }
+        }
+        return end;
+    }
+
+    private static JsonAdaptedJournalHeader readHeader(String headerLine) throws IOException {
+        return JsonUtil.fromJsonString(headerLine, JsonAdaptedJournalHeader.class);
+    }
+
+    /**
+     * Returns the CRC32C checksum of the contents of {@code file}.
+     */
+    private static long computeChecksum(Path file) throws IOException {
+        CRC32C checksum = new CRC32C();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                checksum.update(buffer);
+                buffer.clear();
+            }
+        }
+        return checksum.getValue();
+    }
+
+    /**
+     * Jackson-friendly identification of the snapshot file that a journal applies to.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    static class JsonAdaptedJournalHeader {
+        private final long snapshotSize;
+        private final Long snapshotChecksum;
+        // Only written by earlier versions, which did not write the checksum
+        private final Long snapshotLastModified;
+
+        @JsonCreator
+        JsonAdaptedJournalHeader(@JsonProperty("snapshotSize") long snapshotSize,
+                                 @JsonProperty("snapshotChecksum") Long snapshotChecksum,
+                                 @JsonProperty("snapshotLastModified") Long snapshotLastModified) {
+            this.snapshotSize = snapshotSize;
+            this.snapshotChecksum = snapshotChecksum;
+            this.snapshotLastModified = snapshotLastModified;
+        }
+
+        static JsonAdaptedJournalHeader of(Path snapshotFilePath) throws IOException {
+            return new JsonAdaptedJournalHeader(Files.size(snapshotFilePath), computeChecksum(snapshotFilePath), null);
+        }
+
+        boolean hasChecksum() {
+            return snapshotChecksum != null;
+        }
+
+        /**
+         * Returns true if this header identifies the snapshot currently at {@code snapshotFilePath}.
+         * The snapshot is only read to compute its checksum if it has the size in this header.
+         */
+        boolean matches(Path snapshotFilePath) throws IOException {
+            if (Files.size(snapshotFilePath) != snapshotSize) {
+                return false;
+            }
+            if (hasChecksum()) {
+                return computeChecksum(snapshotFilePath) == snapshotChecksum;
+            }
+            return snapshotLastModified != null
+                    && Files.getLastModifiedTime(snapshotFilePath).toMillis() == snapshotLastModified;
+        }
+    }
+}
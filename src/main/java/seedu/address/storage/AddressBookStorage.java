@@ -42,4 +42,29 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Starts tracking the changes made to {@code addressBook}, so that saving it later only needs to save those
+     * changes, if the storage supports it. {@code addressBook} must hold the data last read from or saved to the
+     * storage.
+     */
+    void trackAddressBook(ReadOnlyAddressBook addressBook);
+
+    /**
+     * Starts tracking the changes made to {@code addressBook} as {@link #trackAddressBook(ReadOnlyAddressBook)} does,
+     * where {@code addressBook} holds the data loaded when the app started, and is not saved again until it changes.
+     * {@code isDataFileRead} is false if {@code addressBook} does not hold the data of the data file, because the data
+     * file is missing or could not be read, in which case the data file is backed up, as a later save replaces it.
+     *
+     * @throws IOException if there was any problem backing up the data file.
+     */
+    void trackLoadedAddressBook(ReadOnlyAddressBook addressBook, boolean isDataFileRead) throws IOException;
+
+    /**
+     * Saves the whole of the given {@link ReadOnlyAddressBook} to the data file, if some of its changes were saved
+     * separately from the data file, so that the data file holds all of the saved data on its own.
+     * @param addressBook cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void compactAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
+
 }
@@ -0,0 +1,224 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * The binary data file format written by {@link BinaryAddressBookWriter} and read by {@link BinaryAddressBookReader}.
+ * <p>
+ * A binary data file starts with {@link #MAGIC_HEADER} and the {@link #FORMAT_VERSION}, followed by three sections:
+ * <ol>
+ *     <li>the dictionary: every distinct value of the low-cardinality fields of the persons, such as blood types,
+ *     genders, tags, allergies and medicines, which the persons refer to by their index in the dictionary,</li>
+ *     <li>the persons, and</li>
+ *     <li>the appointments, each with its time stored as minutes since the epoch.</li>
+ * </ol>
+ * The dictionary is a single record, and each of the other sections is a count followed by one record per element.
+ * Each record is prefixed with its length in bytes. Numbers are written as variable-length integers, with 7 bits in
+ * each byte and the high bit set on every byte but the last, and strings as their length in bytes followed by their
+ * UTF-8 encoding.
+ */
+final class BinaryAddressBookFormat {
+
+    /** The first bytes of every binary data file, which cannot start a text file. */
+    static final byte[] MAGIC_HEADER = {(byte) 0x89, 'H', 'N', 'B'};
+    static final int FORMAT_VERSION = 1;
+
+    static final String MESSAGE_CORRUPTED_RECORD = "The data file is corrupted: a record is not %d bytes long";
+    static final String MESSAGE_TRUNCATED = "The data file ends in the middle of a record";
+    static final String MESSAGE_INVALID_NUMBER = "The data file is corrupted: invalid number";
+
+    private BinaryAddressBookFormat() {}
+
+    /**
+     * Returns true if the file at {@code filePath} starts with {@link #MAGIC_HEADER}.
+     *
+     * @throws IOException if the file could not be read.
+     */
+    static boolean hasMagicHeader(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        try (InputStream in = Files.newInputStream(filePath)) {
+            return Arrays.equals(in.readNBytes(MAGIC_HEADER.length), MAGIC_HEADER);
+        }
+    }
+
+    /**
+     * Writes {@code value} to {@code out} as a variable-length integer.
+     */
+    static void writeVarLong(OutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    /**
+     * Reads a variable-length integer that fits in an {@code int} from {@code in}.
+     *
+     * @throws EOFException if {@code in} ends before the integer does.
+     */
+    static int readVarInt(InputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            int b = in.read();
+            if (b < 0) {
+                throw new EOFException(MESSAGE_TRUNCATED);
+            }
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return checkedInt(value);
+            }
+        }
+        throw new IOException(MESSAGE_INVALID_NUMBER);
+    }
+
+    private static int checkedInt(long value) throws IOException {
+        if (value > Integer.MAX_VALUE) {
+            throw new IOException(MESSAGE_INVALID_NUMBER);
+        }
+        return (int) value;
+    }
+
+    /**
+     * A growable buffer that a record is encoded into before it is written with its length.
+     */
+    static class RecordEncoder {
+        private byte[] bytes = new byte[256];
+        private int size;
+
+        /**
+         * Discards the record encoded so far.
+         */
+        void reset() {
+            size = 0;
+        }
+
+        void writeVarLong(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                bytes[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            bytes[size++] = (byte) value;
+        }
+
+        /**
+         * Writes {@code value}, which may be negative, so that numbers close to zero take few bytes.
+         */
+        void writeSignedVarLong(long value) {
+            writeVarLong((value << 1) ^ (value >> 63));
+        }
+
+        void writeString(String value) {
+            byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(encoded.length);
+            ensureCapacity(encoded.length);
+            System.arraycopy(encoded, 0, bytes, size, encoded.length);
+            size += encoded.length;
+        }
+
+        /**
+         * Writes the record encoded so far to {@code out}, prefixed with its length, and discards it.
+         */
+        void writeRecordTo(OutputStream out) throws IOException {
+            BinaryAddressBookFormat.writeVarLong(out, size);
+            out.write(bytes, 0, size);
+            reset();
+        }
+
+        private void ensureCapacity(int extraBytes) {
+            if (size + extraBytes > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + extraBytes));
+            }
+        }
+    }
+
+    /**
+     * Decodes the fields of one length-prefixed record at a time.
+     */
+    static class RecordDecoder {
+        private byte[] bytes = new byte[256];
+        private int position;
+        private int limit;
+
+        /**
+         * Reads the next length-prefixed record from {@code in}, replacing the current record.
+         *
+         * @throws EOFException if {@code in} ends before the record does.
+         */
+        void readRecordFrom(InputStream in) throws IOException {
+            int length = BinaryAddressBookFormat.readVarInt(in);
+            if (length > bytes.length) {
+                bytes = new byte[Math.max(length, bytes.length * 2)];
+            }
+            if (in.readNBytes(bytes, 0, length) != length) {
+                throw new EOFException(MESSAGE_TRUNCATED);
+            }
+            position = 0;
+            limit = length;
+        }
+
+        long readVarLong() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < Long.SIZE; shift += 7) {
+                int b = nextByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IOException(MESSAGE_INVALID_NUMBER);
+        }
+
+        int readVarInt() throws IOException {
+            long value = readVarLong();
+            if (value < 0) {
+                throw new IOException(MESSAGE_INVALID_NUMBER);
+            }
+            return checkedInt(value);
+        }
+
+        /**
+         * Reads a number written with {@link RecordEncoder#writeSignedVarLong(long)}.
+         */
+        long readSignedVarLong() throws IOException {
+            long value = readVarLong();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        String readString() throws IOException {
+            int length = readVarInt();
+            if (length > limit - position) {
+                throw new IOException(String.format(MESSAGE_CORRUPTED_RECORD, limit));
+            }
+            String value = new String(bytes, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+
+        /**
+         * Checks that the whole of the current record has been read.
+         */
+        void checkAtEnd() throws IOException {
+            if (position != limit) {
+                throw new IOException(String.format(MESSAGE_CORRUPTED_RECORD, limit));
+            }
+        }
+
+        private int nextByte() throws IOException {
+            if (position >= limit) {
+                throw new IOException(String.format(MESSAGE_CORRUPTED_RECORD, limit));
+            }
+            return bytes[position++];
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Function;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentNotes;
+import seedu.address.model.appointment.AppointmentTime;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.AlcoholicRecord;
+import seedu.address.model.person.Allergy;
+import seedu.address.model.person.BloodType;
+import seedu.address.model.person.DateOfBirth;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.EmergencyContact;
+import seedu.address.model.person.Gender;
+import seedu.address.model.person.IdentityNumber;
+import seedu.address.model.person.Medicine;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.PastMedicalHistory;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.SmokingRecord;
+import seedu.address.model.tag.Tag;
+import seedu.address.storage.BinaryAddressBookFormat.RecordDecoder;
+
+/**
+ * Reads an {@code AddressBook} from a file in the format of {@link BinaryAddressBookFormat}, converting each person
+ * and appointment into the address book as soon as it is read.
+ * <p>
+ * The persons and appointments are checked against the same constraints, with the same messages, as
+ * {@link JsonAdaptedPerson#toModelType()} and {@link JsonAdaptedAppointment#toModelType()}. Each value in the
+ * dictionary is checked and converted only once, however many persons refer to it.
+ */
+class BinaryAddressBookReader {
+
+    public static final String MESSAGE_NOT_BINARY = "Expected the data file to start with the binary format header";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary data file version: %d";
+    public static final String MESSAGE_INVALID_DICTIONARY_INDEX = "The data file is corrupted: invalid value %d";
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int MIN_YEAR = 1;
+    private static final int MAX_YEAR = 9999;
+
+    private final RecordDecoder decoder = new RecordDecoder();
+    private String[] dictionary;
+    private DictionaryField<BloodType> bloodTypes;
+    private DictionaryField<AlcoholicRecord> alcoholicRecords;
+    private DictionaryField<Gender> genders;
+    private DictionaryField<SmokingRecord> smokingRecords;
+    private DictionaryField<Tag> tags;
+    private DictionaryField<Allergy> allergies;
+    private DictionaryField<Medicine> medicines;
+
+    private BinaryAddressBookReader() {}
+
+    /**
+     * Returns the address book in {@code filePath}.
+     *
+     * @throws IOException if the file could not be read, or is not in the expected binary format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath), BUFFER_SIZE)) {
+            return new BinaryAddressBookReader().read(in);
+        }
+    }
+
+    private AddressBook read(InputStream in) throws IOException, IllegalValueException {
+        if (!Arrays.equals(in.readNBytes(BinaryAddressBookFormat.MAGIC_HEADER.length),
+                BinaryAddressBookFormat.MAGIC_HEADER)) {
+            throw new IOException(MESSAGE_NOT_BINARY);
+        }
+        int version = BinaryAddressBookFormat.readVarInt(in);
+        if (version != BinaryAddressBookFormat.FORMAT_VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        readDictionary(in);
+
+        AddressBook addressBook = new AddressBook();
+        int personCount = BinaryAddressBookFormat.readVarInt(in);
+        for (int i = 0; i < personCount; i++) {
+            decoder.readRecordFrom(in);
+            Person person = decodePerson();
+            decoder.checkAtEnd();
+            if (addressBook.hasPerson(person)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            addressBook.addPerson(person);
+        }
+
+        int appointmentCount = BinaryAddressBookFormat.readVarInt(in);
+        for (int i = 0; i < appointmentCount; i++) {
+            decoder.readRecordFrom(in);
+            Appointment appointment = decodeAppointment();
+            decoder.checkAtEnd();
+            if (addressBook.hasAppointment(appointment)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_APPOINTMENT);
+            }
+            addressBook.addAppointment(appointment);
+        }
+        return addressBook;
+    }
+
+    private void readDictionary(InputStream in) throws IOException {
+        decoder.readRecordFrom(in);
+        dictionary = new String[decoder.readVarInt()];
+        for (int i = 0; i < dictionary.length; i++) {
+            dictionary[i] = decoder.readString();
+        }
+        decoder.checkAtEnd();
+
+        bloodTypes = new DictionaryField<>(BloodType.MESSAGE_CONSTRAINTS, BloodType::of);
+        alcoholicRecords = new DictionaryField<>(AlcoholicRecord.MESSAGE_CONSTRAINTS, AlcoholicRecord::of);
+        genders = new DictionaryField<>(Gender.MESSAGE_CONSTRAINTS, Gender::of);
+        smokingRecords = new DictionaryField<>(SmokingRecord.MESSAGE_CONSTRAINTS, SmokingRecord::of);
+        tags = new DictionaryField<>(Tag.MESSAGE_CONSTRAINTS, Tag::of);
+        allergies = new DictionaryField<>(Allergy.MESSAGE_CONSTRAINTS, Allergy::of);
+        medicines = new DictionaryField<>(Medicine.MESSAGE_CONSTRAINTS, Medicine::of);
+    }
+
+    /**
+     * Decodes the fields of a person in the order in which {@link BinaryAddressBookWriter} encodes them.
+     */
+    private Person decodePerson() throws IOException, IllegalValueException {
+        Name name = toModelType(decoder.readString(), Name.MESSAGE_CONSTRAINTS, Name::new);
+        IdentityNumber identityNumber = toModelType(decoder.readString(), IdentityNumber.MESSAGE_CONSTRAINTS,
+                IdentityNumber::new);
+        Phone phone = toModelType(decoder.readString(), Phone.MESSAGE_CONSTRAINTS, Phone::new);
+        Email email = toModelType(decoder.readString(), Email.MESSAGE_CONSTRAINTS, Email::new);
+        Address address = toModelType(decoder.readString(), Address.MESSAGE_CONSTRAINTS, Address::new);
+        EmergencyContact emergencyContact = toModelType(decoder.readString(),
+                EmergencyContact.MESSAGE_FORMAT_CONSTRAINTS, EmergencyContact::new);
+        DateOfBirth dateOfBirth = decodeDateOfBirth();
+        BloodType bloodType = bloodTypes.get(decoder.readVarInt());
+        AlcoholicRecord alcoholicRecord = alcoholicRecords.get(decoder.readVarInt());
+        Gender gender = genders.get(decoder.readVarInt());
+        SmokingRecord smokingRecord = smokingRecords.get(decoder.readVarInt());
+        PastMedicalHistory pastMedicalHistory = toModelType(decoder.readString(),
+                PastMedicalHistory.MESSAGE_CONSTRAINTS, PastMedicalHistory::new);
+        Set<Tag> personTags = decodeDictionaryValues(tags);
+        Set<Allergy> personAllergies = decodeDictionaryValues(allergies);
+        Set<Medicine> personMedicines = decodeDictionaryValues(medicines);
+
+        return new Person(name, identityNumber, phone, email, address, emergencyContact, personTags, dateOfBirth,
+                bloodType, alcoholicRecord, gender, smokingRecord, personAllergies, pastMedicalHistory,
+                personMedicines);
+    }
+
+    private DateOfBirth decodeDateOfBirth() throws IOException, IllegalValueException {
+        long epochDay = decoder.readSignedVarLong();
+        if (epochDay < LocalDate.of(MIN_YEAR, 1, 1).toEpochDay()
+                || epochDay > LocalDate.of(MAX_YEAR, 12, 31).toEpochDay()) {
+            throw new IllegalValueException(DateOfBirth.MESSAGE_FORMAT_CONSTRAINTS);
+        }
+        LocalDate date = LocalDate.ofEpochDay(epochDay);
+        if (date.isAfter(LocalDate.now())) {
+            throw new IllegalValueException(DateOfBirth.MESSAGE_PAST_DATE_CONSTRAINTS);
+        }
+        return DateOfBirth.fromDate(date);
+    }
+
+    private <T> Set<T> decodeDictionaryValues(DictionaryField<T> field) throws IOException, IllegalValueException {
+        int count = decoder.readVarInt();
+        Set<T> values = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            values.add(field.get(decoder.readVarInt()));
+        }
+        return values;
+    }
+
+    private Appointment decodeAppointment() throws IOException, IllegalValueException {
+        IdentityNumber patientId = toModelType(decoder.readString(), IdentityNumber.MESSAGE_CONSTRAINTS,
+                IdentityNumber::new);
+
+        long epochMinute = decoder.readSignedVarLong();
+        if (epochMinute < LocalDateTime.of(MIN_YEAR, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC) / 60
+                || epochMinute > LocalDateTime.of(MAX_YEAR, 12, 31, 23, 59).toEpochSecond(ZoneOffset.UTC) / 60) {
+            throw new IllegalValueException(AppointmentTime.MESSAGE_FORMAT_CONSTRAINTS);
+        }
+        AppointmentTime time =
+                AppointmentTime.fromDateTime(LocalDateTime.ofEpochSecond(epochMinute * 60, 0, ZoneOffset.UTC));
+
+        AppointmentNotes notes = new AppointmentNotes(decoder.readString());
+        return new Appointment(notes, time, patientId);
+    }
+
+    /**
+     * Returns the model's value of {@code value}, created with {@code factory}, which checks that {@code value} is
+     * valid. The value is checked only by {@code factory}, rather than once more beforehand.
+     *
+     * @throws IllegalValueException with {@code message} if {@code value} is not valid.
+     */
+    private static <T> T toModelType(String value, String message, Function<String, T> factory)
+            throws IllegalValueException {
+        try {
+            return factory.apply(value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(message);
+        }
+    }
+
+    /**
+     * The model's values of a field that the persons refer to by their index in the dictionary, each converted from
+     * the dictionary the first time it is referred to.
+     */
+    private class DictionaryField<T> {
+        private final Object[] values = new Object[dictionary.length];
+        private final String message;
+        private final Function<String, T> factory;
+
+        DictionaryField(String message, Function<String, T> factory) {
+            this.message = message;
+            this.factory = factory;
+        }
+
+        @SuppressWarnings("unchecked")
+        T get(int index) throws IOException, IllegalValueException {
+            if (index >= values.length) {
+                throw new IOException(String.format(MESSAGE_INVALID_DICTIONARY_INDEX, index));
+            }
+            if (values[index] == null) {
+                values[index] = toModelType(dictionary[index], message, factory);
+            }
+            return (T) values[index];
+        }
+    }
+}
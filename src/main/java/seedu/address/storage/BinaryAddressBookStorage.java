@@ -0,0 +1,23 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a file in the format of {@link BinaryAddressBookFormat} on the hard
+ * disk, which is smaller and faster to load and save than the JSON format of {@link JsonAddressBookStorage}.
+ */
+public class BinaryAddressBookStorage extends FileAddressBookStorage {
+
+    public BinaryAddressBookStorage(Path filePath) {
+        super(filePath);
+    }
+
+    @Override
+    protected void writeAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        BinaryAddressBookWriter.write(addressBook, filePath);
+    }
+
+}
@@ -0,0 +1,135 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.person.Person;
+import seedu.address.storage.BinaryAddressBookFormat.RecordEncoder;
+
+/**
+ * Writes an address book to a file in the format of {@link BinaryAddressBookFormat}. Like
+ * {@link JsonAddressBookWriter}, only the element being written and a fixed-size buffer are held in memory, besides
+ * the dictionary.
+ */
+class BinaryAddressBookWriter {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Map<String, Integer> dictionary = new LinkedHashMap<>();
+    private final RecordEncoder encoder = new RecordEncoder();
+
+    private BinaryAddressBookWriter() {}
+
+    /**
+     * Writes {@code addressBook} to {@code filePath}, replacing the file if it exists, and waits for it to be written
+     * to the storage device.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    static void write(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireAllNonNull(addressBook, filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+             OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE)) {
+            new BinaryAddressBookWriter().write(addressBook, out);
+            out.flush();
+            channel.force(false);
+        }
+    }
+
+    private void write(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        out.write(BinaryAddressBookFormat.MAGIC_HEADER);
+        BinaryAddressBookFormat.writeVarLong(out, BinaryAddressBookFormat.FORMAT_VERSION);
+
+        for (Person person : addressBook.getPersonList()) {
+            addToDictionary(person);
+        }
+        encoder.writeVarLong(dictionary.size());
+        for (String value : dictionary.keySet()) {
+            encoder.writeString(value);
+        }
+        encoder.writeRecordTo(out);
+
+        BinaryAddressBookFormat.writeVarLong(out, addressBook.getPersonList().size());
+        for (Person person : addressBook.getPersonList()) {
+            encodePerson(person);
+            encoder.writeRecordTo(out);
+        }
+
+        BinaryAddressBookFormat.writeVarLong(out, addressBook.getAppointmentList().size());
+        for (Appointment appointment : addressBook.getAppointmentList()) {
+            encodeAppointment(appointment);
+            encoder.writeRecordTo(out);
+        }
+    }
+
+    private void addToDictionary(Person person) {
+        addToDictionary(person.getBloodType().bloodType);
+        addToDictionary(person.getAlcoholicRecord().alcoholicRecord);
+        addToDictionary(person.getGender().gender);
+        addToDictionary(person.getSmokingRecord().value);
+        person.getTags().forEach(tag -> addToDictionary(tag.tagName));
+        person.getAllergies().forEach(allergy -> addToDictionary(allergy.allergyName));
+        person.getMedicines().forEach(medicine -> addToDictionary(medicine.medicine));
+    }
+
+    private void addToDictionary(String value) {
+        dictionary.putIfAbsent(value, dictionary.size());
+    }
+
+    /**
+     * Encodes the fields of {@code person} in the order in which {@link BinaryAddressBookReader} decodes them.
+     */
+    private void encodePerson(Person person) {
+        encoder.writeString(person.getName().fullName);
+        encoder.writeString(person.getIdentityNumber().identityNumber);
+        encoder.writeString(person.getPhone().value);
+        encoder.writeString(person.getEmail().value);
+        encoder.writeString(person.getAddress().value);
+        encoder.writeString(person.getEmergencyContact().toString());
+        encoder.writeSignedVarLong(person.getDateOfBirth().dateOfBirth.toEpochDay());
+        encodeDictionaryValue(person.getBloodType().bloodType);
+        encodeDictionaryValue(person.getAlcoholicRecord().alcoholicRecord);
+        encodeDictionaryValue(person.getGender().gender);
+        encodeDictionaryValue(person.getSmokingRecord().value);
+        encoder.writeString(person.getPastMedicalHistory().value);
+        encodeDictionaryValues(person.getTags(), tag -> tag.tagName);
+        encodeDictionaryValues(person.getAllergies(), allergy -> allergy.allergyName);
+        encodeDictionaryValues(person.getMedicines(), medicine -> medicine.medicine);
+    }
+
+    private void encodeDictionaryValue(String value) {
+        encoder.writeVarLong(dictionary.get(value));
+    }
+
+    private <T> void encodeDictionaryValues(Set<T> values, Function<T, String> toDictionaryValue) {
+        encoder.writeVarLong(values.size());
+        for (T value : values) {
+            encodeDictionaryValue(toDictionaryValue.apply(value));
+        }
+    }
+
+    private void encodeAppointment(Appointment appointment) {
+        encoder.writeString(appointment.getPatientId().identityNumber);
+        encoder.writeSignedVarLong(
+                Math.floorDiv(appointment.getDateTime().getDateTime().toEpochSecond(ZoneOffset.UTC), 60));
+        encoder.writeString(appointment.getNotes().fullNotes);
+    }
+}
@@ -0,0 +1,171 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a file on the hard disk, in one of the {@link DataFileFormat}s.
+ * Data files in any of the formats are read, detected from their first bytes, and subclasses choose the format in
+ * which the data file is written.
+ */
+public abstract class FileAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(FileAddressBookStorage.class);
+
+    private Path filePath;
+
+    /**
+     * Creates a {@code FileAddressBookStorage} for the data file at {@code filePath}.
+     */
+    protected FileAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns a {@code FileAddressBookStorage} that writes the data file at {@code filePath} in {@code format}.
+     */
+    public static FileAddressBookStorage of(DataFileFormat format, Path filePath) {
+        return of(format, filePath, FileUtil.NO_COMPRESSION);
+    }
+
+    /**
+     * Returns a {@code FileAddressBookStorage} that writes the data file at {@code filePath} in {@code format}.
+     * A JSON data file is compressed in the gzip format at {@code compressionLevel}, unless it is
+     * {@link FileUtil#NO_COMPRESSION}. A binary data file is never compressed, so that it can be mapped into memory.
+     */
+    public static FileAddressBookStorage of(DataFileFormat format, Path filePath, int compressionLevel) {
+        requireNonNull(format);
+        switch (format) {
+        case BINARY:
+            return new BinaryAddressBookStorage(filePath);
+        case JSON:
+        default:
+            return new JsonAddressBookStorage(filePath, false, compressionLevel);
+        }
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * A JSON data file compressed in the gzip format is decompressed as it is parsed. If the data file is the
+     * manifest of a {@link SegmentedAddressBookStorage}, the address book in its segments is read instead.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        long startTime = System.nanoTime();
+        ReadOnlyAddressBook addressBook;
+        try {
+            if (BinaryAddressBookFormat.hasMagicHeader(filePath)) {
+                addressBook = BinaryAddressBookReader.read(filePath);
+            } else if (SegmentedAddressBookStorage.isManifest(filePath)) {
+                return new SegmentedAddressBookStorage(this, 1).readAddressBook(filePath);
+            } else {
+                addressBook = JsonAddressBookReader.read(filePath);
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from data file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+        logLoadThroughput(filePath, addressBook, System.nanoTime() - startTime);
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Logs how quickly {@code addressBook} was loaded from {@code filePath}, which took {@code elapsedNanos}.
+     */
+    private static void logLoadThroughput(Path filePath, ReadOnlyAddressBook addressBook, long elapsedNanos) {
+        long fileSize;
+        try {
+            fileSize = Files.size(filePath);
+        } catch (IOException e) {
+            fileSize = 0;
+        }
+        int personCount = addressBook.getPersonList().size();
+        int appointmentCount = addressBook.getAppointmentList().size();
+        double elapsedSeconds = Math.max(elapsedNanos, 1) / 1e9;
+        logger.info(String.format("Loaded %d persons and %d appointments (%d bytes) from %s in %d ms: "
+                + "%.0f records/s, %.1f MB/s", personCount, appointmentCount, fileSize, filePath,
+                elapsedNanos / 1_000_000, (personCount + appointmentCount) / elapsedSeconds,
+                fileSize / elapsedSeconds / (1 << 20)));
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        writeAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Writes the whole of {@code addressBook} to {@code filePath}, replacing the file if it exists.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    protected abstract void writeAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
+
+    /**
+     * Does nothing, as every save writes the whole address book.
+     */
+    @Override
+    public void trackAddressBook(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+    }
+
+    @Override
+    public void trackLoadedAddressBook(ReadOnlyAddressBook addressBook, boolean isDataFileRead) throws IOException {
+        requireNonNull(addressBook);
+        if (!isDataFileRead) {
+            FileUtil.backUpIfExists(filePath);
+        }
+    }
+
+    /**
+     * Does nothing, as every save writes the whole address book to the data file.
+     */
+    @Override
+    public void compactAddressBook(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+    }
+
+}
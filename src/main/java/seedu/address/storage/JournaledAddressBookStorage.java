@@ -0,0 +1,448 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.person.Person;
+
+/**
+ * An {@code AddressBookStorage} that saves the changes made to an address book to an {@link AddressBookJournal}
+ * next to the snapshot kept by another {@code AddressBookStorage}, instead of saving the whole address book every
+ * time.
+ * <p>
+ * The changes to the tracked address book are recorded as they are made, and only those changes are appended to the
+ * journal when it is saved. The journal is compacted into a fresh snapshot once it has more changes than the address
+ * book has persons and appointments (but at least {@link #MIN_ENTRIES_BEFORE_COMPACTION}), so that replaying it never
+ * costs much more than reading the snapshot. Changes that cannot be replayed as removals, replacements and additions
+ * to the end of a list, or that are too many to be worth journaling, are saved as a fresh snapshot straight away.
+ * <p>
+ * Besides the tracked address book itself, copies of it made at any version since it was last saved can be saved,
+ * from any thread, so that the files can be written while the tracked address book keeps changing. Only the changes
+ * that lead to the copy's version are then saved.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final int MIN_ENTRIES_BEFORE_COMPACTION = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    // Stands for an unknown version, and compares greater than every version an address book can have
+    private static final long NO_VERSION = Long.MAX_VALUE;
+
+    private final AddressBookStorage snapshotStorage;
+    private final AddressBookJournal journal;
+
+    private final ListChangeListener<Person> personListener = this::recordPersonChanges;
+    private final ListChangeListener<Appointment> appointmentListener = this::recordAppointmentChanges;
+
+    // Held while reading or saving, so that the files are only accessed by one thread at a time
+    private final Object fileLock = new Object();
+
+    // The fields below are guarded by this storage's own lock
+    private ReadOnlyAddressBook trackedAddressBook;
+    // Version of the tracked address book that the pending entries were recorded from
+    private long baseVersion = NO_VERSION;
+    private final List<JsonAdaptedJournalEntry> pendingEntries = new ArrayList<>();
+    // Versions the tracked address book has had since the base version, with the number of pending entries leading
+    // to each of them
+    private final NavigableMap<Long, Integer> pendingVersions = new TreeMap<>();
+    // Earliest version of the tracked address book whose changes were not recorded, or NO_VERSION
+    private long unrecordedVersion = NO_VERSION;
+    // Version of the address book held by the snapshot and journal, or NO_VERSION if it is not known
+    private long savedVersion = NO_VERSION;
+    private boolean isJournalCurrent;
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that keeps its snapshots in {@code snapshotStorage}.
+     */
+    public JournaledAddressBookStorage(AddressBookStorage snapshotStorage) {
+        requireNonNull(snapshotStorage);
+        this.snapshotStorage = snapshotStorage;
+        this.journal = new AddressBookJournal(
+                AddressBookJournal.getJournalFilePath(snapshotStorage.getAddressBookFilePath()));
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    /**
+     * Returns the path of the journal kept next to the snapshot.
+     */
+    public Path getJournalFilePath() {
+        return journal.getFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Returns the data of the snapshot at {@code filePath}, with the changes in the journal next to it replayed.
+     *
+     * @see AddressBookStorage#readAddressBook(Path)
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        boolean isMainFile = filePath.equals(getAddressBookFilePath());
+
+        synchronized (fileLock) {
+            if (isMainFile) {
+                setSavedVersion(NO_VERSION, false);
+            }
+
+            Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+            if (snapshot.isEmpty()) {
+                return snapshot;
+            }
+
+            AddressBookJournal fileJournal = isMainFile
+                    ? journal
+                    : new AddressBookJournal(AddressBookJournal.getJournalFilePath(filePath));
+            ReadOnlyAddressBook addressBook = fileJournal.replay(snapshot.get(), filePath);
+
+            if (isMainFile) {
+                setSavedVersion(addressBook.getVersion(), journal.isCurrent());
+            }
+            return Optional.of(addressBook);
+        }
+    }
+
+    /**
+     * Saves the changes made to {@code addressBook} since it was last saved, if it is the tracked address book or a
+     * copy of it. Otherwise, saves the whole of {@code addressBook} as a fresh snapshot, and tracks it from then on.
+     *
+     * @see #trackAddressBook(ReadOnlyAddressBook)
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+
+        synchronized (fileLock) {
+            PendingChanges changes = getPendingChanges(addressBook);
+            if (changes == null) {
+                trackAddressBook(addressBook);
+                changes = getPendingChanges(addressBook);
+            }
+
+            if (changes.isSnapshotNeeded || journal.getEntryCount() + changes.entries.size()
+                    > getCompactionThreshold(addressBook)) {
+                saveSnapshot(addressBook, changes);
+                return;
+            }
+
+            try {
+                journal.append(changes.entries);
+            } catch (IOException e) {
+                // The journal may now end with some of the changes, so only a fresh snapshot can be trusted
+                setSavedVersion(savedVersion, false);
+                throw e;
+            }
+            markSaved(changes);
+        }
+    }
+
+    /**
+     * Saves the whole of {@code addressBook} to {@code filePath}. If {@code filePath} is the snapshot's file path,
+     * the journal is replaced with an empty one, and {@code addressBook} is tracked from then on unless it is a copy
+     * of the tracked address book.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(getAddressBookFilePath())) {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        synchronized (fileLock) {
+            PendingChanges changes = getPendingChanges(addressBook);
+            if (changes == null) {
+                trackAddressBook(addressBook);
+                changes = getPendingChanges(addressBook);
+            }
+            saveSnapshot(addressBook, changes);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If {@code addressBook} is not a copy of the data last read from or saved to the snapshot's file path, it is
+     * saved as a fresh snapshot the next time it is saved.
+     */
+    @Override
+    public synchronized void trackAddressBook(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        if (addressBook == trackedAddressBook) {
+            return;
+        }
+
+        if (trackedAddressBook != null) {
+            trackedAddressBook.getPersonList().removeListener(personListener);
+            trackedAddressBook.getAppointmentList().removeListener(appointmentListener);
+        }
+        trackedAddressBook = addressBook;
+        baseVersion = addressBook.getVersion();
+        pendingEntries.clear();
+        pendingVersions.clear();
+        unrecordedVersion = NO_VERSION;
+        isJournalCurrent = isJournalCurrent && baseVersion == savedVersion;
+        addressBook.getPersonList().addListener(personListener);
+        addressBook.getAppointmentList().addListener(appointmentListener);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If the data file was read, later changes are appended to its journal. Otherwise, the data file and its journal
+     * are backed up, and the first save after a change writes a fresh snapshot.
+     */
+    @Override
+    public void trackLoadedAddressBook(ReadOnlyAddressBook addressBook, boolean isDataFileRead) throws IOException {
+        requireNonNull(addressBook);
+
+        synchronized (fileLock) {
+            if (!isDataFileRead) {
+                FileUtil.backUpIfExists(getAddressBookFilePath());
+                FileUtil.backUpIfExists(getJournalFilePath());
+            }
+            markLoaded(addressBook, isDataFileRead);
+        }
+    }
+
+    /**
+     * Saves the whole of {@code addressBook} as a fresh snapshot, replacing the journal with an empty one, if it is
+     * the tracked address book or a copy of it, and has changes that are not saved yet, or changes in a journal that
+     * still applies to the snapshot.
+     */
+    @Override
+    public void compactAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+
+        synchronized (fileLock) {
+            PendingChanges changes = getPendingChanges(addressBook);
+            if (changes == null) {
+                return;
+            }
+            if (changes.hasUnsavedChanges || !changes.isSnapshotNeeded && journal.getEntryCount() > 0) {
+                saveSnapshot(addressBook, changes);
+            }
+        }
+    }
+
+    /**
+     * Saves the whole of {@code addressBook} as a fresh snapshot, replacing the journal with an empty one.
+     * {@code changes} are the pending changes that lead to {@code addressBook}, and are no longer pending afterwards.
+     */
+    private void saveSnapshot(ReadOnlyAddressBook addressBook, PendingChanges changes) throws IOException {
+        Path filePath = getAddressBookFilePath();
+        logger.fine("Saving snapshot " + filePath + " and resetting journal " + journal.getFilePath());
+        setSavedVersion(NO_VERSION, false);
+
+        Path tempFilePath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        snapshotStorage.saveAddressBook(addressBook, tempFilePath);
+        try {
+            Files.move(tempFilePath, filePath, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFilePath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+        journal.reset(filePath);
+
+        markSaved(changes);
+    }
+
+    /**
+     * Returns the pending changes that lead from the last saved version of the tracked address book to
+     * {@code addressBook}, or null if {@code addressBook} is neither the tracked address book nor a copy of it made
+     * since that version.
+     */
+    private synchronized PendingChanges getPendingChanges(ReadOnlyAddressBook addressBook) {
+        long version = addressBook.getVersion();
+        int entryCount;
+        if (trackedAddressBook != null && version == baseVersion) {
+            entryCount = 0;
+        } else if (trackedAddressBook != null && pendingVersions.containsKey(version)) {
+            entryCount = pendingVersions.get(version);
+        } else {
+            return null;
+        }
+
+        boolean hasUnrecordedChanges = unrecordedVersion <= version;
+        return new PendingChanges(version, new ArrayList<>(pendingEntries.subList(0, entryCount)),
+                !isJournalCurrent || hasUnrecordedChanges,
+                entryCount > 0 || hasUnrecordedChanges || baseVersion != savedVersion);
+    }
+
+    /**
+     * Tracks {@code addressBook}, which holds the data loaded when the app started, and records that it does not need
+     * to be saved until it changes. Its changes are only appended to the journal if the journal holds the changes
+     * that lead to it.
+     */
+    private synchronized void markLoaded(ReadOnlyAddressBook addressBook, boolean isDataFileRead) {
+        boolean isJournalKept = isDataFileRead && isJournalCurrent;
+        trackAddressBook(addressBook);
+        setSavedVersion(addressBook.getVersion(), isJournalKept);
+    }
+
+    /**
+     * Records that the snapshot and journal hold the address book that {@code changes} lead to.
+     */
+    private synchronized void markSaved(PendingChanges changes) {
+        int savedEntryCount = changes.entries.size();
+        pendingEntries.subList(0, savedEntryCount).clear();
+        pendingVersions.headMap(changes.version, true).clear();
+        pendingVersions.replaceAll((version, entryCount) -> entryCount - savedEntryCount);
+        baseVersion = changes.version;
+        if (unrecordedVersion <= changes.version) {
+            unrecordedVersion = NO_VERSION;
+        }
+        setSavedVersion(changes.version, true);
+    }
+
+    private synchronized void setSavedVersion(long version, boolean isJournalCurrent) {
+        this.savedVersion = version;
+        this.isJournalCurrent = isJournalCurrent;
+    }
+
+    /**
+     * Returns the number of changes the journal may have before it is compacted into a fresh snapshot of
+     * {@code addressBook}.
+     */
+    private static int getCompactionThreshold(ReadOnlyAddressBook addressBook) {
+        return Math.max(MIN_ENTRIES_BEFORE_COMPACTION,
+                addressBook.getPersonList().size() + addressBook.getAppointmentList().size());
+    }
+
+    private synchronized void recordPersonChanges(ListChangeListener.Change<? extends Person> change) {
+        int entryCount = pendingEntries.size();
+        boolean isRecorded = unrecordedVersion == NO_VERSION;
+        while (isRecorded && change.next()) {
+            if (isInPlaceReplacement(change, Person::getIdentityNumber)) {
+                for (int i = 0; i < change.getAddedSize(); i++) {
+                    pendingEntries.add(JsonAdaptedJournalEntry.setPerson(change.getRemoved().get(i),
+                            change.getAddedSubList().get(i)));
+                }
+                continue;
+            }
+            isRecorded = isReplayable(change);
+            change.getRemoved().forEach(person -> pendingEntries.add(JsonAdaptedJournalEntry.removePerson(person)));
+            change.getAddedSubList().forEach(person -> pendingEntries.add(JsonAdaptedJournalEntry.addPerson(person)));
+        }
+        recordVersion(isRecorded, entryCount);
+    }
+
+    private synchronized void recordAppointmentChanges(ListChangeListener.Change<? extends Appointment> change) {
+        int entryCount = pendingEntries.size();
+        boolean isRecorded = unrecordedVersion == NO_VERSION;
+        while (isRecorded && change.next()) {
+            if (isInPlaceReplacement(change, appointment ->
+                    List.of(appointment.getDateTime(), appointment.getPatientId()))) {
+                for (int i = 0; i < change.getAddedSize(); i++) {
+                    pendingEntries.add(JsonAdaptedJournalEntry.setAppointment(change.getRemoved().get(i),
+                            change.getAddedSubList().get(i)));
+                }
+                continue;
+            }
+            isRecorded = isReplayable(change);
+            change.getRemoved().forEach(appointment ->
+                    pendingEntries.add(JsonAdaptedJournalEntry.removeAppointment(appointment)));
+            change.getAddedSubList().forEach(appointment ->
+                    pendingEntries.add(JsonAdaptedJournalEntry.addAppointment(appointment)));
+        }
+        recordVersion(isRecorded, entryCount);
+    }
+
+    /**
+     * Records the version the tracked address book has after a change, for which the entries from
+     * {@code entryCountBefore} onwards were recorded. If the change could not be recorded, or was too big to be worth
+     * journaling, its entries are discarded and no more changes are recorded until a fresh snapshot is saved.
+     */
+    private void recordVersion(boolean isRecorded, int entryCountBefore) {
+        long version = trackedAddressBook.getVersion();
+        if (!isRecorded || pendingEntries.size() > getCompactionThreshold(trackedAddressBook)) {
+            pendingEntries.subList(entryCountBefore, pendingEntries.size()).clear();
+            unrecordedVersion = Math.min(unrecordedVersion, version);
+        }
+        pendingVersions.put(version, pendingEntries.size());
+    }
+
+    /**
+     * Returns true if {@code change} replaced each of its elements in place, such as when several adjacent elements
+     * were set in one batch, so that it can be replayed by setting each removed element to the added element at the
+     * same position in turn. Elements are told apart by {@code identity}; replacements that move an element to
+     * another position of the change, such as swaps, cannot be replayed this way.
+     */
+    private static <T> boolean isInPlaceReplacement(ListChangeListener.Change<? extends T> change,
+                                                    Function<? super T, ?> identity) {
+        if (!change.wasReplaced() || change.getRemovedSize() != change.getAddedSize()) {
+            return false;
+        }
+        if (change.getAddedSize() == 1) {
+            return true;
+        }
+        Map<Object, Integer> removedPositions = new HashMap<>();
+        for (int i = 0; i < change.getRemovedSize(); i++) {
+            removedPositions.put(identity.apply(change.getRemoved().get(i)), i);
+        }
+        for (int i = 0; i < change.getAddedSize(); i++) {
+            Integer position = removedPositions.get(identity.apply(change.getAddedSubList().get(i)));
+            if (position != null && position != i) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code change} can be replayed by removing elements by value and appending the added elements
+     * to the end of the list, which is how the journal replays it.
+     */
+    private static boolean isReplayable(ListChangeListener.Change<?> change) {
+        return !change.wasPermutated() && !change.wasUpdated()
+                && (!change.wasAdded() || change.getTo() == change.getList().size());
+    }
+
+    /**
+     * The changes that lead from the last saved version of the tracked address book to one of its later versions.
+     */
+    private static class PendingChanges {
+        private final long version;
+        private final List<JsonAdaptedJournalEntry> entries;
+        private final boolean isSnapshotNeeded;
+        private final boolean hasUnsavedChanges;
+
+        PendingChanges(long version, List<JsonAdaptedJournalEntry> entries, boolean isSnapshotNeeded,
+                       boolean hasUnsavedChanges) {
+            this.version = version;
+            this.entries = entries;
+            this.isSnapshotNeeded = isSnapshotNeeded;
+            this.hasUnsavedChanges = hasUnsavedChanges;
+        }
+    }
+}
@@ -42,7 +42,7 @@ class JsonAdaptedAllergy {
         if (!Allergy.isValidAllergyName(allergyName)) {
             throw new IllegalValueException(Allergy.MESSAGE_CONSTRAINTS);
         }
-        return new Allergy(allergyName);
+        return Allergy.of(allergyName);
     }
 
 }
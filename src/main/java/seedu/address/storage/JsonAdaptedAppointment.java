@@ -1,5 +1,7 @@
 package seedu.address.storage;
 
+import java.time.LocalDateTime;
+
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
@@ -68,5 +70,23 @@ public class JsonAdaptedAppointment {
 
         return new Appointment(notes, time, patientId);
     }
-}
 
+    /**
+     * Converts this Jackson-friendly adapted appointment object into the model's {@code Appointment} object like
+     * {@link #toModelType()}, but without checking the constraints of its values. Only for appointments written by
+     * {@link JsonAddressBookWriter} in a file that {@link JsonAddressBookReader#isTrusted is trusted}.
+     *
+     * @throws IllegalValueException if the values could not be converted, as they were not written by
+     *     {@code JsonAddressBookWriter}.
+     */
+    Appointment toTrustedModelType() throws IllegalValueException {
+        try {
+            return new Appointment(new AppointmentNotes(notes), AppointmentTime.fromDateTime(
+                    LocalDateTime.parse(time, AppointmentTime.DATE_TIME_FORMATTER)),
+                    IdentityNumber.fromTrusted(patientId));
+        } catch (RuntimeException e) {
+            // Values that were not written by JsonAddressBookWriter can fail in any way without their checks
+            throw new IllegalValueException(e.toString(), e);
+        }
+    }
+}
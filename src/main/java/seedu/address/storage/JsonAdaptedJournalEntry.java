@@ -0,0 +1,189 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.exceptions.AppointmentNotFoundException;
+import seedu.address.model.appointment.exceptions.DuplicateAppointmentException;
+import seedu.address.model.person.IdentityNumber;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of a single change to an {@link AddressBook}, as recorded in an {@link AddressBookJournal}.
+ */
+class JsonAdaptedJournalEntry {
+
+    public static final String MESSAGE_INVALID_OPERATION = "Journal entry has an invalid operation: %s";
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal entry's %s field is missing!";
+    public static final String MESSAGE_PERSON_NOT_FOUND = "Journal entry refers to a person that does not exist: %s";
+    public static final String MESSAGE_APPOINTMENT_NOT_FOUND =
+            "Journal entry refers to an appointment that does not exist.";
+
+    /**
+     * The kinds of changes that can be recorded.
+     */
+    enum Operation {
+        ADD_PERSON, SET_PERSON, REMOVE_PERSON, ADD_APPOINTMENT, SET_APPOINTMENT, REMOVE_APPOINTMENT
+    }
+
+    private final String operation;
+    private final String personId;
+    private final JsonAdaptedPerson person;
+    private final JsonAdaptedAppointment targetAppointment;
+    private final JsonAdaptedAppointment appointment;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given entry details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("operation") String operation,
+                                   @JsonProperty("personId") String personId,
+                                   @JsonProperty("person") JsonAdaptedPerson person,
+                                   @JsonProperty("targetAppointment") JsonAdaptedAppointment targetAppointment,
+                                   @JsonProperty("appointment") JsonAdaptedAppointment appointment) {
+        this.operation = operation;
+        this.personId = personId;
+        this.person = person;
+        this.targetAppointment = targetAppointment;
+        this.appointment = appointment;
+    }
+
+    /**
+     * Returns an entry recording that {@code person} was added.
+     */
+    public static JsonAdaptedJournalEntry addPerson(Person person) {
+        return new JsonAdaptedJournalEntry(Operation.ADD_PERSON.name(), null, new JsonAdaptedPerson(person),
+                null, null);
+    }
+
+    /**
+     * Returns an entry recording that {@code target} was replaced with {@code editedPerson}.
+     */
+    public static JsonAdaptedJournalEntry setPerson(Person target, Person editedPerson) {
+        return new JsonAdaptedJournalEntry(Operation.SET_PERSON.name(), target.getIdentityNumber().identityNumber,
+                new JsonAdaptedPerson(editedPerson), null, null);
+    }
+
+    /**
+     * Returns an entry recording that {@code person} was removed.
+     */
+    public static JsonAdaptedJournalEntry removePerson(Person person) {
+        return new JsonAdaptedJournalEntry(Operation.REMOVE_PERSON.name(), person.getIdentityNumber().identityNumber,
+                null, null, null);
+    }
+
+    /**
+     * Returns an entry recording that {@code appointment} was added.
+     */
+    public static JsonAdaptedJournalEntry addAppointment(Appointment appointment) {
+        return new JsonAdaptedJournalEntry(Operation.ADD_APPOINTMENT.name(), null, null, null,
+                new JsonAdaptedAppointment(appointment));
+    }
+
+    /**
+     * Returns an entry recording that {@code target} was replaced with {@code editedAppointment}.
+     */
+    public static JsonAdaptedJournalEntry setAppointment(Appointment target, Appointment editedAppointment) {
+        return new JsonAdaptedJournalEntry(Operation.SET_APPOINTMENT.name(), null, null,
+                new JsonAdaptedAppointment(target), new JsonAdaptedAppointment(editedAppointment));
+    }
+
+    /**
+     * Returns an entry recording that {@code appointment} was removed.
+     */
+    public static JsonAdaptedJournalEntry removeAppointment(Appointment appointment) {
+        return new JsonAdaptedJournalEntry(Operation.REMOVE_APPOINTMENT.name(), null, null,
+                new JsonAdaptedAppointment(appointment), null);
+    }
+
+    /**
+     * Makes the change recorded by this entry to {@code addressBook}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the entry, or if the change
+     *     cannot be made to {@code addressBook}.
+     */
+    public void applyTo(AddressBook addressBook) throws IllegalValueException {
+        try {
+            switch (toOperation()) {
+            case ADD_PERSON:
+                Person personToAdd = toPerson();
+                if (addressBook.hasPerson(personToAdd)) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+                }
+                addressBook.addPerson(personToAdd);
+                break;
+            case SET_PERSON:
+                Person editedPerson = toPerson();
+                Person target = findPerson(addressBook);
+                if (!target.isSamePerson(editedPerson) && addressBook.hasPerson(editedPerson)) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+                }
+                addressBook.setPerson(target, editedPerson);
+                break;
+            case REMOVE_PERSON:
+                addressBook.removePerson(findPerson(addressBook));
+                break;
+            case ADD_APPOINTMENT:
+                Appointment appointmentToAdd = toAppointment(appointment, "appointment");
+                if (addressBook.hasAppointment(appointmentToAdd)) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_APPOINTMENT);
+                }
+                addressBook.addAppointment(appointmentToAdd);
+                break;
+            case SET_APPOINTMENT:
+                addressBook.setAppointment(toAppointment(targetAppointment, "targetAppointment"),
+                        toAppointment(appointment, "appointment"));
+                break;
+            case REMOVE_APPOINTMENT:
+                addressBook.removeAppointment(toAppointment(targetAppointment, "targetAppointment"));
+                break;
+            default:
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_OPERATION, operation));
+            }
+        } catch (AppointmentNotFoundException e) {
+            throw new IllegalValueException(MESSAGE_APPOINTMENT_NOT_FOUND);
+        } catch (DuplicateAppointmentException e) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_APPOINTMENT);
+        }
+    }
+
+    private Operation toOperation() throws IllegalValueException {
+        if (operation == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "operation"));
+        }
+        try {
+            return Operation.valueOf(operation);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_OPERATION, operation));
+        }
+    }
+
+    private Person toPerson() throws IllegalValueException {
+        if (person == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "person"));
+        }
+        return person.toModelType();
+    }
+
+    private Person findPerson(AddressBook addressBook) throws IllegalValueException {
+        if (personId == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "personId"));
+        }
+        if (!IdentityNumber.isValidId(personId)) {
+            throw new IllegalValueException(IdentityNumber.MESSAGE_CONSTRAINTS);
+        }
+        return addressBook.getPerson(new IdentityNumber(personId))
+                .orElseThrow(() -> new IllegalValueException(String.format(MESSAGE_PERSON_NOT_FOUND, personId)));
+    }
+
+    private static Appointment toAppointment(JsonAdaptedAppointment appointment, String fieldName)
+            throws IllegalValueException {
+        if (appointment == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldName));
+        }
+        return appointment.toModelType();
+    }
+}
@@ -42,7 +42,7 @@ class JsonAdaptedMedicine {
         if (!Medicine.isValidMedicineName(medicineName)) {
             throw new IllegalValueException(Medicine.MESSAGE_CONSTRAINTS);
         }
-        return new Medicine(medicineName);
+        return Medicine.of(medicineName);
     }
 
 }
@@ -1,5 +1,6 @@
 package seedu.address.storage;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -212,13 +213,13 @@ class JsonAdaptedPerson {
         if (!BloodType.isValidBloodType(bloodType)) {
             throw new IllegalValueException(BloodType.MESSAGE_CONSTRAINTS);
         }
-        final BloodType modelBloodType = new BloodType(bloodType);
+        final BloodType modelBloodType = BloodType.of(bloodType);
 
         if (smokingRecord == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     SmokingRecord.class.getSimpleName()));
         }
-        final SmokingRecord modelSmokingRecord = new SmokingRecord(smokingRecord);
+        final SmokingRecord modelSmokingRecord = SmokingRecord.of(smokingRecord);
 
         if (alcoholicRecord == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -227,7 +228,7 @@ class JsonAdaptedPerson {
         if (!AlcoholicRecord.isValidAlcoholicRecord(alcoholicRecord)) {
             throw new IllegalValueException(AlcoholicRecord.MESSAGE_CONSTRAINTS);
         }
-        final AlcoholicRecord modelAlcoholicRecord = new AlcoholicRecord(alcoholicRecord);
+        final AlcoholicRecord modelAlcoholicRecord = AlcoholicRecord.of(alcoholicRecord);
 
         if (gender == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -236,7 +237,7 @@ class JsonAdaptedPerson {
         if (!Gender.isValidGender(gender)) {
             throw new IllegalValueException(Gender.MESSAGE_CONSTRAINTS);
         }
-        final Gender modelGender = new Gender(gender);
+        final Gender modelGender = Gender.of(gender);
 
         if (pastMedicalHistory == null) {
             logger.warning(() -> String.format("JsonAdaptedPerson: missing PastMedicalHistory for name='%s'", name));
@@ -256,4 +257,42 @@ class JsonAdaptedPerson {
                 modelAllergies, modelPastMedicalHistory, modelMedicines);
     }
 
+    /**
+     * Converts this Jackson-friendly adapted person object into the model's {@code Person} object like
+     * {@link #toModelType()}, but without checking the constraints of its values. Only for persons written by
+     * {@link JsonAddressBookWriter} in a file that {@link JsonAddressBookReader#isTrusted is trusted}.
+     *
+     * @throws IllegalValueException if the values could not be converted, as they were not written by
+     *     {@code JsonAddressBookWriter}.
+     */
+    Person toTrustedModelType() throws IllegalValueException {
+        try {
+            final Set<Tag> modelTags = new HashSet<>();
+            for (JsonAdaptedTag tag : tags) {
+                modelTags.add(Tag.of(tag.getTagName()));
+            }
+
+            final Set<Allergy> modelAllergies = new HashSet<>();
+            for (JsonAdaptedAllergy allergy : allergies) {
+                modelAllergies.add(Allergy.of(allergy.getAllergyName()));
+            }
+
+            final Set<Medicine> modelMedicines = new HashSet<>();
+            for (JsonAdaptedMedicine medicine : medicines) {
+                modelMedicines.add(Medicine.of(medicine.getMedicineName()));
+            }
+
+            return new Person(Name.fromTrusted(name), IdentityNumber.fromTrusted(identityNumber),
+                    Phone.fromTrusted(phone), Email.fromTrusted(email), Address.fromTrusted(address),
+                    EmergencyContact.fromTrusted(emergencyContact), modelTags,
+                    DateOfBirth.fromDate(LocalDate.parse(dateOfBirth, DateOfBirth.DATE_FORMATTER)),
+                    BloodType.of(bloodType), AlcoholicRecord.of(alcoholicRecord), Gender.of(gender),
+                    SmokingRecord.of(smokingRecord), modelAllergies, PastMedicalHistory.fromTrusted(pastMedicalHistory),
+                    modelMedicines);
+        } catch (RuntimeException e) {
+            // Values that were not written by JsonAddressBookWriter can fail in any way without their checks
+            throw new IllegalValueException(e.toString(), e);
+        }
+    }
+
 }
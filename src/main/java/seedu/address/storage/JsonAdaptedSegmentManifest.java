@@ -0,0 +1,115 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly version of the manifest of a {@link SegmentedAddressBookStorage}, which lists the files of its
+ * segments and the order of the persons and appointments across the segments.
+ * <p>
+ * The order is a string with one character per person or appointment, in the order of the address book, holding the
+ * index of the segment that it is kept in as a digit in base {@link Character#MAX_RADIX}.
+ */
+class JsonAdaptedSegmentManifest {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Manifest's %s field is missing!";
+    public static final String MESSAGE_INVALID_ORDER = "Manifest's %s field refers to a segment that does not exist.";
+
+    static final String SEGMENT_FILES_FIELD = "segmentFiles";
+    private static final String PERSON_SEGMENTS_FIELD = "personSegments";
+    private static final String APPOINTMENT_SEGMENTS_FIELD = "appointmentSegments";
+
+    private final long generation;
+    private final List<String> segmentFiles = new ArrayList<>();
+    private final String personSegments;
+    private final String appointmentSegments;
+
+    /**
+     * Constructs a {@code JsonAdaptedSegmentManifest} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedSegmentManifest(@JsonProperty("generation") long generation,
+                                      @JsonProperty(SEGMENT_FILES_FIELD) List<String> segmentFiles,
+                                      @JsonProperty(PERSON_SEGMENTS_FIELD) String personSegments,
+                                      @JsonProperty(APPOINTMENT_SEGMENTS_FIELD) String appointmentSegments) {
+        this.generation = generation;
+        if (segmentFiles != null) {
+            this.segmentFiles.addAll(segmentFiles);
+        }
+        this.personSegments = personSegments;
+        this.appointmentSegments = appointmentSegments;
+    }
+
+    /**
+     * Returns the number of the save that wrote this manifest, which is part of the names of the segment files
+     * written by that save.
+     */
+    long getGeneration() {
+        return generation;
+    }
+
+    List<String> getSegmentFiles() {
+        return segmentFiles;
+    }
+
+    String getPersonSegments() {
+        return personSegments;
+    }
+
+    String getAppointmentSegments() {
+        return appointmentSegments;
+    }
+
+    /**
+     * Checks that the manifest has all of its fields, and only refers to segments that it lists.
+     *
+     * @throws IllegalValueException if the manifest is not valid.
+     */
+    void checkValid() throws IllegalValueException {
+        if (segmentFiles.isEmpty() || segmentFiles.contains(null)) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, SEGMENT_FILES_FIELD));
+        }
+        checkValidOrder(personSegments, PERSON_SEGMENTS_FIELD);
+        checkValidOrder(appointmentSegments, APPOINTMENT_SEGMENTS_FIELD);
+    }
+
+    private void checkValidOrder(String order, String fieldName) throws IllegalValueException {
+        if (order == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldName));
+        }
+        for (int i = 0; i < order.length(); i++) {
+            int segment = Character.digit(order.charAt(i), Character.MAX_RADIX);
+            if (segment < 0 || segment >= segmentFiles.size()) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_ORDER, fieldName));
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof JsonAdaptedSegmentManifest otherManifest)) {
+            return false;
+        }
+
+        return generation == otherManifest.generation
+                && segmentFiles.equals(otherManifest.segmentFiles)
+                && Objects.equals(personSegments, otherManifest.personSegments)
+                && Objects.equals(appointmentSegments, otherManifest.appointmentSegments);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(generation, segmentFiles, personSegments, appointmentSegments);
+    }
+}
@@ -0,0 +1,215 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32C;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.BatchableObservableList.Batch;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.person.Person;
+
+/**
+ * Reads an {@code AddressBook} from a JSON file in the format of {@link JsonSerializableAddressBook}, converting
+ * the persons and appointments on several threads with a {@link ParallelConverter} as they are read, and adding them
+ * to the address book in file order. Only the address book being built and a bounded number of elements are held in
+ * memory, rather than the whole file and all of its elements.
+ * <p>
+ * The persons and appointments are checked in the same way, and with the same messages, as
+ * {@link JsonSerializableAddressBook#toModelType()}, unless the file is trusted. Other fields are ignored.
+ * <p>
+ * A file is trusted if it ends with the current {@link JsonAddressBookWriter#FORMAT_VERSION} and a checksum that
+ * matches the rest of its contents. The checksum only shows that the file was written by some version of
+ * {@link JsonAddressBookWriter} and has not been changed since; the format version shows that its values were
+ * checked against the constraints of this version when they were created. The values in a trusted file are
+ * converted through the {@code fromTrusted} factories of the model's value classes, which skip those checks, and so
+ * must only be used here. If they still cannot be converted, the file is read again and checked in full.
+ */
+class JsonAddressBookReader {
+
+    public static final String MESSAGE_NOT_AN_OBJECT = "Expected the address book to be a JSON object";
+    public static final String MESSAGE_NOT_AN_ARRAY = "Expected %s to be a JSON array";
+    public static final String MESSAGE_NOT_AN_ELEMENT = "Expected each element of %s to be a JSON object";
+
+    private static final String PERSONS_FIELD = "persons";
+    private static final String APPOINTMENTS_FIELD = "appointments";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonAddressBookReader.class);
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    /** The most bytes that the format version and checksum fields, and the end of the document, can take up. */
+    private static final int MAX_TRAILER_SIZE = 128;
+    private static final Pattern TRAILER_PATTERN = Pattern.compile(
+            ",\\s*\"" + JsonAddressBookWriter.FORMAT_VERSION_FIELD + "\"\\s*:\\s*(\\d{1,9})\\s*"
+            + "(,\\s*\"" + JsonAddressBookWriter.CHECKSUM_FIELD + "\"\\s*:\\s*\"(\\p{XDigit}{8})\"\\s*}\\s*$)");
+
+    private JsonAddressBookReader() {}
+
+    /**
+     * Returns the address book in {@code filePath}.
+     *
+     * @throws IOException if the file could not be read, or is not in the expected JSON format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+
+        if (isTrusted(filePath)) {
+            try {
+                return readAddressBook(filePath, true);
+            } catch (IllegalValueException e) {
+                logger.info("Data file " + filePath + " is trusted, but could not be read without "
+                        + "checking its values: " + e.getMessage());
+            }
+        }
+        return readAddressBook(filePath, false);
+    }
+
+    /**
+     * Returns true if {@code filePath} ends with the current format version and a checksum that matches the rest of
+     * its contents, so that its values can be converted without checking them.
+     */
+    static boolean isTrusted(Path filePath) throws IOException {
+        CRC32C checksum = new CRC32C();
+        // The bytes that may be part of the trailing fields are held back until the end of the file is reached
+        byte[] buffer = new byte[BUFFER_SIZE + MAX_TRAILER_SIZE];
+        int heldBackSize = 0;
+        try (InputStream inputStream = FileUtil.openInputStream(filePath)) {
+            int readSize;
+            while ((readSize = inputStream.read(buffer, heldBackSize, buffer.length - heldBackSize)) != -1) {
+                heldBackSize += readSize;
+                if (heldBackSize > MAX_TRAILER_SIZE) {
+                    int checkedSize = heldBackSize - MAX_TRAILER_SIZE;
+                    checksum.update(buffer, 0, checkedSize);
+                    System.arraycopy(buffer, checkedSize, buffer, 0, MAX_TRAILER_SIZE);
+                    heldBackSize = MAX_TRAILER_SIZE;
+                }
+            }
+        }
+
+        String heldBack = new String(buffer, 0, heldBackSize, StandardCharsets.ISO_8859_1);
+        Matcher matcher = TRAILER_PATTERN.matcher(heldBack);
+        if (!matcher.find()) {
+            return false;
+        }
+        // The format version is covered by the checksum
+        checksum.update(buffer, 0, matcher.start(2));
+        return Long.parseLong(matcher.group(3), 16) == checksum.getValue()
+                && Integer.parseInt(matcher.group(1)) == JsonAddressBookWriter.FORMAT_VERSION;
+    }
+
+    private static AddressBook readAddressBook(Path filePath, boolean isTrusted)
+            throws IOException, IllegalValueException {
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, MESSAGE_NOT_AN_OBJECT);
+            }
+
+            AddressBook addressBook = new AddressBook();
+            // Added as one change to each list, so that its snapshots are built once rather than for every element
+            try (Batch batch = addressBook.startBatch()) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String fieldName = parser.getCurrentName();
+                    parser.nextToken();
+                    switch (fieldName) {
+                    case PERSONS_FIELD:
+                        readPersons(parser, addressBook, isTrusted);
+                        break;
+                    case APPOINTMENTS_FIELD:
+                        readAppointments(parser, addressBook, isTrusted);
+                        break;
+                    default:
+                        parser.skipChildren();
+                    }
+                }
+            }
+            return addressBook;
+        }
+    }
+
+    private static void readPersons(JsonParser parser, AddressBook addressBook, boolean isTrusted)
+            throws IOException, IllegalValueException {
+        if (!isStartOfArray(parser, PERSONS_FIELD)) {
+            return;
+        }
+        ParallelConverter.Conversion<JsonAdaptedPerson, Person> conversion = isTrusted
+                ? JsonAdaptedPerson::toTrustedModelType
+                : JsonAdaptedPerson::toModelType;
+        readElements(parser, PERSONS_FIELD, JsonAdaptedPerson.class, new ParallelConverter<>(
+                conversion, person -> JsonSerializableAddressBook.addPerson(addressBook, person)));
+    }
+
+    private static void readAppointments(JsonParser parser, AddressBook addressBook, boolean isTrusted)
+            throws IOException, IllegalValueException {
+        if (!isStartOfArray(parser, APPOINTMENTS_FIELD)) {
+            return;
+        }
+        ParallelConverter.Conversion<JsonAdaptedAppointment, Appointment> conversion = isTrusted
+                ? JsonAdaptedAppointment::toTrustedModelType
+                : JsonAdaptedAppointment::toModelType;
+        readElements(parser, APPOINTMENTS_FIELD, JsonAdaptedAppointment.class, new ParallelConverter<>(
+                conversion, appointment -> JsonSerializableAddressBook.addAppointment(addressBook, appointment)));
+    }
+
+    /**
+     * Reads each element of the array named {@code fieldName} as a {@code type}, and adds it to {@code converter}.
+     * If an element cannot be read, the elements before it are still converted first, so that an invalid element
+     * earlier in the file is reported instead.
+     */
+    private static <T> void readElements(JsonParser parser, String fieldName, Class<T> type,
+            ParallelConverter<T, ?> converter) throws IOException, IllegalValueException {
+        try {
+            while (hasNextElement(parser, fieldName)) {
+                converter.add(parser.readValueAs(type));
+            }
+        } catch (IOException e) {
+            converter.finish();
+            throw e;
+        }
+        converter.finish();
+    }
+
+    /**
+     * Returns true if {@code parser} is at the start of the array named {@code fieldName}, or false if the array is
+     * null.
+     */
+    private static boolean isStartOfArray(JsonParser parser, String fieldName) throws IOException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return false;
+        }
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, String.format(MESSAGE_NOT_AN_ARRAY, fieldName));
+        }
+        return true;
+    }
+
+    /**
+     * Moves {@code parser} to the next element of the array named {@code fieldName}, and returns true if there is
+     * one.
+     */
+    private static boolean hasNextElement(JsonParser parser, String fieldName) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.END_ARRAY) {
+            return false;
+        }
+        if (token != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, String.format(MESSAGE_NOT_AN_ELEMENT, fieldName));
+        }
+        return true;
+    }
+}
@@ -1,80 +1,50 @@
 package seedu.address.storage;
 
-import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.IOException;
 import java.nio.file.Path;
-import java.util.Optional;
-import java.util.logging.Logger;
 
-import seedu.address.commons.core.LogsCenter;
-import seedu.address.commons.exceptions.DataLoadingException;
-import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
- * A class to access AddressBook data stored as a json file on the hard disk.
+ * A class to access AddressBook data stored as a json file on the hard disk, which may be compressed in the gzip
+ * format.
  */
-public class JsonAddressBookStorage implements AddressBookStorage {
+public class JsonAddressBookStorage extends FileAddressBookStorage {
 
-    private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
-
-    private Path filePath;
+    private final boolean isCompact;
+    private final int compressionLevel;
 
     public JsonAddressBookStorage(Path filePath) {
-        this.filePath = filePath;
-    }
-
-    public Path getAddressBookFilePath() {
-        return filePath;
-    }
-
-    @Override
-    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
-        return readAddressBook(filePath);
+        this(filePath, false);
     }
 
     /**
-     * Similar to {@link #readAddressBook()}.
-     *
-     * @param filePath location of the data. Cannot be null.
-     * @throws DataLoadingException if loading the data from storage failed.
+     * Creates a {@code JsonAddressBookStorage} for the data file at {@code filePath}, which is written on a single
+     * line, without indentation, if {@code isCompact} is true.
      */
-    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
-        requireNonNull(filePath);
-
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
-            return Optional.empty();
-        }
-
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
-        } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
-            throw new DataLoadingException(ive);
-        }
-    }
-
-    @Override
-    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
-        saveAddressBook(addressBook, filePath);
+    public JsonAddressBookStorage(Path filePath, boolean isCompact) {
+        this(filePath, isCompact, FileUtil.NO_COMPRESSION);
     }
 
     /**
-     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
-     *
-     * @param filePath location of the data. Cannot be null.
+     * Creates a {@code JsonAddressBookStorage} for the data file at {@code filePath}, which is compressed in the gzip
+     * format at {@code compressionLevel} when it is written, unless it is {@link FileUtil#NO_COMPRESSION}.
+     * Data files are read whether or not they are compressed.
      */
-    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
-        requireNonNull(addressBook);
-        requireNonNull(filePath);
+    public JsonAddressBookStorage(Path filePath, boolean isCompact, int compressionLevel) {
+        super(filePath);
+        checkArgument(compressionLevel >= FileUtil.NO_COMPRESSION && compressionLevel <= FileUtil.MAX_COMPRESSION_LEVEL,
+                FileUtil.MESSAGE_COMPRESSION_LEVEL_CONSTRAINTS);
+        this.isCompact = isCompact;
+        this.compressionLevel = compressionLevel;
+    }
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+    @Override
+    protected void writeAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        JsonAddressBookWriter.write(addressBook, filePath, isCompact, compressionLevel);
     }
 
 }
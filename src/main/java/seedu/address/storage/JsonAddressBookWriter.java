@@ -0,0 +1,101 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.person.Person;
+
+/**
+ * Writes an address book to a JSON file in the format of {@link JsonSerializableAddressBook}, converting each person
+ * and appointment only when it is written. Only the element being written and a fixed-size buffer are held in
+ * memory, rather than a copy of every element and the whole document.
+ * <p>
+ * The appointments are followed by the {@link #FORMAT_VERSION} of the document, and then by a checksum: the CRC-32C
+ * of the bytes of the document up to the end of the format version, before they are compressed, as 8 hexadecimal
+ * digits. {@link JsonAddressBookReader} uses both to decide whether to trust the values in the file.
+ */
+class JsonAddressBookWriter {
+
+    /**
+     * The version of the document format and of the constraints that its values were checked against when they were
+     * created. Must be increased whenever either changes, so that files written before the change are checked in full
+     * when they are read.
+     */
+    static final int FORMAT_VERSION = 1;
+
+    static final String FORMAT_VERSION_FIELD = "formatVersion";
+    static final String CHECKSUM_FIELD = "checksum";
+    static final String CHECKSUM_FORMAT = "%08x";
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private JsonAddressBookWriter() {}
+
+    /**
+     * Writes {@code addressBook} to {@code filePath} without compressing it.
+     *
+     * @see #write(ReadOnlyAddressBook, Path, boolean, int)
+     */
+    static void write(ReadOnlyAddressBook addressBook, Path filePath, boolean isCompact) throws IOException {
+        write(addressBook, filePath, isCompact, FileUtil.NO_COMPRESSION);
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code filePath}, replacing the file if it exists, and waits for it to be written
+     * to the storage device. The data is written on a single line if {@code isCompact} is true, and compressed in the
+     * gzip format as it is written at {@code compressionLevel}, unless it is {@link FileUtil#NO_COMPRESSION}.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    static void write(ReadOnlyAddressBook addressBook, Path filePath, boolean isCompact, int compressionLevel)
+            throws IOException {
+        requireAllNonNull(addressBook, filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+             OutputStream outputStream = FileUtil.compress(
+                     new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE), compressionLevel);
+             CheckedOutputStream checkedOutputStream = new CheckedOutputStream(outputStream, new CRC32C());
+             JsonGenerator generator = JsonUtil.createGenerator(checkedOutputStream, isCompact)) {
+            generator.writeStartObject();
+
+            generator.writeArrayFieldStart("persons");
+            for (Person person : addressBook.getPersonList()) {
+                generator.writeObject(new JsonAdaptedPerson(person));
+            }
+            generator.writeEndArray();
+
+            generator.writeArrayFieldStart("appointments");
+            for (Appointment appointment : addressBook.getAppointmentList()) {
+                generator.writeObject(new JsonAdaptedAppointment(appointment));
+            }
+            generator.writeEndArray();
+
+            generator.writeNumberField(FORMAT_VERSION_FIELD, FORMAT_VERSION);
+            generator.flush();
+            generator.writeStringField(CHECKSUM_FIELD,
+                    String.format(CHECKSUM_FORMAT, checkedOutputStream.getChecksum().getValue()));
+
+            generator.writeEndObject();
+            generator.flush();
+            FileUtil.finishCompressing(outputStream);
+            channel.force(false);
+        }
+    }
+}
@@ -8,6 +8,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.BatchableObservableList.Batch;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.appointment.Appointment;
@@ -52,21 +53,37 @@ class JsonSerializableAddressBook {
      */
     public AddressBook toModelType() throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
-        }
-        for (JsonAdaptedAppointment jsonAdaptedAppointment : appointments) {
-            Appointment appointment = jsonAdaptedAppointment.toModelType();
-            if (addressBook.hasAppointment(appointment)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_APPOINTMENT);
-            }
-            addressBook.addAppointment(appointment);
+        try (Batch batch = addressBook.startBatch()) {
+            ParallelConverter.convertAll(persons, JsonAdaptedPerson::toModelType,
+                    person -> addPerson(addressBook, person));
+            ParallelConverter.convertAll(appointments, JsonAdaptedAppointment::toModelType,
+                    appointment -> addAppointment(addressBook, appointment));
         }
         return addressBook;
     }
 
+    /**
+     * Adds {@code person} to {@code addressBook}.
+     *
+     * @throws IllegalValueException if the person is a duplicate.
+     */
+    static void addPerson(AddressBook addressBook, Person person) throws IllegalValueException {
+        if (addressBook.hasPerson(person)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        }
+        addressBook.addPerson(person);
+    }
+
+    /**
+     * Adds {@code appointment} to {@code addressBook}.
+     *
+     * @throws IllegalValueException if the appointment is a duplicate.
+     */
+    static void addAppointment(AddressBook addressBook, Appointment appointment) throws IllegalValueException {
+        if (addressBook.hasAppointment(appointment)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_APPOINTMENT);
+        }
+        addressBook.addAppointment(appointment);
+    }
+
 }
@@ -0,0 +1,165 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Converts elements read from storage into the model's objects on the threads of the common {@link ForkJoinPool},
+ * a chunk of elements at a time, and passes the converted objects to a consumer on the calling thread, one at a time
+ * and in the order in which the elements were added.
+ * <p>
+ * Errors are reported as if the elements were converted and consumed one by one: if an element cannot be converted,
+ * every element before it is still passed to the consumer, and only the first error, in the order of the elements,
+ * is thrown. Only a bounded number of chunks are converted at once, so that elements streamed from a file are not all
+ * held in memory at the same time.
+ *
+ * @param <T> the type of the elements read from storage.
+ * @param <R> the type of the model's objects.
+ */
+class ParallelConverter<T, R> {
+
+    public static final int DEFAULT_CHUNK_SIZE = 256;
+
+    private static final int MAX_PENDING_CHUNKS = 2 * ForkJoinPool.getCommonPoolParallelism();
+
+    private final Conversion<T, R> conversion;
+    private final Consumer<R> consumer;
+    private final int chunkSize;
+    private final Deque<ForkJoinTask<ConvertedChunk<R>>> pendingChunks = new ArrayDeque<>();
+    private List<T> chunk;
+
+    /**
+     * Creates a {@code ParallelConverter} that converts elements with {@code conversion}, and passes the converted
+     * objects to {@code consumer}.
+     */
+    ParallelConverter(Conversion<T, R> conversion, Consumer<R> consumer) {
+        this(conversion, consumer, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates a {@code ParallelConverter} that converts {@code chunkSize} elements at a time.
+     */
+    ParallelConverter(Conversion<T, R> conversion, Consumer<R> consumer, int chunkSize) {
+        requireAllNonNull(conversion, consumer);
+        checkArgument(chunkSize > 0, "chunkSize must be positive");
+        this.conversion = conversion;
+        this.consumer = consumer;
+        this.chunkSize = chunkSize;
+        this.chunk = new ArrayList<>(chunkSize);
+    }
+
+    /**
+     * Converts every element of {@code elements} with {@code conversion}, and passes the converted objects to
+     * {@code consumer} in order.
+     *
+     * @throws IllegalValueException the first error thrown by {@code conversion} or {@code consumer}.
+     */
+    static <T, R> void convertAll(Iterable<T> elements, Conversion<T, R> conversion, Consumer<R> consumer)
+            throws IllegalValueException {
+        ParallelConverter<T, R> converter = new ParallelConverter<>(conversion, consumer);
+        for (T element : elements) {
+            converter.add(element);
+        }
+        converter.finish();
+    }
+
+    /**
+     * Adds {@code element} to be converted after the elements added before it. Converted objects whose elements were
+     * added earlier may be passed to the consumer in the meantime.
+     *
+     * @throws IllegalValueException the first error thrown by the conversion or the consumer, for the elements added
+     *     before.
+     */
+    void add(T element) throws IllegalValueException {
+        chunk.add(element);
+        if (chunk.size() == chunkSize) {
+            submitChunk();
+        }
+        while (!pendingChunks.isEmpty() && pendingChunks.peekFirst().isDone()) {
+            consumeFirstChunk();
+        }
+    }
+
+    /**
+     * Waits for every element added to be converted, and passes the remaining converted objects to the consumer.
+     *
+     * @throws IllegalValueException the first error thrown by the conversion or the consumer.
+     */
+    void finish() throws IllegalValueException {
+        if (!chunk.isEmpty()) {
+            submitChunk();
+        }
+        while (!pendingChunks.isEmpty()) {
+            consumeFirstChunk();
+        }
+    }
+
+    private void submitChunk() throws IllegalValueException {
+        List<T> elements = chunk;
+        chunk = new ArrayList<>(chunkSize);
+        pendingChunks.addLast(ForkJoinPool.commonPool().submit(() -> convert(elements)));
+        while (pendingChunks.size() > MAX_PENDING_CHUNKS) {
+            consumeFirstChunk();
+        }
+    }
+
+    private ConvertedChunk<R> convert(List<T> elements) {
+        List<R> converted = new ArrayList<>(elements.size());
+        for (T element : elements) {
+            try {
+                converted.add(conversion.convert(element));
+            } catch (IllegalValueException e) {
+                return new ConvertedChunk<>(converted, e);
+            }
+        }
+        return new ConvertedChunk<>(converted, null);
+    }
+
+    private void consumeFirstChunk() throws IllegalValueException {
+        ConvertedChunk<R> convertedChunk = pendingChunks.removeFirst().join();
+        for (R object : convertedChunk.objects) {
+            consumer.accept(object);
+        }
+        if (convertedChunk.error != null) {
+            throw convertedChunk.error;
+        }
+    }
+
+    /**
+     * Converts an element read from storage into the model's object. Must be safe to call from any thread.
+     */
+    @FunctionalInterface
+    interface Conversion<T, R> {
+        R convert(T element) throws IllegalValueException;
+    }
+
+    /**
+     * Consumes the model's objects, on the thread that added the elements they were converted from.
+     */
+    @FunctionalInterface
+    interface Consumer<R> {
+        void accept(R object) throws IllegalValueException;
+    }
+
+    /**
+     * The objects converted from the elements of a chunk, up to the first element that could not be converted.
+     */
+    private static class ConvertedChunk<R> {
+        private final List<R> objects;
+        private final IllegalValueException error;
+
+        ConvertedChunk(List<R> objects, IllegalValueException error) {
+            this.objects = objects;
+            this.error = error;
+        }
+    }
+}
@@ -0,0 +1,482 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.exceptions.DuplicateAppointmentException;
+import seedu.address.model.person.IdentityNumber;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * An {@code AddressBookStorage} that splits the address book into segments, each kept in its own file next to the
+ * data file, and keeps a {@link JsonAdaptedSegmentManifest} listing the segment files in the data file itself.
+ * <p>
+ * Each person is kept in the segment chosen by the hash of their identity number, together with their appointments.
+ * Saving the address book only writes the segments whose persons or appointments changed since it was last read or
+ * saved, followed by the manifest. Changed segments are written to new files, which only the new manifest refers to,
+ * so that the address book is replaced as a whole when the manifest is, even if saving is interrupted part way.
+ * <p>
+ * The segments are read in parallel, each with the {@code FileAddressBookStorage} that writes them, so they can be in
+ * any of the data file formats. A data file that is not a manifest is read as the whole address book, and split into
+ * segments the next time it is saved.
+ */
+public class SegmentedAddressBookStorage implements AddressBookStorage {
+
+    public static final String MESSAGE_SEGMENT_MISMATCH =
+            "Segment file %s does not hold the persons and appointments listed in the manifest.";
+
+    private static final Logger logger = LogsCenter.getLogger(SegmentedAddressBookStorage.class);
+
+    private final FileAddressBookStorage segmentStorage;
+    private final int segmentCount;
+
+    // Segments held by the segment files that the data file lists, or null if they are not known. Guarded by this.
+    private SavedSegments savedSegments;
+
+    /**
+     * Creates a {@code SegmentedAddressBookStorage} that writes the data file of {@code segmentStorage} as a manifest,
+     * and the {@code segmentCount} segments next to it with {@code segmentStorage}.
+     */
+    public SegmentedAddressBookStorage(FileAddressBookStorage segmentStorage, int segmentCount) {
+        requireNonNull(segmentStorage);
+        checkArgument(segmentCount >= 1 && segmentCount <= UserPrefs.MAX_ADDRESS_BOOK_SEGMENT_COUNT,
+                UserPrefs.MESSAGE_SEGMENT_COUNT_CONSTRAINTS);
+        this.segmentStorage = segmentStorage;
+        this.segmentCount = segmentCount;
+    }
+
+    /**
+     * Returns true if the JSON file at {@code filePath} is the manifest of a segmented address book.
+     *
+     * @throws IOException if the file could not be read.
+     */
+    static boolean isManifest(Path filePath) throws IOException {
+        requireNonNull(filePath);
+
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return false;
+            }
+            // Only the scalar fields before the list of segment files are read, so that a data file is told apart
+            // from a manifest as soon as its first list of persons or appointments starts
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                if (parser.getCurrentName().equals(JsonAdaptedSegmentManifest.SEGMENT_FILES_FIELD)) {
+                    return true;
+                }
+                if (parser.nextToken().isStructStart()) {
+                    return false;
+                }
+            }
+            return false;
+        } catch (JsonProcessingException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return segmentStorage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Returns the address book in the segments listed by the manifest at {@code filePath}, or the address book in
+     * {@code filePath} itself if it is not a manifest.
+     *
+     * @see AddressBookStorage#readAddressBook(Path)
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        boolean isMainFile = filePath.equals(getAddressBookFilePath());
+        if (isMainFile) {
+            savedSegments = null;
+        }
+
+        try {
+            if (!Files.exists(filePath) || BinaryAddressBookFormat.hasMagicHeader(filePath) || !isManifest(filePath)) {
+                return segmentStorage.readAddressBook(filePath);
+            }
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+
+        JsonAdaptedSegmentManifest manifest = JsonUtil.readJsonFile(filePath, JsonAdaptedSegmentManifest.class).get();
+        Segments segments;
+        AddressBook addressBook;
+        try {
+            manifest.checkValid();
+            segments = readSegments(filePath, manifest);
+            addressBook = segments.merge(manifest);
+        } catch (IllegalValueException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataLoadingException(e);
+        }
+
+        if (isMainFile && manifest.getSegmentFiles().size() == segmentCount) {
+            savedSegments = new SavedSegments(manifest, segments);
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Reads the segments listed by {@code manifest}, which is at {@code filePath}, in parallel.
+     *
+     * @throws DataLoadingException if any of the segments could not be read.
+     */
+    private Segments readSegments(Path filePath, JsonAdaptedSegmentManifest manifest) throws DataLoadingException {
+        List<SegmentReadResult> results = IntStream.range(0, manifest.getSegmentFiles().size()).parallel()
+                .mapToObj(segment -> readSegment(filePath.resolveSibling(manifest.getSegmentFiles().get(segment))))
+                .collect(Collectors.toList());
+
+        Segments segments = new Segments(results.size());
+        for (SegmentReadResult result : results) {
+            if (result.error != null) {
+                throw result.error;
+            }
+            segments.persons.add(result.persons);
+            segments.appointments.add(result.appointments);
+        }
+        return segments;
+    }
+
+    private SegmentReadResult readSegment(Path segmentFilePath) {
+        try {
+            Optional<ReadOnlyAddressBook> segment = segmentStorage.readAddressBook(segmentFilePath);
+            if (segment.isEmpty()) {
+                throw new DataLoadingException(new IOException(
+                        String.format(MESSAGE_SEGMENT_MISMATCH, segmentFilePath.getFileName())));
+            }
+            return new SegmentReadResult(new ArrayList<>(segment.get().getPersonList()),
+                    new ArrayList<>(segment.get().getAppointmentList()), null);
+        } catch (DataLoadingException e) {
+            return new SegmentReadResult(null, null, e);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Saves the segments of {@code addressBook} that changed since the segments listed by the manifest at
+     * {@code filePath} were last read or saved, and then the manifest. Every segment is saved if those segments are
+     * not known.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        boolean isMainFile = filePath.equals(getAddressBookFilePath());
+
+        Segments segments = Segments.split(addressBook, segmentCount);
+        SavedSegments saved = isMainFile ? savedSegments : null;
+        long generation = (saved != null ? saved.manifest.getGeneration() : readGeneration(filePath)) + 1;
+
+        List<String> segmentFiles = new ArrayList<>();
+        int writtenCount = 0;
+        for (int segment = 0; segment < segmentCount; segment++) {
+            if (saved != null && segments.isSameSegment(saved.segments, segment)) {
+                segmentFiles.add(saved.manifest.getSegmentFiles().get(segment));
+                continue;
+            }
+            String segmentFile = getSegmentFileName(filePath, segment, generation);
+            segmentStorage.saveAddressBook(segments.toAddressBook(segment), filePath.resolveSibling(segmentFile));
+            segmentFiles.add(segmentFile);
+            writtenCount++;
+        }
+
+        String personSegments = segments.getPersonSegments();
+        String appointmentSegments = segments.getAppointmentSegments();
+        if (saved != null && writtenCount == 0 && personSegments.equals(saved.manifest.getPersonSegments())
+                && appointmentSegments.equals(saved.manifest.getAppointmentSegments())) {
+            return;
+        }
+
+        JsonAdaptedSegmentManifest manifest =
+                new JsonAdaptedSegmentManifest(generation, segmentFiles, personSegments, appointmentSegments);
+        Set<String> previousSegmentFiles = readSegmentFiles(filePath);
+        writeManifest(manifest, filePath);
+        logger.fine("Saved " + writtenCount + " of " + segmentCount + " segments of " + filePath);
+
+        previousSegmentFiles.removeAll(segmentFiles);
+        deleteSegmentFiles(filePath, previousSegmentFiles);
+        if (isMainFile) {
+            savedSegments = new SavedSegments(manifest, segments);
+        }
+    }
+
+    /**
+     * Does nothing, as the segments to save are found by comparing the address book with the segments last read or
+     * saved.
+     */
+    @Override
+    public void trackAddressBook(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+    }
+
+    /**
+     * Backs up the manifest and the segment files it lists if the data file could not be read, as the segment files
+     * are deleted once a later save no longer lists them.
+     */
+    @Override
+    public void trackLoadedAddressBook(ReadOnlyAddressBook addressBook, boolean isDataFileRead) throws IOException {
+        requireNonNull(addressBook);
+        if (isDataFileRead) {
+            return;
+        }
+        Path filePath = getAddressBookFilePath();
+        for (String segmentFile : readSegmentFiles(filePath)) {
+            FileUtil.backUpIfExists(filePath.resolveSibling(segmentFile));
+        }
+        FileUtil.backUpIfExists(filePath);
+    }
+
+    /**
+     * Does nothing, as every save leaves the manifest and the segment files it lists holding the whole address book.
+     */
+    @Override
+    public void compactAddressBook(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+    }
+
+    /**
+     * Returns the name of the file that {@code segment} is saved to by the save numbered {@code generation}, for the
+     * manifest at {@code filePath}.
+     */
+    static String getSegmentFileName(Path filePath, int segment, long generation) {
+        String fileName = filePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        String extension = extensionStart > 0 ? fileName.substring(extensionStart) : "";
+        return String.format("%s-%02d-%d%s", baseName, segment, generation, extension);
+    }
+
+    /**
+     * Returns the generation of the manifest at {@code filePath}, or 0 if there is no readable manifest there.
+     */
+    private static long readGeneration(Path filePath) {
+        return readManifest(filePath).map(JsonAdaptedSegmentManifest::getGeneration).orElse(0L);
+    }
+
+    /**
+     * Returns the segment files listed by the manifest at {@code filePath}, or none if there is no readable manifest
+     * there.
+     */
+    private static Set<String> readSegmentFiles(Path filePath) {
+        return new HashSet<>(readManifest(filePath).map(JsonAdaptedSegmentManifest::getSegmentFiles)
+                .orElse(List.of()));
+    }
+
+    private static Optional<JsonAdaptedSegmentManifest> readManifest(Path filePath) {
+        try {
+            if (!Files.exists(filePath) || BinaryAddressBookFormat.hasMagicHeader(filePath) || !isManifest(filePath)) {
+                return Optional.empty();
+            }
+            return JsonUtil.readJsonFile(filePath, JsonAdaptedSegmentManifest.class);
+        } catch (IOException | DataLoadingException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Replaces the file at {@code filePath} with {@code manifest}.
+     */
+    private static void writeManifest(JsonAdaptedSegmentManifest manifest, Path filePath) throws IOException {
+        Path tempFilePath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        JsonUtil.saveJsonFile(manifest, tempFilePath);
+        try {
+            Files.move(tempFilePath, filePath, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFilePath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Deletes the {@code segmentFiles} next to the manifest at {@code filePath}, which it no longer lists.
+     */
+    private static void deleteSegmentFiles(Path filePath, Set<String> segmentFiles) {
+        for (String segmentFile : segmentFiles) {
+            try {
+                Files.deleteIfExists(filePath.resolveSibling(segmentFile));
+            } catch (IOException e) {
+                logger.warning("Could not delete unused segment file " + segmentFile + ": " + e);
+            }
+        }
+    }
+
+    /**
+     * The persons and appointments of an address book, split into segments.
+     */
+    private static class Segments {
+        private final List<List<Person>> persons;
+        private final List<List<Appointment>> appointments;
+        private final StringBuilder personSegments = new StringBuilder();
+        private final StringBuilder appointmentSegments = new StringBuilder();
+
+        Segments(int segmentCount) {
+            persons = new ArrayList<>(segmentCount);
+            appointments = new ArrayList<>(segmentCount);
+        }
+
+        /**
+         * Splits {@code addressBook} into {@code segmentCount} segments.
+         */
+        static Segments split(ReadOnlyAddressBook addressBook, int segmentCount) {
+            Segments segments = new Segments(segmentCount);
+            for (int i = 0; i < segmentCount; i++) {
+                segments.persons.add(new ArrayList<>());
+                segments.appointments.add(new ArrayList<>());
+            }
+            for (Person person : addressBook.getPersonList()) {
+                int segment = getSegment(person.getIdentityNumber(), segmentCount);
+                segments.persons.get(segment).add(person);
+                segments.personSegments.append(Character.forDigit(segment, Character.MAX_RADIX));
+            }
+            for (Appointment appointment : addressBook.getAppointmentList()) {
+                int segment = getSegment(appointment.getPatientId(), segmentCount);
+                segments.appointments.get(segment).add(appointment);
+                segments.appointmentSegments.append(Character.forDigit(segment, Character.MAX_RADIX));
+            }
+            return segments;
+        }
+
+        private static int getSegment(IdentityNumber identityNumber, int segmentCount) {
+            return Math.floorMod(identityNumber.hashCode(), segmentCount);
+        }
+
+        String getPersonSegments() {
+            return personSegments.toString();
+        }
+
+        String getAppointmentSegments() {
+            return appointmentSegments.toString();
+        }
+
+        /**
+         * Returns true if {@code segment} holds the same persons and appointments, in the same order, as in
+         * {@code other}.
+         */
+        boolean isSameSegment(Segments other, int segment) {
+            return persons.get(segment).equals(other.persons.get(segment))
+                    && appointments.get(segment).equals(other.appointments.get(segment));
+        }
+
+        /**
+         * Returns an address book with the persons and appointments of {@code segment}.
+         */
+        AddressBook toAddressBook(int segment) {
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(persons.get(segment));
+            addressBook.setAppointments(appointments.get(segment));
+            return addressBook;
+        }
+
+        /**
+         * Returns an address book with the persons and appointments of these segments, in the order given by
+         * {@code manifest}.
+         *
+         * @throws IllegalValueException if the segments do not match the manifest, or hold duplicates.
+         */
+        AddressBook merge(JsonAdaptedSegmentManifest manifest) throws IllegalValueException {
+            List<Person> mergedPersons = merge(persons, manifest, manifest.getPersonSegments());
+            List<Appointment> mergedAppointments = merge(appointments, manifest, manifest.getAppointmentSegments());
+            AddressBook addressBook = new AddressBook();
+            try {
+                addressBook.setPersons(mergedPersons);
+            } catch (DuplicatePersonException e) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            try {
+                addressBook.setAppointments(mergedAppointments);
+            } catch (DuplicateAppointmentException e) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_APPOINTMENT);
+            }
+            return addressBook;
+        }
+
+        private static <T> List<T> merge(List<List<T>> segments, JsonAdaptedSegmentManifest manifest, String order)
+                throws IllegalValueException {
+            List<Iterator<T>> iterators = segments.stream().map(List::iterator).collect(Collectors.toList());
+            List<T> merged = new ArrayList<>(order.length());
+            for (int i = 0; i < order.length(); i++) {
+                int segment = Character.digit(order.charAt(i), Character.MAX_RADIX);
+                if (!iterators.get(segment).hasNext()) {
+                    throw new IllegalValueException(String.format(MESSAGE_SEGMENT_MISMATCH,
+                            manifest.getSegmentFiles().get(segment)));
+                }
+                merged.add(iterators.get(segment).next());
+            }
+            for (int segment = 0; segment < iterators.size(); segment++) {
+                if (iterators.get(segment).hasNext()) {
+                    throw new IllegalValueException(String.format(MESSAGE_SEGMENT_MISMATCH,
+                            manifest.getSegmentFiles().get(segment)));
+                }
+            }
+            return merged;
+        }
+    }
+
+    /**
+     * The segments held by the segment files listed by a manifest.
+     */
+    private static class SavedSegments {
+        private final JsonAdaptedSegmentManifest manifest;
+        private final Segments segments;
+
+        SavedSegments(JsonAdaptedSegmentManifest manifest, Segments segments) {
+            this.manifest = manifest;
+            this.segments = segments;
+        }
+    }
+
+    /**
+     * The persons and appointments read from a segment file, or the error that prevented reading them.
+     */
+    private static class SegmentReadResult {
+        private final List<Person> persons;
+        private final List<Appointment> appointments;
+        private final DataLoadingException error;
+
+        SegmentReadResult(List<Person> persons, List<Appointment> appointments, DataLoadingException error) {
+            this.persons = persons;
+            this.appointments = appointments;
+            this.error = error;
+        }
+    }
+}
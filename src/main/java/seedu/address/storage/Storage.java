@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.OptionalLong;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -29,4 +30,32 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    @Override
+    void trackAddressBook(ReadOnlyAddressBook addressBook);
+
+    @Override
+    void trackLoadedAddressBook(ReadOnlyAddressBook addressBook, boolean isDataFileRead) throws IOException;
+
+    @Override
+    void compactAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
+
+    /**
+     * Returns the version of the address book that was last written to the data file, or loaded from it, through this
+     * storage. Saves that are still waiting to be written, or that failed, are not counted.
+     * Empty if no address book has been written or loaded yet.
+     */
+    OptionalLong getWrittenAddressBookVersion();
+
+    /**
+     * Returns true if a save of the address book has been accepted, but has not been written to the data file yet,
+     * nor failed to be written.
+     */
+    boolean isAddressBookWritePending();
+
+    /**
+     * Waits until every save of the address book requested so far has been written to the data file.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void flush() throws IOException;
+
 }
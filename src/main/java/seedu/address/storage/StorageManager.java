@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -19,6 +20,7 @@ public class StorageManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private volatile OptionalLong writtenAddressBookVersion = OptionalLong.empty();
 
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
@@ -66,7 +68,9 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
-        saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
+        logger.fine("Attempting to write to data file: " + addressBookStorage.getAddressBookFilePath());
+        addressBookStorage.saveAddressBook(addressBook);
+        writtenAddressBookVersion = OptionalLong.of(addressBook.getVersion());
     }
 
     @Override
@@ -75,4 +79,38 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void trackAddressBook(ReadOnlyAddressBook addressBook) {
+        addressBookStorage.trackAddressBook(addressBook);
+    }
+
+    @Override
+    public void trackLoadedAddressBook(ReadOnlyAddressBook addressBook, boolean isDataFileRead) throws IOException {
+        addressBookStorage.trackLoadedAddressBook(addressBook, isDataFileRead);
+        writtenAddressBookVersion = OptionalLong.of(addressBook.getVersion());
+    }
+
+    @Override
+    public void compactAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        logger.fine("Attempting to compact data file: " + addressBookStorage.getAddressBookFilePath());
+        addressBookStorage.compactAddressBook(addressBook);
+        writtenAddressBookVersion = OptionalLong.of(addressBook.getVersion());
+    }
+
+    @Override
+    public OptionalLong getWrittenAddressBookVersion() {
+        return writtenAddressBookVersion;
+    }
+
+    @Override
+    public boolean isAddressBookWritePending() {
+        // Every save is written before it returns
+        return false;
+    }
+
+    @Override
+    public void flush() {
+        // Every save is written before it returns
+    }
+
 }
@@ -0,0 +1,240 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+
+/**
+ * A {@code Storage} that saves the address book in the background, so that saving a large address book does not hold
+ * up the thread that changes it.
+ * <p>
+ * Saving the address book takes a snapshot of it through {@link ReadOnlyAddressBook#snapshot()}, which is not affected
+ * by later changes, and hands the snapshot to a dedicated thread, which writes it to the underlying {@code Storage} at
+ * most {@code maxDelay} after the first unsaved snapshot was taken. Snapshots taken while an earlier one is waiting to
+ * be written replace it, so that a burst of saves is written only once. A snapshot that could not be written is
+ * reported to the failure handler, and written again with the next save or flush. Since saves return before they are
+ * written, {@link #getWrittenAddressBookVersion()} and {@link #isAddressBookWritePending()} tell callers whether their
+ * last save has been written yet. Everything else is done by the underlying {@code Storage} on the calling thread.
+ */
+public class WriteBehindStorage implements Storage {
+
+    public static final Duration DEFAULT_MAX_DELAY = Duration.ofMillis(500);
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindStorage.class);
+
+    private final Storage storage;
+    private final Duration maxDelay;
+    private final Consumer<IOException> failureHandler;
+    private final ScheduledExecutorService writer;
+
+    // Guarded by this storage's own lock
+    private ReadOnlyAddressBook pendingSnapshot;
+    private boolean isWriteScheduled;
+    private boolean isWriting;
+
+    /**
+     * Creates a {@code WriteBehindStorage} that writes the address book to {@code storage} at most {@code maxDelay}
+     * after it is saved, and passes the errors from writing it in the background to {@code failureHandler}.
+     * {@code failureHandler} is called on the writing thread.
+     */
+    public WriteBehindStorage(Storage storage, Duration maxDelay, Consumer<IOException> failureHandler) {
+        requireAllNonNull(storage, maxDelay, failureHandler);
+        this.storage = storage;
+        this.maxDelay = maxDelay;
+        this.failureHandler = failureHandler;
+        this.writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataLoadingException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        storage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ AddressBook methods ==============================
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return storage.readAddressBook();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        return storage.readAddressBook(filePath);
+    }
+
+    /**
+     * Takes a snapshot of {@code addressBook} to be written in the background, and returns without waiting for it
+     * to be written. Does nothing if a snapshot of the same version is already waiting to be written.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        synchronized (this) {
+            if (isWriteScheduled && pendingSnapshot != null
+                    && pendingSnapshot.getVersion() == addressBook.getVersion()) {
+                return;
+            }
+        }
+        ReadOnlyAddressBook snapshot = addressBook.snapshot();
+
+        synchronized (this) {
+            pendingSnapshot = snapshot;
+            if (isWriteScheduled) {
+                return;
+            }
+            isWriteScheduled = true;
+        }
+        writer.schedule(this::writePendingSnapshotInBackground, maxDelay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        storage.saveAddressBook(addressBook, filePath);
+    }
+
+    @Override
+    public void trackAddressBook(ReadOnlyAddressBook addressBook) {
+        storage.trackAddressBook(addressBook);
+    }
+
+    @Override
+    public void trackLoadedAddressBook(ReadOnlyAddressBook addressBook, boolean isDataFileRead) throws IOException {
+        storage.trackLoadedAddressBook(addressBook, isDataFileRead);
+    }
+
+    /**
+     * Writes the snapshot waiting to be written, if any, and then compacts a snapshot of {@code addressBook}.
+     * Only returns when both are done.
+     */
+    @Override
+    public void compactAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        ReadOnlyAddressBook snapshot = addressBook.snapshot();
+        runOnWriter(() -> {
+            writePendingSnapshot();
+            storage.compactAddressBook(snapshot);
+        });
+    }
+
+    @Override
+    public OptionalLong getWrittenAddressBookVersion() {
+        return storage.getWrittenAddressBookVersion();
+    }
+
+    @Override
+    public synchronized boolean isAddressBookWritePending() {
+        return isWriteScheduled || isWriting;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        runOnWriter(this::writePendingSnapshot);
+    }
+
+    private void writePendingSnapshotInBackground() {
+        try {
+            writePendingSnapshot();
+        } catch (IOException e) {
+            logger.warning("Failed to save address book in the background: " + StringUtil.getDetails(e));
+            failureHandler.accept(e);
+        }
+    }
+
+    /**
+     * Writes the snapshot waiting to be written, if any. Only called on the writing thread.
+     */
+    private void writePendingSnapshot() throws IOException {
+        ReadOnlyAddressBook snapshot;
+        synchronized (this) {
+            snapshot = pendingSnapshot;
+            pendingSnapshot = null;
+            isWriteScheduled = false;
+            isWriting = snapshot != null;
+        }
+        if (snapshot == null) {
+            return;
+        }
+
+        try {
+            storage.saveAddressBook(snapshot);
+        } catch (IOException e) {
+            synchronized (this) {
+                if (pendingSnapshot == null) {
+                    pendingSnapshot = snapshot;
+                }
+            }
+            throw e;
+        } finally {
+            synchronized (this) {
+                isWriting = false;
+            }
+        }
+    }
+
+    /**
+     * Runs {@code task} on the writing thread after the tasks already handed to it, and waits for it to finish.
+     */
+    private void runOnWriter(WriteTask task) throws IOException {
+        try {
+            writer.submit(() -> {
+                task.run();
+                return null;
+            }).get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw new IOException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Writes to the underlying storage.
+     */
+    @FunctionalInterface
+    private interface WriteTask {
+        void run() throws IOException;
+    }
+}
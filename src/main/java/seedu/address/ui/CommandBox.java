@@ -1,11 +1,13 @@
 package seedu.address.ui;
 
+import javafx.animation.PauseTransition;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextArea;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
+import javafx.util.Duration;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -17,8 +19,11 @@ public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
     private static final String FXML = "CommandBox.fxml";
+    private static final Duration PREVIEW_DELAY = Duration.millis(150);
 
     private final CommandExecutor commandExecutor;
+    private final SearchPreviewer searchPreviewer;
+    private final PauseTransition previewDelay = new PauseTransition(PREVIEW_DELAY);
 
     @FXML
     private TextArea commandTextArea;
@@ -27,8 +32,18 @@ public class CommandBox extends UiPart<Region> {
      * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
      */
     public CommandBox(CommandExecutor commandExecutor) {
+        this(commandExecutor, SearchPreviewer.NONE);
+    }
+
+    /**
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor}, which shows search previews through
+     * {@code searchPreviewer} once the user pauses typing.
+     */
+    public CommandBox(CommandExecutor commandExecutor, SearchPreviewer searchPreviewer) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.searchPreviewer = searchPreviewer;
+        previewDelay.setOnFinished(unused -> searchPreviewer.preview(commandTextArea.getText()));
 
         commandTextArea.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
             if (event.getCode() == KeyCode.ENTER && !event.isShiftDown()) {
@@ -37,9 +52,11 @@ public class CommandBox extends UiPart<Region> {
             }
         });
 
-        // Reset style when user types
-        commandTextArea.textProperty().addListener((
-                unused1, unused2, unused3) -> setStyleToDefault());
+        // Reset style and wait for the user to pause before previewing when user types
+        commandTextArea.textProperty().addListener((unused1, unused2, unused3) -> {
+            setStyleToDefault();
+            previewDelay.playFromStart();
+        });
     }
 
     /**
@@ -56,8 +73,11 @@ public class CommandBox extends UiPart<Region> {
             }
 
             try {
+                previewDelay.stop();
+                searchPreviewer.cancel();
                 commandExecutor.execute(commandText);
                 commandTextArea.clear();
+                previewDelay.stop();
             } catch (CommandException | ParseException e) {
                 setStyleToIndicateCommandFailure();
             }
@@ -97,4 +117,30 @@ public class CommandBox extends UiPart<Region> {
         CommandResult execute(String commandText) throws CommandException, ParseException;
     }
 
+    /**
+     * Represents a function that previews the results of a command while it is being typed.
+     */
+    public interface SearchPreviewer {
+        /**
+         * A {@code SearchPreviewer} that does not preview anything.
+         */
+        SearchPreviewer NONE = new SearchPreviewer() {
+            @Override
+            public void preview(String commandText) {}
+
+            @Override
+            public void cancel() {}
+        };
+
+        /**
+         * Previews the results of {@code commandText}, which may be incomplete.
+         */
+        void preview(String commandText);
+
+        /**
+         * Discards any preview in progress, as a command is about to be executed.
+         */
+        void cancel();
+    }
+
 }
@@ -135,11 +135,11 @@ public class MainWindow extends UiPart<Stage> {
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
         assert statusbarPlaceholder != null : "statusbarPlaceholder' was not added";
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
+        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath(), logic.loadingProperty());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
         assert commandBoxPlaceholder != null : "commandBoxPlaceholder' was not added";
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand, new PersonSearchPreviewer(logic));
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
 
         appointmentListPanel =
@@ -190,6 +190,15 @@ public class MainWindow extends UiPart<Stage> {
         primaryStage.show();
     }
 
+    /**
+     * Shows {@code feedbackToUser} in the result display.
+     */
+    void showFeedbackToUser(String feedbackToUser) {
+        if (resultDisplay != null) {
+            resultDisplay.setFeedbackToUser(feedbackToUser);
+        }
+    }
+
     /**
      * Closes the application.
      */
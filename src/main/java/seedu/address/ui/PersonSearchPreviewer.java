@@ -0,0 +1,128 @@
+package seedu.address.ui;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import javafx.application.Platform;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.person.IdentityNumber;
+import seedu.address.model.person.Person;
+
+/**
+ * Narrows the person list as a {@code find} command is being typed, before it is entered.
+ * <p>
+ * Each word typed after the command word is treated as a prefix of a word in a person's name or identity number.
+ * Attribute values such as {@code m\Warfarin} are not previewed.
+ * Lookups run on a background thread against the keyword index of the model, and show at most
+ * {@code MAX_PREVIEW_RESULTS} persons, so that typing stays responsive however many persons there are.
+ * Only the result of the latest lookup is shown. Once the command is cleared or entered, the person list is filtered
+ * as it was before the preview again.
+ */
+public class PersonSearchPreviewer implements CommandBox.SearchPreviewer {
+
+    public static final int MAX_PREVIEW_RESULTS = 200;
+
+    private static final String FIND_COMMAND_PREFIX = FindCommand.COMMAND_WORD + " ";
+
+    private final Logic logic;
+    private final Executor searchExecutor;
+    private final Executor uiExecutor;
+
+    // Only accessed on the JavaFX application thread
+    private long latestRequest;
+    // The filter of the person list before the preview, or null if no preview is shown
+    private Predicate<Person> filterBeforePreview;
+
+    /**
+     * Creates a previewer that looks up persons on a background thread, and shows them on the JavaFX application
+     * thread.
+     */
+    public PersonSearchPreviewer(Logic logic) {
+        this(logic, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "person-search-preview");
+            thread.setDaemon(true);
+            return thread;
+        }), Platform::runLater);
+    }
+
+    /**
+     * Creates a previewer that looks up persons through {@code searchExecutor}, and shows them through
+     * {@code uiExecutor}, which should run them on the JavaFX application thread.
+     */
+    PersonSearchPreviewer(Logic logic, Executor searchExecutor, Executor uiExecutor) {
+        requireAllNonNull(logic, searchExecutor, uiExecutor);
+        this.logic = logic;
+        this.searchExecutor = searchExecutor;
+        this.uiExecutor = uiExecutor;
+    }
+
+    @Override
+    public void preview(String commandText) {
+        long request = ++latestRequest;
+        List<String> prefixes = getSearchPrefixes(commandText);
+        if (prefixes.isEmpty()) {
+            restoreFilter();
+            return;
+        }
+
+        searchExecutor.execute(() -> {
+            Set<IdentityNumber> matches = logic.findPersonsByKeywordPrefixes(prefixes, MAX_PREVIEW_RESULTS);
+            uiExecutor.execute(() -> showMatches(request, matches));
+        });
+    }
+
+    /**
+     * Discards any preview in progress, and filters the person list as it was before the preview, so that a command
+     * that does not change the filter, or fails, leaves the list as the user last saw it.
+     */
+    @Override
+    public void cancel() {
+        latestRequest++;
+        restoreFilter();
+    }
+
+    private void showMatches(long request, Set<IdentityNumber> matches) {
+        if (request != latestRequest) {
+            return;
+        }
+        if (filterBeforePreview == null) {
+            filterBeforePreview = logic.getFilteredPersonListPredicate();
+        }
+        logic.updateFilteredPersonList(person -> matches.contains(person.getIdentityNumber()));
+    }
+
+    private void restoreFilter() {
+        if (filterBeforePreview != null) {
+            logic.updateFilteredPersonList(filterBeforePreview);
+            filterBeforePreview = null;
+        }
+    }
+
+    /**
+     * Returns the words typed after the {@code find} command word in {@code commandText},
+     * or an empty list if {@code commandText} is not a {@code find} command with at least one word.
+     */
+    static List<String> getSearchPrefixes(String commandText) {
+        String trimmedText = commandText.stripLeading();
+        if (!trimmedText.startsWith(FIND_COMMAND_PREFIX)) {
+            return Collections.emptyList();
+        }
+
+        String arguments = trimmedText.substring(FIND_COMMAND_PREFIX.length()).trim();
+        if (arguments.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return Arrays.stream(arguments.split("\\s+"))
+                .filter(word -> !word.contains("\\"))
+                .collect(Collectors.toList());
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.ui;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
+import javafx.beans.binding.Bindings;
+import javafx.beans.value.ObservableBooleanValue;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
@@ -12,17 +14,23 @@ import javafx.scene.layout.Region;
  */
 public class StatusBarFooter extends UiPart<Region> {
 
+    public static final String LOADING_STATUS_FORMAT = "Loading %s...";
+
     private static final String FXML = "StatusBarFooter.fxml";
 
     @FXML
     private Label saveLocationStatus;
 
     /**
-     * Creates a {@code StatusBarFooter} with the given {@code Path}.
+     * Creates a {@code StatusBarFooter} with the given {@code Path}, which shows that the data is being loaded from
+     * it while {@code isLoading} is true.
      */
-    public StatusBarFooter(Path saveLocation) {
+    public StatusBarFooter(Path saveLocation, ObservableBooleanValue isLoading) {
         super(FXML);
-        saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
+        String saveLocationText = Paths.get(".").resolve(saveLocation).toString();
+        saveLocationStatus.textProperty().bind(Bindings.when(isLoading)
+                .then(String.format(LOADING_STATUS_FORMAT, saveLocationText))
+                .otherwise(saveLocationText));
     }
 
 }
@@ -10,4 +10,7 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /** Shows {@code feedbackToUser} in place of the result of the last command. */
+    void showFeedbackToUser(String feedbackToUser);
+
 }
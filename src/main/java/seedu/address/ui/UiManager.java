@@ -9,6 +9,7 @@ import javafx.scene.image.Image;
 import javafx.stage.Stage;
 import seedu.address.MainApp;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StartupProfiler;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 
@@ -23,13 +24,16 @@ public class UiManager implements Ui {
     private static final String ICON_APPLICATION = "/images/HealthNoteIcon.png";
 
     private Logic logic;
+    private StartupProfiler startupProfiler;
     private MainWindow mainWindow;
 
     /**
-     * Creates a {@code UiManager} with the given {@code Logic}.
+     * Creates a {@code UiManager} with the given {@code Logic}, which records the timings of the phases of its start
+     * in {@code startupProfiler}.
      */
-    public UiManager(Logic logic) {
+    public UiManager(Logic logic, StartupProfiler startupProfiler) {
         this.logic = logic;
+        this.startupProfiler = startupProfiler;
     }
 
     @Override
@@ -40,9 +44,15 @@ public class UiManager implements Ui {
         primaryStage.getIcons().add(getImage(ICON_APPLICATION));
 
         try {
-            mainWindow = new MainWindow(primaryStage, logic);
-            mainWindow.show(); //This should be called before creating other UI parts
-            mainWindow.fillInnerParts();
+            try (StartupProfiler.Phase phase = startupProfiler.start("loadMainWindow")) {
+                mainWindow = new MainWindow(primaryStage, logic);
+            }
+            try (StartupProfiler.Phase phase = startupProfiler.start("showMainWindow")) {
+                mainWindow.show(); //This should be called before creating other UI parts
+            }
+            try (StartupProfiler.Phase phase = startupProfiler.start("fillInnerParts")) {
+                mainWindow.fillInnerParts();
+            }
 
         } catch (Throwable e) {
             logger.severe(StringUtil.getDetails(e));
@@ -50,6 +60,13 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void showFeedbackToUser(String feedbackToUser) {
+        if (mainWindow != null) {
+            mainWindow.showFeedbackToUser(feedbackToUser);
+        }
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
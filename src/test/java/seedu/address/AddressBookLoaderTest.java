@@ -0,0 +1,131 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.StartupProfiler;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.PersonBuilder;
+
+public class AddressBookLoaderTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager();
+    private final List<Integer> personCounts = new ArrayList<>();
+    private Path filePath;
+    private StorageManager storage;
+    private boolean isLoaded;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("addressBook.json");
+        storage = new StorageManager(new JsonAddressBookStorage(filePath),
+                new JsonUserPrefsStorage(testFolder.resolve("userPrefs.json")));
+    }
+
+    @Test
+    public void load_savedAddressBook_loadedIntoModel() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        load();
+
+        assertTrue(isLoaded);
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void load_manyPersons_addedInChunks() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < 2 * AddressBookLoader.CHUNK_SIZE + 1; i++) {
+            addressBook.addPerson(new PersonBuilder().withIdentityNumber("S" + i).build());
+        }
+        storage.saveAddressBook(addressBook);
+        load();
+
+        // two full chunks and one partial chunk of persons, then the callback after the last appointment chunk
+        assertEquals(List.of(0, AddressBookLoader.CHUNK_SIZE, 2 * AddressBookLoader.CHUNK_SIZE,
+                addressBook.getPersonList().size()), personCounts);
+        assertEquals(addressBook, model.getAddressBook());
+    }
+
+    @Test
+    public void load_missingFile_sampleDataLoaded() {
+        load();
+
+        assertTrue(isLoaded);
+        assertEquals(new AddressBook(SampleDataUtil.getSampleAddressBook()), model.getAddressBook());
+    }
+
+    @Test
+    public void load_invalidFile_emptyAddressBookLoaded() throws Exception {
+        Files.writeString(filePath, "not a json file");
+        load();
+
+        assertTrue(isLoaded);
+        assertEquals(new AddressBook(), model.getAddressBook());
+        assertEquals("not a json file", Files.readString(filePath));
+        assertEquals("not a json file", Files.readString(testFolder.resolve("addressBook.json.bak")));
+    }
+
+    @Test
+    public void load_storageThrowsUnexpectedError_emptyAddressBookLoaded() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage = new StorageManager(new JsonAddressBookStorage(filePath) {
+            @Override
+            public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) {
+                throw new StringIndexOutOfBoundsException("dummy unexpected error");
+            }
+        }, new JsonUserPrefsStorage(testFolder.resolve("userPrefs.json")));
+        load();
+
+        assertTrue(isLoaded);
+        assertEquals(new AddressBook(), model.getAddressBook());
+        assertTrue(Files.exists(testFolder.resolve("addressBook.json.bak")));
+    }
+
+    @Test
+    public void load_modelThrowsUnexpectedError_emptyAddressBookLoaded() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        Model failingModel = new ModelManager() {
+            @Override
+            public void addAppointments(List<Appointment> appointments) {
+                throw new IllegalStateException("dummy unexpected error");
+            }
+        };
+        new AddressBookLoader(storage, failingModel, Runnable::run, () -> isLoaded = true, new StartupProfiler())
+                .load();
+
+        assertTrue(isLoaded);
+        assertEquals(new AddressBook(), failingModel.getAddressBook());
+    }
+
+    private void load() {
+        // runs each task at once, noting the number of persons in the model before it
+        Executor uiExecutor = task -> {
+            personCounts.add(model.getAddressBook().getPersonList().size());
+            task.run();
+        };
+        new AddressBookLoader(storage, model, uiExecutor, () -> isLoaded = true, new StartupProfiler()).load();
+    }
+}
@@ -0,0 +1,81 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import seedu.address.commons.core.StartupProfiler.PhaseTiming;
+
+public class StartupProfilerTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final StartupProfiler profiler = new StartupProfiler();
+
+    @Test
+    public void start_nullName_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> profiler.start(null));
+    }
+
+    @Test
+    public void start_nestedPhases_recordedInOrderOfEnding() {
+        try (StartupProfiler.Phase outer = profiler.start("outer")) {
+            try (StartupProfiler.Phase inner = profiler.start("inner")) {
+                allocate();
+            }
+        }
+
+        List<PhaseTiming> timings = profiler.getPhaseTimings();
+        assertEquals(List.of("inner", "outer"), timings.stream().map(PhaseTiming::getName).toList());
+        PhaseTiming inner = timings.get(0);
+        PhaseTiming outer = timings.get(1);
+        assertEquals(Thread.currentThread().getName(), inner.getThread());
+        assertTrue(inner.getWallTimeNanos() >= 0);
+        assertTrue(outer.getWallTimeNanos() >= inner.getWallTimeNanos());
+        assertTrue(inner.getCpuTimeNanos() >= StartupProfiler.NOT_MEASURED);
+        assertTrue(inner.getAllocatedBytes() == StartupProfiler.NOT_MEASURED || inner.getAllocatedBytes() > 0);
+    }
+
+    @Test
+    public void report_phasesEnded_writtenAsJson() throws Exception {
+        try (StartupProfiler.Phase phase = profiler.start("phase")) {
+            allocate();
+        }
+        Path reportFilePath = testFolder.resolve("startup-report.json");
+        profiler.report(new Version(1, 2, 3, false), reportFilePath);
+
+        JsonNode report = new ObjectMapper().readTree(Files.readString(reportFilePath));
+        assertEquals("V1.2.3", report.get("version").asText());
+        assertTrue(report.get("jvmUptimeMillis").asLong() > 0);
+        JsonNode phase = report.get("phases").get(0);
+        assertEquals("phase", phase.get("name").asText());
+        assertEquals(profiler.getPhaseTimings().get(0).getAllocatedBytes(), phase.get("allocatedBytes").asLong());
+    }
+
+    @Test
+    public void report_unwritableFile_onlyLogged() throws Exception {
+        Path reportFilePath = testFolder.resolve("directory");
+        Files.createDirectory(reportFilePath);
+        profiler.report(new Version(1, 2, 3, false), reportFilePath);
+        assertTrue(Files.isDirectory(reportFilePath));
+    }
+
+    private static void allocate() {
+        int[][] arrays = new int[100][];
+        for (int i = 0; i < arrays.length; i++) {
+            arrays[i] = new int[1000];
+        }
+        assertEquals(100, arrays.length);
+    }
+}
@@ -0,0 +1,105 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.util.BatchableObservableList.Batch;
+
+public class BatchableObservableListTest {
+
+    private final BatchableObservableList<String> list = new BatchableObservableList<>();
+    private final List<String> changes = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        list.addAll(List.of("a", "b", "c", "d", "e"));
+        list.addListener((ListChangeListener<String>) change -> changes.add(change.toString()));
+    }
+
+    @Test
+    public void startBatch_severalChanges_notifiesOnceOnClose() {
+        try (Batch batch = list.startBatch()) {
+            list.set(1, "x");
+            list.set(3, "y");
+            list.remove(0);
+            list.add("z");
+            assertTrue(changes.isEmpty());
+        }
+
+        assertEquals(List.of("x", "c", "y", "e", "z"), list);
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void startBatch_adjacentSets_mergedIntoOneReplacement() {
+        List<List<String>> replacements = new ArrayList<>();
+        list.addListener((ListChangeListener<String>) change -> {
+            while (change.next()) {
+                replacements.add(List.copyOf(change.getRemoved()));
+                replacements.add(List.copyOf(change.getAddedSubList()));
+            }
+        });
+
+        try (Batch batch = list.startBatch()) {
+            list.set(1, "B");
+            list.set(2, "C");
+        }
+        assertEquals(List.of(List.of("b", "c"), List.of("B", "C")), replacements);
+    }
+
+    @Test
+    public void startBatch_nested_notifiesWhenOutermostCloses() {
+        try (Batch outer = list.startBatch()) {
+            try (Batch inner = list.startBatch()) {
+                list.add("f");
+            }
+            assertTrue(changes.isEmpty());
+            list.add("g");
+        }
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void startBatch_noChanges_doesNotNotify() {
+        try (Batch batch = list.startBatch()) {
+            list.removeAll(List.of("q"));
+        }
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void removeAll_scatteredElements_removesInOneChange() {
+        assertTrue(list.removeAll(List.of("a", "c", "e", "q")));
+        assertEquals(List.of("b", "d"), list);
+        assertEquals(1, changes.size());
+        assertFalse(list.removeAll(List.of("q")));
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void rangeMethods_modifyInOneChange() {
+        list.remove(1, 3);
+        assertEquals(List.of("a", "d", "e"), list);
+        list.addAll(1, List.of("p", "q"));
+        assertEquals(List.of("a", "p", "q", "d", "e"), list);
+        list.clear();
+        assertTrue(list.isEmpty());
+        assertEquals(3, changes.size());
+    }
+
+    @Test
+    public void rangeMethods_invalidIndex_throwsIndexOutOfBoundsException() {
+        assertThrows(IndexOutOfBoundsException.class, () -> list.remove(3, 6));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.addAll(6, List.of("p")));
+        assertTrue(changes.isEmpty());
+    }
+}
@@ -1,14 +1,21 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.commons.util.CollectionUtil.toCompactSet;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 
@@ -82,6 +89,36 @@ public class CollectionUtilTest {
         assertTrue(CollectionUtil.isAnyNonNull(new Object(), null));
     }
 
+    @Test
+    public void toCompactSet_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> toCompactSet(null));
+        assertThrows(NullPointerException.class, () -> toCompactSet(Arrays.asList("a", null)));
+    }
+
+    @Test
+    public void toCompactSet_variousSizes_equalToHashSet() {
+        for (int size : new int[] {0, 1, 2, CollectionUtil.MAX_ARRAY_SET_SIZE, CollectionUtil.MAX_ARRAY_SET_SIZE + 1}) {
+            List<Integer> items = IntStream.range(0, size).boxed().collect(Collectors.toList());
+            Set<Integer> expected = new HashSet<>(items);
+            Set<Integer> compactSet = toCompactSet(items);
+
+            assertEquals(expected, compactSet);
+            assertEquals(compactSet, expected);
+            assertEquals(expected.hashCode(), compactSet.hashCode());
+            assertFalse(compactSet.contains(size));
+            assertThrows(UnsupportedOperationException.class, () -> compactSet.add(size));
+            assertThrows(UnsupportedOperationException.class, () -> compactSet.remove(size));
+            assertThrows(UnsupportedOperationException.class, compactSet::clear);
+        }
+    }
+
+    @Test
+    public void toCompactSet_duplicates_keepsFirstOccurrenceOrder() {
+        Set<String> compactSet = toCompactSet(Arrays.asList("b", "a", "b", "c"));
+        assertEquals(List.of("b", "a", "c"), List.copyOf(compactSet));
+        assertEquals(List.of("b", "a", "c"), List.copyOf(toCompactSet(new LinkedHashSet<>(compactSet))));
+    }
+
     /**
      * Asserts that {@code CollectionUtil#requireAllNonNull(Object...)} throw {@code NullPointerException}
      * if {@code objects} or any element of {@code objects} is null.
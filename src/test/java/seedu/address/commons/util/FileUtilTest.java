@@ -1,10 +1,18 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
@@ -20,4 +28,29 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void readFromFile_compressedAndUncompressed_sameContent(@TempDir Path testFolder) throws Exception {
+        String content = "{ \"persons\" : [ ] }";
+        Path uncompressedFile = testFolder.resolve("uncompressed.json");
+        FileUtil.writeToFile(uncompressedFile, content);
+
+        Path compressedFile = testFolder.resolve("compressed.json");
+        try (OutputStream outputStream = FileUtil.compress(Files.newOutputStream(compressedFile),
+                FileUtil.MAX_COMPRESSION_LEVEL)) {
+            outputStream.write(content.getBytes(StandardCharsets.UTF_8));
+            FileUtil.finishCompressing(outputStream);
+        }
+
+        assertEquals(content, FileUtil.readFromFile(uncompressedFile));
+        assertEquals(content, FileUtil.readFromFile(compressedFile));
+    }
+
+    @Test
+    public void compress_noCompression_sameStream() throws Exception {
+        OutputStream outputStream = OutputStream.nullOutputStream();
+        assertSame(outputStream, FileUtil.compress(outputStream, FileUtil.NO_COMPRESSION));
+        assertThrows(IllegalArgumentException.class, () ->
+                FileUtil.compress(outputStream, FileUtil.MAX_COMPRESSION_LEVEL + 1));
+    }
+
 }
@@ -0,0 +1,53 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Tag;
+
+public class InternerTest {
+
+    @Test
+    public void constructor_invalidArguments_throwsException() {
+        assertThrows(NullPointerException.class, () -> new Interner<Tag>(null));
+        assertThrows(IllegalArgumentException.class, () -> new Interner<>(Tag::new, -1));
+    }
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        Interner<Tag> interner = new Interner<>(Tag::new);
+        assertThrows(NullPointerException.class, () -> interner.intern(null));
+    }
+
+    @Test
+    public void intern_equalValues_returnsSameInstance() {
+        Interner<Tag> interner = new Interner<>(Tag::new);
+        Tag tag = interner.intern(new String("friends"));
+        assertSame(tag, interner.intern(new String("friends")));
+        assertEquals(new Tag("friends"), tag);
+        assertEquals(1, interner.size());
+    }
+
+    @Test
+    public void intern_invalidValue_throwsAndIsNotCached() {
+        Interner<Tag> interner = new Interner<>(Tag::new);
+        assertThrows(IllegalArgumentException.class, () -> interner.intern(" "));
+        assertEquals(0, interner.size());
+    }
+
+    @Test
+    public void intern_cacheFull_returnsUncachedInstances() {
+        Interner<Tag> interner = new Interner<>(Tag::new, 1);
+        Tag friends = interner.intern("friends");
+        Tag colleagues = interner.intern("colleagues");
+
+        assertSame(friends, interner.intern("friends"));
+        assertNotSame(colleagues, interner.intern("colleagues"));
+        assertEquals(new Tag("colleagues"), colleagues);
+        assertEquals(1, interner.size());
+    }
+}
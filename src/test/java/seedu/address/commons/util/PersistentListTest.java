@@ -0,0 +1,118 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void copyOf_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersistentList.copyOf(null));
+    }
+
+    @Test
+    public void copyOf_persistentList_returnsSameList() {
+        PersistentList<Integer> list = PersistentList.copyOf(List.of(1, 2, 3));
+        assertSame(list, PersistentList.copyOf(list));
+        assertSame(PersistentList.empty(), PersistentList.copyOf(List.of()));
+    }
+
+    @Test
+    public void get_invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentList<Integer> list = PersistentList.copyOf(List.of(1, 2, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> PersistentList.empty().get(0));
+    }
+
+    @Test
+    public void modifyingMethods_leaveOriginalUnchanged() {
+        PersistentList<Integer> list = PersistentList.copyOf(List.of(1, 2, 3));
+
+        assertEquals(List.of(1, 5, 3), list.with(1, 5));
+        assertEquals(List.of(5, 1, 2, 3), list.plus(0, 5));
+        assertEquals(List.of(1, 2, 3, 5), list.plus(3, 5));
+        assertEquals(List.of(1, 3), list.minus(1));
+        assertEquals(List.of(1, 7, 8, 9), list.replace(1, 3, List.of(7, 8, 9)));
+        assertEquals(List.of(1, 2, 3), list);
+    }
+
+    @Test
+    public void modifyingMethods_invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentList<Integer> list = PersistentList.copyOf(List.of(1, 2, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.with(3, 5));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.plus(4, 5));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.minus(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.replace(2, 1, List.of()));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.subList(0, 4));
+    }
+
+    @Test
+    public void listMethods_unsupported() {
+        PersistentList<Integer> list = PersistentList.copyOf(List.of(1, 2, 3));
+        assertThrows(UnsupportedOperationException.class, () -> list.add(4));
+        assertThrows(UnsupportedOperationException.class, () -> list.set(0, 4));
+        assertThrows(UnsupportedOperationException.class, () -> list.remove(0));
+    }
+
+    @Test
+    public void subList_returnsPersistentListOfRange() {
+        PersistentList<Integer> list = PersistentList.copyOf(IntStream.range(0, 100).boxed().toList());
+        PersistentList<Integer> subList = list.subList(10, 20);
+        assertEquals(IntStream.range(10, 20).boxed().toList(), subList);
+        assertEquals(List.of(10, 11, 12), subList.replace(3, 10, List.of()));
+        assertTrue(list.subList(50, 50).isEmpty());
+    }
+
+    @Test
+    public void randomChanges_matchArrayList() {
+        Random random = new Random(2103);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> list = PersistentList.empty();
+        List<PersistentList<Integer>> versions = new ArrayList<>();
+        List<List<Integer>> expectedVersions = new ArrayList<>();
+
+        for (int i = 0; i < 2000; i++) {
+            int size = expected.size();
+            int operation = random.nextInt(4);
+            if (operation == 0 || size == 0) {
+                int index = random.nextInt(size + 1);
+                expected.add(index, i);
+                list = list.plus(index, i);
+            } else if (operation == 1) {
+                int index = random.nextInt(size);
+                expected.set(index, i);
+                list = list.with(index, i);
+            } else if (operation == 2) {
+                int index = random.nextInt(size);
+                expected.remove(index);
+                list = list.minus(index);
+            } else {
+                int from = random.nextInt(size + 1);
+                int to = from + random.nextInt(size - from + 1);
+                List<Integer> replacement = IntStream.range(0, random.nextInt(20)).map(j -> -j).boxed().toList();
+                expected.subList(from, to).clear();
+                expected.addAll(from, replacement);
+                list = list.replace(from, to, replacement);
+            }
+            assertEquals(expected.size(), list.size());
+            if (i % 100 == 0) {
+                versions.add(list);
+                expectedVersions.add(new ArrayList<>(expected));
+            }
+        }
+
+        assertEquals(expected, list);
+        // earlier versions are unaffected by later changes
+        assertEquals(expectedVersions, versions);
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -23,7 +25,11 @@ import static seedu.address.testutil.TypicalPersons.AMY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -31,7 +37,10 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
@@ -43,11 +52,16 @@ import seedu.address.model.person.Person;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
+import seedu.address.storage.WriteBehindStorage;
 import seedu.address.testutil.PersonBuilder;
 
 public class LogicManagerTest {
     private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy IO exception");
     private static final IOException DUMMY_AD_EXCEPTION = new AccessDeniedException("dummy access denied exception");
+    private static final String ADD_COMMAND_AMY = AddCommand.COMMAND_WORD + NAME_DESC_AMY + IDENTITY_NUMBER_DESC_AMY
+            + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + EMERGENCY_CONTACT_DESC_AMY + DATE_OF_BIRTH_DESC_AMY
+            + BLOOD_TYPE_DESC + ALCOHOLIC_RECORD_DESC_AMY + GENDER_DESC_AMY + SMOKING_RECORD_DESC_AMY
+            + ALLERGY_DESC_NUTS + MEDICINE_DESC_ANTIDEPRESSANT + PAST_MEDICAL_HISTORY_DESC_AMY;
 
     @TempDir
     public Path temporaryFolder;
@@ -95,6 +109,127 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_addressBookUnchanged_notSaved() throws Exception {
+        assertFalse(logic.execute(ListCommand.COMMAND_WORD).isAddressBookSaved());
+        assertFalse(Files.exists(temporaryFolder.resolve("addressBook.json")));
+    }
+
+    @Test
+    public void execute_addressBookChanged_saved() throws Exception {
+        assertTrue(logic.execute(ADD_COMMAND_AMY).isAddressBookSaved());
+        assertTrue(Files.exists(temporaryFolder.resolve("addressBook.json")));
+
+        // saved once only
+        assertFalse(logic.execute(ListCommand.COMMAND_WORD).isAddressBookSaved());
+    }
+
+    @Test
+    public void execute_whileLoading_notSaved() throws Exception {
+        logic.startLoading();
+        assertFalse(logic.execute(HelpCommand.COMMAND_WORD).isAddressBookSaved());
+    }
+
+    @Test
+    public void execute_previousSaveFailed_savedByNextCommand() {
+        assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
+                LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()));
+
+        // the unsaved change is saved again even though the list command changes nothing
+        assertThrows(CommandException.class, () -> logic.execute(ListCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void execute_backgroundSaveFailed_savedByNextCommand() throws Exception {
+        AtomicBoolean isFailing = new AtomicBoolean(true);
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        if (isFailing.get()) {
+                            throw DUMMY_IO_EXCEPTION;
+                        }
+                        super.saveAddressBook(addressBook, filePath);
+                    }
+                };
+        WriteBehindStorage storage = new WriteBehindStorage(new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))), Duration.ofHours(1), e -> {});
+        logic = new LogicManager(model, storage);
+
+        assertTrue(logic.execute(ADD_COMMAND_AMY).isAddressBookSaved());
+        assertThrows(IOException.class, storage::flush);
+
+        // the list command changes nothing, but the change that failed to be written is saved again
+        isFailing.set(false);
+        assertTrue(logic.execute(ListCommand.COMMAND_WORD).isAddressBookSaved());
+        storage.flush();
+        assertTrue(Files.exists(temporaryFolder.resolve("addressBook.json")));
+        assertFalse(logic.execute(ListCommand.COMMAND_WORD).isAddressBookSaved());
+    }
+
+    @Test
+    public void execute_unchangedWhileSaveNotWritten_notSavedAgain() throws Exception {
+        WriteBehindStorage storage = new WriteBehindStorage(new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))), Duration.ofHours(1), e -> {});
+        logic = new LogicManager(model, storage);
+
+        assertTrue(logic.execute(ADD_COMMAND_AMY).isAddressBookSaved());
+        assertTrue(storage.isAddressBookWritePending());
+
+        // the list command changes nothing, and the pending save is left to be written
+        assertFalse(logic.execute(ListCommand.COMMAND_WORD).isAddressBookSaved());
+        assertFalse(Files.exists(temporaryFolder.resolve("addressBook.json")));
+
+        storage.flush();
+        assertFalse(storage.isAddressBookWritePending());
+        assertTrue(Files.exists(temporaryFolder.resolve("addressBook.json")));
+        assertFalse(logic.execute(ListCommand.COMMAND_WORD).isAddressBookSaved());
+    }
+
+    @Test
+    public void execute_whileLoading_commandQueuedUntilLoaded() throws Exception {
+        logic.startLoading();
+        assertTrue(logic.loadingProperty().get());
+        assertCommandSuccess(ADD_COMMAND_AMY, LogicManager.MESSAGE_COMMAND_QUEUED, new ModelManager());
+        assertEquals(HelpCommand.SHOWING_HELP_MESSAGE, logic.execute(HelpCommand.COMMAND_WORD).getFeedbackToUser());
+
+        List<String> feedback = logic.finishLoading();
+        assertFalse(logic.loadingProperty().get());
+        assertEquals(1, feedback.size());
+        assertTrue(model.hasPerson(AMY));
+        assertTrue(Files.exists(temporaryFolder.resolve("addressBook.json")));
+    }
+
+    @Test
+    public void execute_undoAndRedo_restoresAddressBook() throws Exception {
+        logic.execute(ADD_COMMAND_AMY);
+
+        assertEquals(UndoCommand.MESSAGE_SUCCESS, logic.execute(UndoCommand.COMMAND_WORD).getFeedbackToUser());
+        assertFalse(model.hasPerson(AMY));
+        assertEquals(RedoCommand.MESSAGE_SUCCESS, logic.execute(RedoCommand.COMMAND_WORD).getFeedbackToUser());
+        assertTrue(model.hasPerson(AMY));
+    }
+
+    @Test
+    public void finishLoading_loadedAddressBook_notUndoable() throws Exception {
+        logic.startLoading();
+        model.addPersons(List.of(AMY));
+        logic.finishLoading();
+
+        assertCommandException(UndoCommand.COMMAND_WORD, UndoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void finishLoading_loadedAddressBook_notSaved() throws Exception {
+        logic.startLoading();
+        model.addPersons(List.of(AMY));
+
+        assertEquals(List.of(), logic.finishLoading());
+        assertFalse(logic.execute(ListCommand.COMMAND_WORD).isAddressBookSaved());
+        assertFalse(Files.exists(temporaryFolder.resolve("addressBook.json")));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -207,10 +342,7 @@ public class LogicManagerTest {
         logic = new LogicManager(model, storage);
 
         // Triggers the saveAddressBook method by executing an add command
-        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + IDENTITY_NUMBER_DESC_AMY + PHONE_DESC_AMY
-                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + EMERGENCY_CONTACT_DESC_AMY + DATE_OF_BIRTH_DESC_AMY
-                + BLOOD_TYPE_DESC + ALCOHOLIC_RECORD_DESC_AMY + GENDER_DESC_AMY + SMOKING_RECORD_DESC_AMY
-                + ALLERGY_DESC_NUTS + MEDICINE_DESC_ANTIDEPRESSANT + PAST_MEDICAL_HISTORY_DESC_AMY;
+        String addCommand = ADD_COMMAND_AMY;
         Person expectedPerson = new PersonBuilder(AMY).withTags().build();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addPerson(expectedPerson);
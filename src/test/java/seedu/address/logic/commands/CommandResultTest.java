@@ -34,6 +34,9 @@ public class CommandResultTest {
 
         // different exit value -> returns false
         assertFalse(commandResult.equals(new CommandResult("feedback", false, true)));
+
+        // different isAddressBookSaved value -> returns false
+        assertFalse(commandResult.equals(commandResult.withAddressBookSaved()));
     }
 
     @Test
@@ -62,7 +65,8 @@ public class CommandResultTest {
         CommandResult commandResult = new CommandResult("feedback");
         String expected = CommandResult.class.getCanonicalName() + "{feedbackToUser="
                 + commandResult.getFeedbackToUser() + ", isHelp=" + commandResult.isHelp()
-                + ", isExit=" + commandResult.isExit() + ", themePath=" + commandResult.getThemePath() + "}";
+                + ", isExit=" + commandResult.isExit() + ", themePath=" + commandResult.getThemePath()
+                + ", isAddressBookSaved=" + commandResult.isAddressBookSaved() + "}";
         assertEquals(expected, commandResult.toString());
     }
 
@@ -5,13 +5,18 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.ELLE;
 import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
@@ -19,6 +24,10 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.NameOrIdContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonAttribute;
+import seedu.address.model.person.PersonHasAttributesPredicate;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -74,11 +83,72 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_nameAndIdKeywordsIgnoringCase_matchingPersonsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        NameOrIdContainsKeywordsPredicate predicate = preparePredicate("kURZ fk67 Kur");
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(CARL, FIONA), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_attributes_personsWithAllAttributesFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        PersonHasAttributesPredicate attributesPredicate = new PersonHasAttributesPredicate(
+                Map.of(PersonAttribute.TAG, List.of("OWESMONEY", "friends")));
+        FindCommand command = new FindCommand(
+                new NameOrIdContainsKeywordsPredicate(Collections.emptyList()), attributesPredicate);
+        expectedModel.updateFilteredPersonList(attributesPredicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON, GEORGE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_keywordsAndAttributes_personsMatchingBothFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        NameOrIdContainsKeywordsPredicate predicate = preparePredicate("Meier Pauline");
+        PersonHasAttributesPredicate attributesPredicate = new PersonHasAttributesPredicate(
+                Map.of(PersonAttribute.TAG, List.of("friends"), PersonAttribute.GENDER, List.of("m")));
+        FindCommand command = new FindCommand(predicate, attributesPredicate);
+        expectedModel.updateFilteredPersonList(predicate.and(attributesPredicate));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_unknownAttributeValue_noPersonFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0);
+        PersonHasAttributesPredicate attributesPredicate = new PersonHasAttributesPredicate(
+                Map.of(PersonAttribute.MEDICINE, List.of("Warfarin"), PersonAttribute.ALLERGY, List.of("nuts")));
+        FindCommand command = new FindCommand(
+                new NameOrIdContainsKeywordsPredicate(Collections.emptyList()), attributesPredicate);
+        expectedModel.updateFilteredPersonList(attributesPredicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_personsChangedAfterFind_filteredListKeepsMatching() {
+        FindCommand command = new FindCommand(preparePredicate("Kurz Elle Kunz"));
+        command.execute(model);
+
+        Person matchingBenson = new PersonBuilder(BENSON).withName("Benson Kurz").build();
+        model.setPerson(BENSON, matchingBenson);
+        assertEquals(Arrays.asList(matchingBenson, CARL, ELLE, FIONA), model.getFilteredPersonList());
+
+        Person editedCarl = new PersonBuilder(CARL).withName("Carl Meier").build();
+        model.setPerson(CARL, editedCarl);
+        assertEquals(Arrays.asList(matchingBenson, ELLE, FIONA), model.getFilteredPersonList());
+    }
+
     @Test
     public void toStringMethod() {
         NameOrIdContainsKeywordsPredicate predicate = new NameOrIdContainsKeywordsPredicate(Arrays.asList("keyword"));
         FindCommand findCommand = new FindCommand(predicate);
-        String expected = FindCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        String expected = FindCommand.class.getCanonicalName() + "{predicate=" + predicate
+                + ", attributesPredicate=" + new PersonHasAttributesPredicate(Collections.emptyMap()) + "}";
         assertEquals(expected, findCommand.toString());
     }
 
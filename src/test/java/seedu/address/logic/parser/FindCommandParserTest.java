@@ -5,11 +5,17 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSucces
 import static seedu.address.logic.parser.FindCommandParser.MESSAGE_INVALID_FIND;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.model.person.NameOrIdContainsKeywordsPredicate;
+import seedu.address.model.person.PersonAttribute;
+import seedu.address.model.person.PersonHasAttributesPredicate;
 
 public class FindCommandParserTest {
 
@@ -31,4 +37,30 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_attributes_returnsFindCommand() {
+        FindCommand expectedFindCommand = new FindCommand(
+                new NameOrIdContainsKeywordsPredicate(Collections.emptyList()),
+                new PersonHasAttributesPredicate(Map.of(
+                        PersonAttribute.MEDICINE, List.of("Warfarin"),
+                        PersonAttribute.ALLERGY, List.of("Penicillin", "nuts"))));
+        assertParseSuccess(parser, " m\\Warfarin  al\\Penicillin al\\nuts ", expectedFindCommand);
+
+        // keywords and attributes
+        expectedFindCommand = new FindCommand(
+                new NameOrIdContainsKeywordsPredicate(Arrays.asList("Alice", "Bob")),
+                new PersonHasAttributesPredicate(Map.of(PersonAttribute.BLOOD_TYPE, List.of("AB+"))));
+        assertParseSuccess(parser, " Alice Bob b\\AB+", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_invalidAttributes_throwsParseException() {
+        // blank value
+        assertParseFailure(parser, " m\\ ", PersonAttribute.MEDICINE.getMessageConstraints());
+
+        // repeated single-valued attribute
+        assertParseFailure(parser, " g\\F g\\M",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_GENDER));
+    }
+
 }
@@ -0,0 +1,67 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAppointments.APPT_ALICE;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.person.Person;
+
+public class AddressBookSnapshotTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+
+    @Test
+    public void snapshot_laterChanges_snapshotUnchanged() {
+        List<Person> persons = new ArrayList<>(addressBook.getPersonList());
+        List<Appointment> appointments = new ArrayList<>(addressBook.getAppointmentList());
+        long version = addressBook.getVersion();
+        ReadOnlyAddressBook snapshot = addressBook.snapshot();
+
+        addressBook.addPerson(AMY);
+        addressBook.removePerson(ALICE);
+        addressBook.removeAppointment(APPT_ALICE);
+
+        assertEquals(persons, snapshot.getPersonList());
+        assertEquals(appointments, snapshot.getAppointmentList());
+        assertEquals(version, snapshot.getVersion());
+        assertNotEquals(version, addressBook.getVersion());
+        assertEquals(addressBook.getPersonList(), addressBook.snapshot().getPersonList());
+    }
+
+    @Test
+    public void snapshot_ofSnapshot_returnsSameSnapshot() {
+        ReadOnlyAddressBook snapshot = addressBook.snapshot();
+        assertSame(snapshot, snapshot.snapshot());
+    }
+
+    @Test
+    public void copyOf_addressBook_equalToSnapshot() {
+        assertEquals(addressBook.snapshot(), AddressBookSnapshot.copyOf(addressBook));
+        assertEquals(addressBook.getVersion(), AddressBookSnapshot.copyOf(addressBook).getVersion());
+        assertThrows(NullPointerException.class, () -> AddressBookSnapshot.copyOf(null));
+    }
+
+    @Test
+    public void lists_modify_throwsUnsupportedOperationException() {
+        ReadOnlyAddressBook snapshot = addressBook.snapshot();
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getPersonList().remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getAppointmentList().add(APPT_ALICE));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getPersonList().iterator().remove());
+    }
+
+    @Test
+    public void copy_ofSnapshot_equalsAddressBook() {
+        assertEquals(addressBook, new AddressBook(addressBook.snapshot()));
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
@@ -9,20 +10,25 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalAppointments.APPT_ALICE;
 import static seedu.address.testutil.TypicalAppointments.APPT_BENSON;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.BatchableObservableList.Batch;
 import seedu.address.model.appointment.Appointment;
 import seedu.address.model.appointment.exceptions.DuplicateAppointmentException;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonAttribute;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.testutil.PersonBuilder;
 
@@ -58,6 +64,19 @@ public class AddressBookTest {
         assertThrows(DuplicatePersonException.class, () -> addressBook.resetData(newData));
     }
 
+    @Test
+    public void findPersonsByAttributes_personsChanged_reflectsCurrentPersons() {
+        addressBook.resetData(getTypicalAddressBook());
+        Person editedAlice = new PersonBuilder(ALICE).withMedicines("Warfarin").build();
+        addressBook.setPerson(ALICE, editedAlice);
+        addressBook.removePerson(BENSON);
+
+        assertEquals(Set.of(ALICE.getIdentityNumber()),
+                addressBook.findPersonsByAttributes(Map.of(PersonAttribute.MEDICINE, List.of("Warfarin"))));
+        assertFalse(addressBook.findPersonsByAttributes(Map.of(PersonAttribute.TAG, List.of("owesMoney")))
+                .contains(BENSON.getIdentityNumber()));
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.hasPerson(null));
@@ -193,6 +212,50 @@ public class AddressBookTest {
         assertThrows(DuplicateAppointmentException.class, () -> addressBook.setAppointment(APPT_ALICE, APPT_BENSON));
     }
 
+    @Test
+    public void getVersion_changesOnlyWhenDataChanges() {
+        long version = addressBook.getVersion();
+        addressBook.hasPerson(ALICE);
+        addressBook.getPersonList();
+        assertEquals(version, addressBook.getVersion());
+
+        addressBook.addPerson(ALICE);
+        long versionAfterAddPerson = addressBook.getVersion();
+        assertNotEquals(version, versionAfterAddPerson);
+
+        addressBook.addAppointment(APPT_ALICE);
+        assertNotEquals(versionAfterAddPerson, addressBook.getVersion());
+    }
+
+    @Test
+    public void getVersion_copy_sameVersionUntilChanged() {
+        AddressBook copy = new AddressBook(addressBook);
+        assertEquals(addressBook.getVersion(), copy.getVersion());
+        assertNotEquals(addressBook.getVersion(), new AddressBook().getVersion());
+
+        copy.addPerson(ALICE);
+        addressBook.addPerson(ALICE);
+        assertNotEquals(addressBook.getVersion(), copy.getVersion());
+    }
+
+    @Test
+    public void startBatch_changes_versionChangesOnceOnClose() {
+        long version = addressBook.getVersion();
+        ReadOnlyAddressBook snapshot;
+        try (Batch batch = addressBook.startBatch()) {
+            addressBook.addPerson(ALICE);
+            addressBook.addAppointment(APPT_ALICE);
+            assertTrue(addressBook.hasPerson(ALICE));
+            assertEquals(version, addressBook.getVersion());
+            snapshot = addressBook.snapshot();
+        }
+
+        assertNotEquals(version, addressBook.getVersion());
+        assertEquals(List.of(ALICE), addressBook.snapshot().getPersonList());
+        assertEquals(List.of(APPT_ALICE), addressBook.snapshot().getAppointmentList());
+        assertTrue(snapshot.getPersonList().isEmpty());
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose persons and appointments list can violate interface constraints.
      */
@@ -220,6 +283,11 @@ public class AddressBookTest {
         public ObservableList<Appointment> getAppointmentList() {
             return appointments;
         }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
     }
 
 }
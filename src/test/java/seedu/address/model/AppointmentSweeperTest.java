@@ -0,0 +1,99 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalAppointments.APPT_ALICE;
+import static seedu.address.testutil.TypicalAppointments.APPT_BENSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.appointment.Appointment;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.AppointmentBuilder;
+import seedu.address.testutil.ManualClock;
+
+public class AppointmentSweeperTest {
+
+    private static final LocalDateTime ALICE_TIME = APPT_ALICE.getDateTime().getDateTime();
+
+    private final ManualClock clock = new ManualClock(ALICE_TIME.minusHours(1));
+    private ModelManager model;
+    private AppointmentSweeper sweeper;
+
+    @BeforeEach
+    public void setUp() {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
+        addressBook.addAppointment(APPT_ALICE);
+        addressBook.addAppointment(APPT_BENSON);
+        model = new ModelManager(addressBook, new UserPrefs(), clock);
+        sweeper = new AppointmentSweeper(model, clock, Runnable::run);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        sweeper.stop();
+    }
+
+    @Test
+    public void getDelayToNextSweep_upcomingAppointmentSoon_returnsTimeUntilAppointment() {
+        clock.setDateTime(ALICE_TIME.minusSeconds(30));
+        assertEquals(Duration.ofSeconds(30), sweeper.getDelayToNextSweep());
+    }
+
+    @Test
+    public void getDelayToNextSweep_upcomingAppointmentLater_returnsMaxSweepInterval() {
+        assertEquals(AppointmentSweeper.MAX_SWEEP_INTERVAL, sweeper.getDelayToNextSweep());
+    }
+
+    @Test
+    public void getDelayToNextSweep_upcomingAppointmentOverdue_returnsZero() {
+        clock.setDateTime(ALICE_TIME.plusMinutes(1));
+        assertEquals(Duration.ZERO, sweeper.getDelayToNextSweep());
+    }
+
+    @Test
+    public void getDelayToNextSweep_noUpcomingAppointments_returnsMaxSweepInterval() {
+        clock.setDateTime(LocalDateTime.of(2021, 1, 1, 0, 0));
+        model.advanceAppointmentSchedule();
+        assertEquals(AppointmentSweeper.MAX_SWEEP_INTERVAL, sweeper.getDelayToNextSweep());
+    }
+
+    @Test
+    public void start_noUpcomingAppointmentsThenAdded_keepsSweeping() {
+        clock.setDateTime(LocalDateTime.of(2020, 12, 31, 23, 59, 30));
+        sweeper.start();
+        assertTrue(model.getUpcomingAppointmentList().isEmpty());
+        assertTrue(sweeper.isSweepScheduled());
+
+        Appointment soon = new AppointmentBuilder(APPT_ALICE).withTime("01-01-2021 00:00").build();
+        model.addAppointment(soon);
+        assertTrue(sweeper.isSweepScheduled());
+        assertEquals(Duration.ofSeconds(30), sweeper.getDelayToNextSweep());
+
+        clock.advance(Duration.ofSeconds(30));
+        sweeper.sweep();
+        assertTrue(model.getPastAppointmentList().contains(soon));
+        assertTrue(sweeper.isSweepScheduled());
+    }
+
+    @Test
+    public void sweep_clockPastAppointments_movesThemToPast() {
+        clock.setDateTime(ALICE_TIME);
+        sweeper.sweep();
+        assertEquals(List.of(APPT_BENSON), model.getUpcomingAppointmentList());
+        assertEquals(List.of(APPT_ALICE), model.getPastAppointmentList());
+
+        clock.advance(Duration.ofDays(2));
+        sweeper.sweep();
+        assertTrue(model.getUpcomingAppointmentList().isEmpty());
+        assertEquals(List.of(APPT_ALICE, APPT_BENSON), model.getPastAppointmentList());
+    }
+}
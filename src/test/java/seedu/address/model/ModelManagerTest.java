@@ -1,5 +1,6 @@
 package seedu.address.model;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -9,20 +10,29 @@ import static seedu.address.testutil.TypicalAppointments.APPT_ALICE;
 import static seedu.address.testutil.TypicalAppointments.APPT_BENSON;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.util.BatchableObservableList.Batch;
 import seedu.address.model.appointment.Appointment;
 import seedu.address.model.person.IdentityNumber;
 import seedu.address.model.person.NameOrIdContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 import seedu.address.testutil.AddressBookBuilder;
 import seedu.address.testutil.AppointmentBuilder;
+import seedu.address.testutil.ManualClock;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -115,6 +125,142 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasAppointment(appointmentForBenson));
     }
 
+    @Test
+    public void setPerson_identityNumberChanged_movesAssociatedAppointments() {
+        modelManager.addPerson(ALICE);
+        modelManager.addAppointment(APPT_ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withIdentityNumber("AP68").build();
+
+        modelManager.setPerson(ALICE, editedAlice);
+
+        assertFalse(modelManager.hasAppointment(APPT_ALICE));
+        assertTrue(modelManager.hasAppointment(
+                new AppointmentBuilder(APPT_ALICE).withPatientId(editedAlice.getIdentityNumber()).build()));
+        assertTrue(modelManager.getFilteredAppointmentList(ALICE.getIdentityNumber()).isEmpty());
+    }
+
+    @Test
+    public void deletePerson_severalAppointments_notifiesOncePerList() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addAppointment(APPT_ALICE);
+        modelManager.addAppointment(APPT_BENSON);
+        modelManager.addAppointment(new AppointmentBuilder(APPT_ALICE).withTime("02-12-2020 09:00").build());
+        int[] changeCounts = new int[2];
+        modelManager.getAddressBook().getPersonList()
+                .addListener((ListChangeListener<Person>) change -> changeCounts[0]++);
+        modelManager.getAddressBook().getAppointmentList()
+                .addListener((ListChangeListener<Appointment>) change -> changeCounts[1]++);
+
+        modelManager.deletePerson(ALICE);
+
+        assertEquals(List.of(APPT_BENSON), modelManager.getAddressBook().getAppointmentList());
+        assertArrayEquals(new int[] {1, 1}, changeCounts);
+    }
+
+    @Test
+    public void startBatch_severalChanges_notifiesOnClose() {
+        int[] changeCount = new int[1];
+        modelManager.getAddressBook().getPersonList()
+                .addListener((ListChangeListener<Person>) change -> changeCount[0]++);
+
+        try (Batch batch = modelManager.startBatch()) {
+            modelManager.addPerson(ALICE);
+            modelManager.addPerson(BENSON);
+            assertEquals(0, changeCount[0]);
+        }
+
+        assertEquals(1, changeCount[0]);
+        assertTrue(modelManager.hasPerson(BENSON));
+    }
+
+    @Test
+    public void getFilteredAppointmentList_appointmentsChanged_tracksViewedPersonAppointments() {
+        modelManager.addAppointment(APPT_ALICE);
+        modelManager.addAppointment(APPT_BENSON);
+        ObservableList<Appointment> aliceAppointments =
+                modelManager.getFilteredAppointmentList(ALICE.getIdentityNumber());
+        assertEquals(List.of(APPT_ALICE), aliceAppointments);
+
+        Appointment anotherAppointmentForAlice = new AppointmentBuilder(APPT_ALICE)
+                .withTime("02-12-2020 09:00").build();
+        modelManager.addAppointment(anotherAppointmentForAlice);
+        assertEquals(List.of(APPT_ALICE, anotherAppointmentForAlice), aliceAppointments);
+
+        modelManager.deleteAppointment(APPT_ALICE);
+        assertEquals(List.of(anotherAppointmentForAlice), aliceAppointments);
+    }
+
+    @Test
+    public void getUpcomingAndPastAppointmentList_appointmentsChanged_staySortedAndSeparated() {
+        Appointment upcoming = new AppointmentBuilder()
+                .withTime(LocalDateTime.now().plusDays(2).format(AppointmentBuilder.FORMATTER)).build();
+        Appointment soonerUpcoming = new AppointmentBuilder(upcoming).withPatientId(ALICE.getIdentityNumber())
+                .withTime(LocalDateTime.now().plusDays(1).format(AppointmentBuilder.FORMATTER)).build();
+        modelManager.addAppointment(APPT_BENSON);
+        modelManager.addAppointment(upcoming);
+        modelManager.addAppointment(APPT_ALICE);
+        modelManager.addAppointment(soonerUpcoming);
+
+        assertEquals(List.of(soonerUpcoming, upcoming), modelManager.getUpcomingAppointmentList());
+        assertEquals(List.of(APPT_ALICE, APPT_BENSON), modelManager.getPastAppointmentList());
+
+        modelManager.deleteAppointment(soonerUpcoming);
+        modelManager.deleteAppointment(APPT_ALICE);
+        assertEquals(List.of(upcoming), modelManager.getUpcomingAppointmentList());
+        assertEquals(List.of(APPT_BENSON), modelManager.getPastAppointmentList());
+
+        modelManager.setAddressBook(new AddressBook());
+        assertTrue(modelManager.getUpcomingAppointmentList().isEmpty());
+        assertTrue(modelManager.getPastAppointmentList().isEmpty());
+    }
+
+    @Test
+    public void advanceAppointmentSchedule_clockAdvanced_movesDueAppointmentsToPast() {
+        ManualClock clock = new ManualClock(LocalDateTime.of(2020, 12, 1, 8, 0));
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).build();
+        addressBook.addAppointment(APPT_ALICE);
+        modelManager = new ModelManager(addressBook, new UserPrefs(), clock);
+        modelManager.setViewedPerson(ALICE);
+        assertEquals(List.of(APPT_ALICE), modelManager.getUpcomingAppointmentList());
+        assertEquals(List.of(APPT_ALICE), modelManager.getViewedPersonUpcomingAppointmentList());
+
+        clock.setDateTime(APPT_ALICE.getDateTime().getDateTime().minusMinutes(1));
+        modelManager.advanceAppointmentSchedule();
+        assertEquals(List.of(APPT_ALICE), modelManager.getUpcomingAppointmentList());
+
+        clock.setDateTime(APPT_ALICE.getDateTime().getDateTime());
+        modelManager.advanceAppointmentSchedule();
+        assertTrue(modelManager.getUpcomingAppointmentList().isEmpty());
+        assertEquals(List.of(APPT_ALICE), modelManager.getPastAppointmentList());
+        assertTrue(modelManager.getViewedPersonUpcomingAppointmentList().isEmpty());
+        assertEquals(List.of(APPT_ALICE), modelManager.getViewedPersonPastAppointmentList());
+    }
+
+    @Test
+    public void showFoundPersons_personsChanged_queryRerunInAddressBookOrder() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(CARL);
+        NameOrIdContainsKeywordsPredicate predicate =
+                new NameOrIdContainsKeywordsPredicate(Arrays.asList("Kurz", "Pauline"));
+        modelManager.showFoundPersons(() -> modelManager.findPersonsByKeywords(predicate.getKeywords()), predicate);
+        assertEquals(List.of(ALICE, CARL), modelManager.getFilteredPersonList());
+        assertEquals(predicate, modelManager.getFilteredPersonListPredicate());
+
+        // the found persons keep their positions as persons before them are removed
+        modelManager.deletePerson(ALICE);
+        assertEquals(List.of(CARL), modelManager.getFilteredPersonList());
+
+        Person editedBenson = new PersonBuilder(BENSON).withName("Benson Kurz").build();
+        modelManager.setPerson(BENSON, editedBenson);
+        assertEquals(List.of(editedBenson, CARL), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(List.of(editedBenson, CARL), modelManager.getFilteredPersonList());
+        modelManager.addPerson(DANIEL);
+        assertEquals(List.of(editedBenson, CARL, DANIEL), modelManager.getFilteredPersonList());
+    }
 
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
@@ -4,6 +4,8 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.util.FileUtil;
+
 public class UserPrefsTest {
 
     @Test
@@ -18,4 +20,33 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFilePath(null));
     }
 
+    @Test
+    public void setAddressBookFileFormat_nullFormat_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFileFormat(null));
+    }
+
+    @Test
+    public void setAddressBookSegmentCount_outOfRange_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setAddressBookSegmentCount(0));
+        assertThrows(IllegalArgumentException.class, () ->
+                userPrefs.setAddressBookSegmentCount(UserPrefs.MAX_ADDRESS_BOOK_SEGMENT_COUNT + 1));
+    }
+
+    @Test
+    public void setAddressBookCompressionLevel_outOfRange_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () ->
+                userPrefs.setAddressBookCompressionLevel(FileUtil.NO_COMPRESSION - 1));
+        assertThrows(IllegalArgumentException.class, () ->
+                userPrefs.setAddressBookCompressionLevel(FileUtil.MAX_COMPRESSION_LEVEL + 1));
+    }
+
+    @Test
+    public void setUndoHistoryLimit_negative_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setUndoHistoryLimit(-1));
+    }
+
 }
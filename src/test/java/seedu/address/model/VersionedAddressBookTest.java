@@ -0,0 +1,138 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAppointments.APPT_ALICE;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class VersionedAddressBookTest {
+
+    private final VersionedAddressBook versionedAddressBook = new VersionedAddressBook(getTypicalAddressBook(), 3);
+
+    @Test
+    public void constructor_negativeHistoryLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, VersionedAddressBook.MESSAGE_HISTORY_LIMIT_CONSTRAINTS, ()
+            -> new VersionedAddressBook(new AddressBook(), -1));
+        assertThrows(IllegalArgumentException.class, VersionedAddressBook.MESSAGE_HISTORY_LIMIT_CONSTRAINTS, ()
+            -> versionedAddressBook.setHistoryLimit(-1));
+    }
+
+    @Test
+    public void canUndo_noChanges_returnsFalse() {
+        assertFalse(versionedAddressBook.canUndo());
+        assertFalse(versionedAddressBook.canRedo());
+        assertThrows(IllegalStateException.class, versionedAddressBook::undo);
+        assertThrows(IllegalStateException.class, versionedAddressBook::redo);
+    }
+
+    @Test
+    public void commit_noChanges_noStateSaved() {
+        versionedAddressBook.commit();
+        assertFalse(versionedAddressBook.canUndo());
+    }
+
+    @Test
+    public void undo_uncommittedChanges_restoresCommittedState() {
+        versionedAddressBook.addPerson(AMY);
+        assertTrue(versionedAddressBook.canUndo());
+
+        versionedAddressBook.undo();
+        assertEquals(getTypicalAddressBook(), versionedAddressBook);
+        assertTrue(versionedAddressBook.canRedo());
+
+        versionedAddressBook.redo();
+        assertTrue(versionedAddressBook.hasPerson(AMY));
+    }
+
+    @Test
+    public void undoRedo_multipleStates_restoresEachState() {
+        AddressBook initial = getTypicalAddressBook();
+        versionedAddressBook.addPerson(AMY);
+        versionedAddressBook.commit();
+        AddressBook afterAdd = new AddressBook(versionedAddressBook);
+        Person editedCarl = new PersonBuilder(CARL).withPhone("99999999").build();
+        versionedAddressBook.setPerson(CARL, editedCarl);
+        versionedAddressBook.removePerson(ALICE);
+        versionedAddressBook.removeAppointment(APPT_ALICE);
+        versionedAddressBook.commit();
+        AddressBook afterEdit = new AddressBook(versionedAddressBook);
+        versionedAddressBook.setPersons(List.of(BOB));
+        versionedAddressBook.commit();
+        AddressBook afterReset = new AddressBook(versionedAddressBook);
+
+        versionedAddressBook.undo();
+        assertEquals(afterEdit, versionedAddressBook);
+        versionedAddressBook.undo();
+        assertEquals(afterAdd, versionedAddressBook);
+        versionedAddressBook.undo();
+        assertEquals(initial, versionedAddressBook);
+        assertFalse(versionedAddressBook.canUndo());
+
+        versionedAddressBook.redo();
+        assertEquals(afterAdd, versionedAddressBook);
+        versionedAddressBook.redo();
+        assertEquals(afterEdit, versionedAddressBook);
+        versionedAddressBook.redo();
+        assertEquals(afterReset, versionedAddressBook);
+        assertFalse(versionedAddressBook.canRedo());
+    }
+
+    @Test
+    public void commit_afterUndo_forgetsUndoneStates() {
+        versionedAddressBook.addPerson(AMY);
+        versionedAddressBook.commit();
+        versionedAddressBook.undo();
+
+        versionedAddressBook.addPerson(BOB);
+        assertFalse(versionedAddressBook.canRedo());
+        versionedAddressBook.commit();
+        assertFalse(versionedAddressBook.canRedo());
+
+        versionedAddressBook.undo();
+        assertEquals(getTypicalAddressBook(), versionedAddressBook);
+    }
+
+    @Test
+    public void commit_beyondHistoryLimit_forgetsOldestStates() {
+        for (Person person : new Person[] {AMY, BOB, new PersonBuilder().withIdentityNumber("X1").build(),
+                new PersonBuilder().withIdentityNumber("X2").build()}) {
+            versionedAddressBook.addPerson(person);
+            versionedAddressBook.commit();
+        }
+
+        for (int i = 0; i < 3; i++) {
+            versionedAddressBook.undo();
+        }
+        assertFalse(versionedAddressBook.canUndo());
+        assertTrue(versionedAddressBook.hasPerson(AMY));
+        assertFalse(versionedAddressBook.hasPerson(BOB));
+
+        versionedAddressBook.setHistoryLimit(0);
+        assertFalse(versionedAddressBook.canUndo());
+        versionedAddressBook.addPerson(BOB);
+        assertFalse(versionedAddressBook.canUndo());
+    }
+
+    @Test
+    public void resetHistory_forgetsAllStates() {
+        versionedAddressBook.addPerson(AMY);
+        versionedAddressBook.commit();
+        versionedAddressBook.resetHistory();
+
+        assertFalse(versionedAddressBook.canUndo());
+        assertTrue(versionedAddressBook.hasPerson(AMY));
+    }
+}
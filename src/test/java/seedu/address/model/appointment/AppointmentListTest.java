@@ -8,6 +8,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.TypicalAppointments.APPT_ALICE;
 import static seedu.address.testutil.TypicalAppointments.APPT_BENSON;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
@@ -21,6 +22,10 @@ import seedu.address.testutil.AppointmentBuilder;
 
 public class AppointmentListTest {
 
+    private static final Appointment APPT_BENSON_LATER = new AppointmentBuilder(APPT_BENSON)
+            .withTime("03-12-2020 10:30")
+            .build();
+
     private final AppointmentList appointmentList = new AppointmentList();
 
     @Test
@@ -48,6 +53,74 @@ public class AppointmentListTest {
         assertTrue(appointmentList.contains(editedAlice));
     }
 
+    @Test
+    public void getPatientAppointments_nullPatientId_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> appointmentList.getPatientAppointments(null));
+    }
+
+    @Test
+    public void setAppointments_range_replacesOnlyRange() {
+        appointmentList.setAppointments(List.of(APPT_ALICE, APPT_BENSON));
+        appointmentList.setAppointments(1, 2, List.of(APPT_BENSON_LATER));
+        assertEquals(List.of(APPT_ALICE, APPT_BENSON_LATER), appointmentList.asUnmodifiableObservableList());
+        assertEquals(List.of(APPT_BENSON_LATER), appointmentList.getPatientAppointments(APPT_BENSON.getPatientId()));
+        assertThrows(DuplicateAppointmentException.class, ()
+            -> appointmentList.setAppointments(1, 2, List.of(APPT_ALICE)));
+    }
+
+    @Test
+    public void getPatientAppointments_appointmentsChanged_returnsOnlyCurrentPatientAppointments() {
+        Appointment laterAppointmentForAlice = new AppointmentBuilder(APPT_ALICE)
+                .withTime("02-12-2020 09:00")
+                .build();
+        appointmentList.add(APPT_ALICE);
+        appointmentList.add(APPT_BENSON);
+        appointmentList.add(laterAppointmentForAlice);
+        assertEquals(List.of(APPT_ALICE, laterAppointmentForAlice),
+                appointmentList.getPatientAppointments(APPT_ALICE.getPatientId()));
+
+        appointmentList.remove(APPT_ALICE);
+        assertEquals(List.of(laterAppointmentForAlice),
+                appointmentList.getPatientAppointments(APPT_ALICE.getPatientId()));
+
+        appointmentList.setAppointment(laterAppointmentForAlice, APPT_BENSON_LATER);
+        assertTrue(appointmentList.getPatientAppointments(APPT_ALICE.getPatientId()).isEmpty());
+        assertEquals(List.of(APPT_BENSON, APPT_BENSON_LATER),
+                appointmentList.getPatientAppointments(APPT_BENSON.getPatientId()));
+    }
+
+    @Test
+    public void getPatientAppointments_appointmentEdited_keepsOrder() {
+        Appointment laterAppointmentForAlice = new AppointmentBuilder(APPT_ALICE)
+                .withTime("02-12-2020 09:00")
+                .build();
+        Appointment editedAppointmentForAlice = new AppointmentBuilder(APPT_ALICE)
+                .withTime("03-12-2020 09:00")
+                .build();
+        appointmentList.add(APPT_ALICE);
+        appointmentList.add(laterAppointmentForAlice);
+
+        appointmentList.setAppointment(APPT_ALICE, editedAppointmentForAlice);
+        assertEquals(List.of(editedAppointmentForAlice, laterAppointmentForAlice),
+                appointmentList.getPatientAppointments(APPT_ALICE.getPatientId()));
+        assertEquals(List.of(editedAppointmentForAlice, laterAppointmentForAlice),
+                appointmentList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void getAppointmentsBeforeAfter_returnsAppointmentsInChronologicalOrder() {
+        appointmentList.add(APPT_BENSON_LATER);
+        appointmentList.add(APPT_BENSON);
+        appointmentList.add(APPT_ALICE);
+        LocalDateTime bensonTime = APPT_BENSON.getDateTime().getDateTime();
+
+        assertEquals(List.of(APPT_ALICE), List.copyOf(appointmentList.getAppointmentsBefore(bensonTime)));
+        assertEquals(List.of(APPT_BENSON_LATER), List.copyOf(appointmentList.getAppointmentsAfter(bensonTime)));
+
+        appointmentList.remove(APPT_ALICE);
+        assertTrue(appointmentList.getAppointmentsBefore(bensonTime).isEmpty());
+    }
+
     @Test
     public void add_nullAppointment_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> appointmentList.add(null));
@@ -59,6 +132,26 @@ public class AppointmentListTest {
         assertThrows(DuplicateAppointmentException.class, () -> appointmentList.add(APPT_ALICE));
     }
 
+    @Test
+    public void addAll_newAppointments_addedInOrder() {
+        appointmentList.add(APPT_BENSON);
+        appointmentList.addAll(Arrays.asList(APPT_ALICE, APPT_BENSON_LATER));
+        assertEquals(Arrays.asList(APPT_BENSON, APPT_ALICE, APPT_BENSON_LATER),
+                appointmentList.asUnmodifiableObservableList());
+        assertTrue(appointmentList.contains(APPT_BENSON_LATER));
+    }
+
+    @Test
+    public void addAll_duplicateAppointments_throwsDuplicateAppointmentExceptionAndListUnchanged() {
+        appointmentList.add(APPT_ALICE);
+        assertThrows(DuplicateAppointmentException.class, () ->
+                appointmentList.addAll(Arrays.asList(APPT_BENSON, APPT_ALICE)));
+        assertThrows(DuplicateAppointmentException.class, () ->
+                appointmentList.addAll(Arrays.asList(APPT_BENSON, APPT_BENSON)));
+        assertEquals(List.of(APPT_ALICE), appointmentList.asUnmodifiableObservableList());
+        assertFalse(appointmentList.contains(APPT_BENSON));
+    }
+
     @Test
     public void setAppointment_nullTargetAppointment_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> appointmentList.setAppointment(null, APPT_ALICE));
@@ -104,6 +197,15 @@ public class AppointmentListTest {
         assertEquals(expectedList, appointmentList);
     }
 
+    @Test
+    public void setAppointment_editedAppointmentHasDifferentIdentity_updatesUniquenessCheck() {
+        appointmentList.add(APPT_ALICE);
+        appointmentList.setAppointment(APPT_ALICE, APPT_BENSON);
+        assertFalse(appointmentList.contains(APPT_ALICE));
+        assertTrue(appointmentList.contains(APPT_BENSON));
+        appointmentList.add(APPT_ALICE);
+    }
+
     @Test
     public void setAppointment_editedAppointmentHasNonUniqueIdentity_throwsDuplicateAppointmentException() {
         appointmentList.add(APPT_ALICE);
@@ -130,6 +232,16 @@ public class AppointmentListTest {
         assertEquals(expectedList, appointmentList);
     }
 
+    @Test
+    public void remove_appointmentWithSameIdentityButDifferentNotes_throwsAppointmentNotFoundException() {
+        appointmentList.add(APPT_ALICE);
+        Appointment editedAlice = new AppointmentBuilder(APPT_ALICE)
+                .withNotes("Changed notes")
+                .build();
+        assertThrows(AppointmentNotFoundException.class, () -> appointmentList.remove(editedAlice));
+        assertTrue(appointmentList.contains(APPT_ALICE));
+    }
+
     @Test
     public void setAppointments_nullAppointmentList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> appointmentList.setAppointments((AppointmentList) null));
@@ -186,6 +298,15 @@ public class AppointmentListTest {
         assertEquals(expectedList, appointmentList);
     }
 
+    @Test
+    public void removeAll_someAppointmentsExist_removesExistingAppointments() {
+        appointmentList.add(APPT_ALICE);
+        appointmentList.removeAll(APPT_ALICE, APPT_BENSON);
+        AppointmentList expectedList = new AppointmentList();
+        assertEquals(expectedList, appointmentList);
+        assertFalse(appointmentList.contains(APPT_ALICE));
+    }
+
     @Test
     public void removeAll_appointmentsDoNotExist_throwsAppointmentNotFoundException() {
         assertThrows(AppointmentNotFoundException.class, () -> appointmentList.removeAll(APPT_ALICE, APPT_BENSON));
@@ -0,0 +1,113 @@
+package seedu.address.model.appointment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.AppointmentBuilder;
+
+public class AppointmentScheduleTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    private static final Appointment PAST_ALICE = new AppointmentBuilder().withTime("01-01-2025 09:00")
+            .withPatientId(ALICE.getIdentityNumber()).build();
+    private static final Appointment PAST_BENSON = new AppointmentBuilder().withTime("01-01-2025 09:00")
+            .withPatientId(BENSON.getIdentityNumber()).build();
+    private static final Appointment UPCOMING_ALICE = new AppointmentBuilder().withTime("02-01-2025 09:00")
+            .withPatientId(ALICE.getIdentityNumber()).build();
+    private static final Appointment UPCOMING_BENSON = new AppointmentBuilder().withTime("01-01-2025 15:00")
+            .withPatientId(BENSON.getIdentityNumber()).build();
+    private static final Appointment AT_NOW = new AppointmentBuilder().withTime("01-01-2025 12:00").build();
+
+    private final AppointmentSchedule schedule = new AppointmentSchedule(NOW);
+
+    @Test
+    public void add_nullAppointment_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> schedule.add(null));
+    }
+
+    @Test
+    public void add_appointments_keepsListsInChronologicalOrder() {
+        schedule.add(UPCOMING_ALICE);
+        schedule.add(PAST_BENSON);
+        schedule.add(UPCOMING_BENSON);
+        schedule.add(PAST_ALICE);
+        assertEquals(List.of(UPCOMING_BENSON, UPCOMING_ALICE), schedule.getUpcomingAppointments());
+        assertEquals(List.of(PAST_ALICE, PAST_BENSON), schedule.getPastAppointments());
+    }
+
+    @Test
+    public void add_appointmentAtNow_addedToPastAppointments() {
+        schedule.add(AT_NOW);
+        assertTrue(schedule.getUpcomingAppointments().isEmpty());
+        assertEquals(List.of(AT_NOW), schedule.getPastAppointments());
+    }
+
+    @Test
+    public void advanceTo_laterTime_movesOnlyCrossedAppointments() {
+        schedule.setAppointments(List.of(PAST_ALICE, PAST_BENSON), List.of(UPCOMING_BENSON, UPCOMING_ALICE), NOW);
+
+        schedule.advanceTo(NOW.plusHours(1));
+        assertEquals(List.of(UPCOMING_BENSON, UPCOMING_ALICE), schedule.getUpcomingAppointments());
+
+        schedule.advanceTo(UPCOMING_BENSON.getDateTime().getDateTime());
+        assertEquals(List.of(UPCOMING_ALICE), schedule.getUpcomingAppointments());
+        assertEquals(List.of(PAST_ALICE, PAST_BENSON, UPCOMING_BENSON), schedule.getPastAppointments());
+
+        schedule.advanceTo(NOW.plusYears(1));
+        assertTrue(schedule.getUpcomingAppointments().isEmpty());
+        assertEquals(List.of(PAST_ALICE, PAST_BENSON, UPCOMING_BENSON, UPCOMING_ALICE),
+                schedule.getPastAppointments());
+    }
+
+    @Test
+    public void advanceTo_earlierTime_movesAppointmentsBackToUpcoming() {
+        schedule.setAppointments(List.of(PAST_ALICE, PAST_BENSON), List.of(UPCOMING_BENSON, UPCOMING_ALICE), NOW);
+        schedule.advanceTo(NOW.minusDays(1));
+        assertEquals(List.of(PAST_ALICE, PAST_BENSON, UPCOMING_BENSON, UPCOMING_ALICE),
+                schedule.getUpcomingAppointments());
+        assertTrue(schedule.getPastAppointments().isEmpty());
+        assertEquals(NOW.minusDays(1), schedule.getNow());
+    }
+
+    @Test
+    public void advanceTo_laterTime_addsUseNewTime() {
+        schedule.advanceTo(UPCOMING_ALICE.getDateTime().getDateTime());
+        schedule.add(UPCOMING_BENSON);
+        assertEquals(List.of(UPCOMING_BENSON), schedule.getPastAppointments());
+    }
+
+    @Test
+    public void remove_appointmentInSchedule_removesAppointment() {
+        schedule.setAppointments(List.of(PAST_ALICE, PAST_BENSON), List.of(UPCOMING_BENSON, UPCOMING_ALICE), NOW);
+        schedule.remove(PAST_BENSON);
+        schedule.remove(UPCOMING_BENSON);
+        assertEquals(List.of(UPCOMING_ALICE), schedule.getUpcomingAppointments());
+        assertEquals(List.of(PAST_ALICE), schedule.getPastAppointments());
+    }
+
+    @Test
+    public void remove_appointmentNotInSchedule_doesNothing() {
+        schedule.add(PAST_ALICE);
+        schedule.remove(UPCOMING_ALICE);
+        assertEquals(List.of(PAST_ALICE), schedule.getPastAppointments());
+    }
+
+    @Test
+    public void getUpcomingAppointments_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> schedule.getUpcomingAppointments().add(AT_NOW));
+    }
+
+    @Test
+    public void getPastAppointments_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> schedule.getPastAppointments().add(AT_NOW));
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -34,4 +36,11 @@ public class AllergyTest {
         assertTrue(Allergy.isValidAllergyName("12345")); // numbers only
     }
 
+    @Test
+    public void of_equalValues_returnsSameInstance() {
+        Allergy value = Allergy.of(new String("Penicillin"));
+        assertSame(value, Allergy.of(new String("Penicillin")));
+        assertEquals(new Allergy("Penicillin"), value);
+        assertThrows(IllegalArgumentException.class, () -> Allergy.of(" "));
+    }
 }
@@ -1,6 +1,8 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -53,4 +55,12 @@ public class BloodTypeTest {
         // null -> returns false
         assertFalse(b1.equals(null));
     }
+
+    @Test
+    public void of_equalValues_returnsSameInstance() {
+        BloodType value = BloodType.of(new String("AB+"));
+        assertSame(value, BloodType.of(new String("AB+")));
+        assertEquals(new BloodType("AB+"), value);
+        assertThrows(IllegalArgumentException.class, () -> BloodType.of(" "));
+    }
 }
@@ -115,6 +115,19 @@ public class NameOrIdContainsKeywordsPredicateTest {
                 .withEmail("alexyeoh@example.com").withAddress("Blk 30 Geylang Street 29, #06-40").build()));
     }
 
+    @Test
+    public void test_nonAsciiKeywords_matchesLikeTokenIndex() {
+        Person person = new PersonBuilder().withName("\u0130lkay Stra\u00dfe").build();
+        PersonTokenIndex index = new PersonTokenIndex();
+        index.add(person);
+
+        // keywords that equalsIgnoreCase and lower-casing fold differently
+        for (String keyword : List.of("ilkay", "\u0130LKAY", "i\u0307lkay", "strasse", "STRA\u00dfE")) {
+            assertEquals(index.findAny(List.of(keyword)).contains(person.getIdentityNumber()),
+                    new NameOrIdContainsKeywordsPredicate(List.of(keyword)).test(person), keyword);
+        }
+    }
+
     @Test
     public void toStringMethod() {
         List<String> keywords = List.of("keyword1", "keyword2");
@@ -0,0 +1,73 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonAttributeIndexTest {
+
+    private final PersonAttributeIndex index = new PersonAttributeIndex();
+
+    @BeforeEach
+    public void setUp() {
+        index.add(ALICE);
+        index.add(BENSON);
+        index.add(GEORGE);
+    }
+
+    @Test
+    public void findAll_emptyCriteria_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> index.findAll(Collections.emptyMap()));
+    }
+
+    @Test
+    public void findAll_singleValue_returnsPersonsWithValueIgnoringCase() {
+        assertEquals(Set.of(ALICE.getIdentityNumber(), BENSON.getIdentityNumber(), GEORGE.getIdentityNumber()),
+                index.findAll(Map.of(PersonAttribute.TAG, List.of("FRIENDS"))));
+        assertEquals(Set.of(ALICE.getIdentityNumber()),
+                index.findAll(Map.of(PersonAttribute.GENDER, List.of("f"))));
+    }
+
+    @Test
+    public void findAll_multipleValues_returnsIntersection() {
+        assertEquals(Set.of(BENSON.getIdentityNumber(), GEORGE.getIdentityNumber()), index.findAll(Map.of(
+                PersonAttribute.TAG, List.of("owesMoney"),
+                PersonAttribute.BLOOD_TYPE, List.of("O"),
+                PersonAttribute.ALLERGY, List.of("nuts"))));
+        assertEquals(Set.of(ALICE.getIdentityNumber()), index.findAll(Map.of(
+                PersonAttribute.TAG, List.of("friends"),
+                PersonAttribute.GENDER, List.of("F"))));
+        assertTrue(index.findAll(Map.of(
+                PersonAttribute.GENDER, List.of("F"),
+                PersonAttribute.TAG, List.of("owesMoney"))).isEmpty());
+        assertTrue(index.findAll(Map.of(PersonAttribute.MEDICINE, List.of("antidepressants", "Warfarin"))).isEmpty());
+    }
+
+    @Test
+    public void remove_person_noLongerFound() {
+        Person editedBenson = new PersonBuilder(BENSON).withMedicines("Warfarin").build();
+        index.remove(BENSON);
+        index.add(editedBenson);
+        index.remove(GEORGE);
+
+        assertEquals(Set.of(BENSON.getIdentityNumber()),
+                index.findAll(Map.of(PersonAttribute.MEDICINE, List.of("warfarin"))));
+        assertEquals(Set.of(ALICE.getIdentityNumber()),
+                index.findAll(Map.of(PersonAttribute.MEDICINE, List.of("antidepressants"))));
+        assertEquals(Set.of(BENSON.getIdentityNumber()),
+                index.findAll(Map.of(PersonAttribute.TAG, List.of("owesMoney"))));
+    }
+}
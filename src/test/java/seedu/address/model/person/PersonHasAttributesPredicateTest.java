@@ -0,0 +1,72 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonHasAttributesPredicateTest {
+
+    @Test
+    public void equals() {
+        PersonHasAttributesPredicate firstPredicate =
+                new PersonHasAttributesPredicate(Map.of(PersonAttribute.MEDICINE, List.of("Warfarin")));
+        PersonHasAttributesPredicate secondPredicate =
+                new PersonHasAttributesPredicate(Map.of(PersonAttribute.ALLERGY, List.of("Warfarin")));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(
+                new PersonHasAttributesPredicate(Map.of(PersonAttribute.MEDICINE, List.of("Warfarin")))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different attribute -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_personHasAllValues_returnsTrue() {
+        PersonHasAttributesPredicate predicate = new PersonHasAttributesPredicate(Map.of(
+                PersonAttribute.MEDICINE, List.of("warfarin"),
+                PersonAttribute.ALLERGY, List.of("Penicillin"),
+                PersonAttribute.BLOOD_TYPE, List.of("ab+")));
+        assertTrue(predicate.test(new PersonBuilder().withMedicines("Warfarin", "Aspirin")
+                .withAllergies("Penicillin").withBloodType("AB+").build()));
+    }
+
+    @Test
+    public void test_personMissingValue_returnsFalse() {
+        PersonHasAttributesPredicate predicate = new PersonHasAttributesPredicate(Map.of(
+                PersonAttribute.MEDICINE, List.of("Warfarin"),
+                PersonAttribute.TAG, List.of("diabetic")));
+        assertFalse(predicate.test(new PersonBuilder().withMedicines("Warfarin").withTags("elderly").build()));
+    }
+
+    @Test
+    public void isEmpty() {
+        assertTrue(new PersonHasAttributesPredicate(Collections.emptyMap()).isEmpty());
+        assertFalse(new PersonHasAttributesPredicate(Map.of(PersonAttribute.GENDER, List.of("F"))).isEmpty());
+    }
+
+    @Test
+    public void toStringMethod() {
+        Map<PersonAttribute, List<String>> criteria = Map.of(PersonAttribute.GENDER, List.of("F"));
+        PersonHasAttributesPredicate predicate = new PersonHasAttributesPredicate(criteria);
+        String expected = PersonHasAttributesPredicate.class.getCanonicalName() + "{criteria=" + criteria + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
@@ -0,0 +1,80 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonTokenIndexTest {
+
+    private final PersonTokenIndex index = new PersonTokenIndex();
+
+    @Test
+    public void findAny_nullKeywords_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.findAny(null));
+    }
+
+    @Test
+    public void findAny_nameAndIdKeywords_returnsUnionIgnoringCase() {
+        index.setPersons(List.of(ALICE, BENSON, DANIEL));
+
+        // one name word shared by two persons
+        assertEquals(Set.of(BENSON.getIdentityNumber(), DANIEL.getIdentityNumber()),
+                index.findAny(List.of("mEIER")));
+
+        // name word and identity number
+        assertEquals(Set.of(ALICE.getIdentityNumber(), BENSON.getIdentityNumber()),
+                index.findAny(List.of("alice", "bm67")));
+
+        // partial words do not match
+        assertTrue(index.findAny(List.of("Ali", "Meie", "AP6")).isEmpty());
+    }
+
+    @Test
+    public void findAnyByPrefix_prefixes_returnsPersonsWithMatchingWords() {
+        index.setPersons(List.of(ALICE, BENSON, DANIEL));
+
+        assertEquals(Set.of(BENSON.getIdentityNumber(), DANIEL.getIdentityNumber()),
+                index.findAnyByPrefix(List.of("mEi"), 10));
+        assertEquals(Set.of(ALICE.getIdentityNumber(), DANIEL.getIdentityNumber()),
+                index.findAnyByPrefix(List.of("ap", "dan"), 10));
+        assertEquals(Set.of(ALICE.getIdentityNumber()), index.findAnyByPrefix(List.of("alice"), 10));
+        assertTrue(index.findAnyByPrefix(List.of("lice", "", "z"), 10).isEmpty());
+    }
+
+    @Test
+    public void findAnyByPrefix_moreMatchesThanLimit_returnsLimitedMatches() {
+        index.setPersons(List.of(ALICE, BENSON, DANIEL));
+        assertEquals(1, index.findAnyByPrefix(List.of("meier"), 1).size());
+        assertEquals(2, index.findAnyByPrefix(List.of("a", "b", "d"), 2).size());
+        assertTrue(index.findAnyByPrefix(List.of("a"), 0).isEmpty());
+    }
+
+    @Test
+    public void remove_person_noLongerFound() {
+        index.add(ALICE);
+        index.add(BENSON);
+        index.remove(ALICE);
+        assertTrue(index.findAny(List.of("Alice", "AP67")).isEmpty());
+        assertEquals(Set.of(BENSON.getIdentityNumber()), index.findAny(List.of("Benson")));
+    }
+
+    @Test
+    public void add_editedPerson_foundByNewName() {
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Tan").build();
+        index.add(ALICE);
+        index.remove(ALICE);
+        index.add(editedAlice);
+        assertTrue(index.findAny(List.of("Pauline")).isEmpty());
+        assertEquals(Set.of(ALICE.getIdentityNumber()), index.findAny(List.of("tan")));
+    }
+}
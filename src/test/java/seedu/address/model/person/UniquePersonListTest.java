@@ -8,10 +8,13 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -47,6 +50,35 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void getPerson_nullIdentityNumber_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePersonList.getPerson(null));
+    }
+
+    @Test
+    public void findByKeywords_listModified_reflectsCurrentPersons() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person editedBob = new PersonBuilder(BOB).withName("Robert").build();
+        uniquePersonList.setPerson(BOB, editedBob);
+        uniquePersonList.remove(ALICE);
+
+        assertTrue(uniquePersonList.findByKeywords(List.of("Alice", "Bob")).isEmpty());
+        assertEquals(Set.of(BOB.getIdentityNumber()), uniquePersonList.findByKeywords(List.of("robert")));
+    }
+
+    @Test
+    public void getPerson_personNotInList_returnsEmpty() {
+        assertEquals(Optional.empty(), uniquePersonList.getPerson(ALICE.getIdentityNumber()));
+    }
+
+    @Test
+    public void getPerson_personInList_returnsPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        assertEquals(Optional.of(BOB), uniquePersonList.getPerson(BOB.getIdentityNumber()));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -58,6 +90,23 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(ALICE));
     }
 
+    @Test
+    public void addAll_newPersons_addedInOrder() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.addAll(Arrays.asList(BOB, CARL));
+        assertEquals(Arrays.asList(ALICE, BOB, CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(Optional.of(CARL), uniquePersonList.getPerson(CARL.getIdentityNumber()));
+    }
+
+    @Test
+    public void addAll_duplicatePersons_throwsDuplicatePersonExceptionAndListUnchanged() {
+        uniquePersonList.add(ALICE);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(Arrays.asList(BOB, ALICE)));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(Arrays.asList(BOB, BOB)));
+        assertEquals(List.of(ALICE), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(Optional.empty(), uniquePersonList.getPerson(BOB.getIdentityNumber()));
+    }
+
     @Test
     public void setPerson_nullTargetPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPerson(null, ALICE));
@@ -102,6 +151,28 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void setPerson_targetHasSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.setPerson(editedAlice, BOB));
+    }
+
+    @Test
+    public void setPerson_afterEarlierPersonRemoved_replacesCorrectPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(CARL);
+        uniquePersonList.remove(ALICE);
+        Person editedCarl = new PersonBuilder(CARL).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.setPerson(CARL, editedCarl);
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(BOB);
+        expectedUniquePersonList.add(editedCarl);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertEquals(Optional.of(editedCarl), uniquePersonList.getPerson(CARL.getIdentityNumber()));
+    }
+
     @Test
     public void setPerson_editedPersonHasNonUniqueIdentity_throwsDuplicatePersonException() {
         uniquePersonList.add(ALICE);
@@ -127,6 +198,14 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_personWithSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -162,6 +241,25 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_range_replacesOnlyRange() {
+        uniquePersonList.setPersons(List.of(ALICE, BOB, CARL));
+        Person editedBob = new PersonBuilder(BOB).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.setPersons(1, 3, List.of(editedBob));
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.setPersons(List.of(ALICE, editedBob));
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertEquals(Optional.empty(), uniquePersonList.getPerson(CARL.getIdentityNumber()));
+        assertEquals(Optional.of(editedBob), uniquePersonList.getPerson(BOB.getIdentityNumber()));
+    }
+
+    @Test
+    public void setPersons_rangeWithPersonOutsideRange_throwsDuplicatePersonException() {
+        uniquePersonList.setPersons(List.of(ALICE, BOB));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(1, 2, List.of(ALICE)));
+        assertEquals(List.of(ALICE, BOB), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -1,5 +1,7 @@
 package seedu.address.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -25,4 +27,11 @@ public class TagTest {
         assertThrows(NullPointerException.class, () -> Tag.isValidTagName(null));
     }
 
+    @Test
+    public void of_equalValues_returnsSameInstance() {
+        Tag value = Tag.of(new String("friends"));
+        assertSame(value, Tag.of(new String("friends")));
+        assertEquals(new Tag("friends"), value);
+        assertThrows(IllegalArgumentException.class, () -> Tag.of(" "));
+    }
 }
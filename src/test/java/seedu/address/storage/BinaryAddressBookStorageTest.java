@@ -0,0 +1,153 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.BloodType;
+import seedu.address.storage.BinaryAddressBookFormat.RecordEncoder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("healthnote.bin");
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_typicalAddressBook_startsWithMagicHeaderAndSmallerThanJson() throws Exception {
+        Path binaryFilePath = testFolder.resolve("healthnote.bin");
+        Path jsonFilePath = testFolder.resolve("healthnote.json");
+        new BinaryAddressBookStorage(binaryFilePath).saveAddressBook(getTypicalAddressBook());
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(getTypicalAddressBook());
+
+        byte[] bytes = Files.readAllBytes(binaryFilePath);
+        assertArrayEquals(BinaryAddressBookFormat.MAGIC_HEADER,
+                Arrays.copyOf(bytes, BinaryAddressBookFormat.MAGIC_HEADER.length));
+        assertTrue(bytes.length < Files.size(jsonFilePath) / 2);
+    }
+
+    @Test
+    public void readAddressBook_otherFormat_formatDetected() throws Exception {
+        Path binaryFilePath = testFolder.resolve("healthnote.bin");
+        Path jsonFilePath = testFolder.resolve("healthnote.json");
+        new BinaryAddressBookStorage(binaryFilePath).saveAddressBook(getTypicalAddressBook());
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(getTypicalAddressBook());
+
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new JsonAddressBookStorage(binaryFilePath).readAddressBook().get()));
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new BinaryAddressBookStorage(jsonFilePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("missing.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("healthnote.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 1));
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("healthnote.bin");
+        try (OutputStream out = Files.newOutputStream(filePath)) {
+            out.write(BinaryAddressBookFormat.MAGIC_HEADER);
+            BinaryAddressBookFormat.writeVarLong(out, BinaryAddressBookFormat.FORMAT_VERSION + 1);
+        }
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+        assertThrows(IOException.class, String.format(BinaryAddressBookReader.MESSAGE_UNSUPPORTED_VERSION,
+                BinaryAddressBookFormat.FORMAT_VERSION + 1), () -> BinaryAddressBookReader.read(filePath));
+    }
+
+    @Test
+    public void readAddressBook_invalidDictionaryValue_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("healthnote.bin");
+        writeFileWithBloodType(filePath, " ");
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+        assertThrows(IllegalValueException.class, BloodType.MESSAGE_CONSTRAINTS, () ->
+                BinaryAddressBookReader.read(filePath));
+    }
+
+    @Test
+    public void of_format_storageForFormat() {
+        Path filePath = testFolder.resolve("healthnote");
+        assertTrue(FileAddressBookStorage.of(DataFileFormat.JSON, filePath) instanceof JsonAddressBookStorage);
+        assertTrue(FileAddressBookStorage.of(DataFileFormat.BINARY, filePath) instanceof BinaryAddressBookStorage);
+    }
+
+    /**
+     * Writes a binary data file with a single person whose only dictionary value, used for all of their
+     * low-cardinality fields, is {@code bloodType}.
+     */
+    private void writeFileWithBloodType(Path filePath, String bloodType) throws IOException {
+        RecordEncoder encoder = new RecordEncoder();
+        try (OutputStream out = Files.newOutputStream(filePath)) {
+            out.write(BinaryAddressBookFormat.MAGIC_HEADER);
+            BinaryAddressBookFormat.writeVarLong(out, BinaryAddressBookFormat.FORMAT_VERSION);
+
+            encoder.writeVarLong(1);
+            encoder.writeString(bloodType);
+            encoder.writeRecordTo(out);
+
+            BinaryAddressBookFormat.writeVarLong(out, 1);
+            encoder.writeString(ALICE.getName().fullName);
+            encoder.writeString(ALICE.getIdentityNumber().identityNumber);
+            encoder.writeString(ALICE.getPhone().value);
+            encoder.writeString(ALICE.getEmail().value);
+            encoder.writeString(ALICE.getAddress().value);
+            encoder.writeString(ALICE.getEmergencyContact().toString());
+            encoder.writeSignedVarLong(ALICE.getDateOfBirth().dateOfBirth.toEpochDay());
+            for (int i = 0; i < 4; i++) {
+                encoder.writeVarLong(0);
+            }
+            encoder.writeString(ALICE.getPastMedicalHistory().value);
+            for (int i = 0; i < 3; i++) {
+                encoder.writeVarLong(0);
+            }
+            encoder.writeRecordTo(out);
+
+            BinaryAddressBookFormat.writeVarLong(out, 0);
+        }
+    }
+}
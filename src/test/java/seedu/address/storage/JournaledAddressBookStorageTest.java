@@ -0,0 +1,395 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAppointments.APPT_ALICE;
+import static seedu.address.testutil.TypicalAppointments.APPT_CARL;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.BatchableObservableList.Batch;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.AppointmentBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private JournaledAddressBookStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("healthnote.json");
+        storage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournaledAddressBookStorage(null));
+    }
+
+    @Test
+    public void getJournalFilePath_nextToDataFile() {
+        assertEquals(testFolder.resolve("healthnote.journal"), storage.getJournalFilePath());
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_untrackedAddressBook_savesSnapshot() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        assertEquals(1, readJournalLines().size());
+        assertEquals(original, new JsonAddressBookStorage(filePath).readAddressBook().get());
+        assertEquals(original, readWithNewStorage());
+    }
+
+    @Test
+    public void saveAddressBook_trackedAddressBook_appendsChangesOnly() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        Appointment editedAppointment = new AppointmentBuilder(APPT_ALICE).withNotes("Bring X-ray").build();
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withPhone("99999999").build());
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        original.setAppointment(APPT_ALICE, editedAppointment);
+        original.removeAppointment(APPT_CARL);
+        original.addAppointment(new AppointmentBuilder().withPatientId(HOON.getIdentityNumber()).build());
+        storage.saveAddressBook(original);
+
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertEquals(7, readJournalLines().size());
+        assertEquals(original, readWithNewStorage());
+    }
+
+    @Test
+    public void saveAddressBook_batchedAdjacentEdits_appendsEachEdit() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        try (Batch batch = original.startBatch()) {
+            original.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("99999999").build());
+            original.setPerson(BENSON, new PersonBuilder(BENSON).withPhone("88888888").build());
+        }
+        storage.saveAddressBook(original);
+
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertEquals(3, readJournalLines().size());
+        assertEquals(original, readWithNewStorage());
+    }
+
+    @Test
+    public void saveAddressBook_batchedSwap_savesSnapshot() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        Person placeholder = new PersonBuilder(ALICE).withIdentityNumber("X1234567").build();
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("88888888").build();
+        try (Batch batch = original.startBatch()) {
+            original.setPerson(ALICE, placeholder);
+            original.setPerson(BENSON, ALICE);
+            original.setPerson(placeholder, editedBenson);
+        }
+        storage.saveAddressBook(original);
+
+        assertEquals(1, readJournalLines().size());
+        assertEquals(original, readWithNewStorage());
+    }
+
+    @Test
+    public void saveAddressBook_resetData_success() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        AddressBook replacement = new AddressBook();
+        replacement.addPerson(IDA);
+        replacement.addPerson(HOON);
+        original.resetData(replacement);
+        storage.saveAddressBook(original);
+        assertEquals(replacement, readWithNewStorage());
+
+        original.resetData(new AddressBook());
+        storage.saveAddressBook(original);
+        assertEquals(new AddressBook(), readWithNewStorage());
+    }
+
+    @Test
+    public void saveAddressBook_copyOfTrackedAddressBook_appendsChangesUpToCopy() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        AddressBook copy = new AddressBook(original);
+        original.addPerson(IDA);
+
+        storage.saveAddressBook(copy);
+        assertEquals(2, readJournalLines().size());
+        assertEquals(copy, readWithNewStorage());
+
+        storage.saveAddressBook(original);
+        assertEquals(3, readJournalLines().size());
+        assertEquals(original, readWithNewStorage());
+    }
+
+    @Test
+    public void trackAddressBook_notSavedData_savesSnapshot() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.trackAddressBook(addressBook);
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(1, readJournalLines().size());
+        assertEquals(addressBook, readWithNewStorage());
+    }
+
+    @Test
+    public void trackAddressBook_afterRead_appendsChangesOnly() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        JournaledAddressBookStorage newStorage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+        AddressBook addressBook = new AddressBook(newStorage.readAddressBook().get());
+        newStorage.trackAddressBook(addressBook);
+        addressBook.addPerson(IDA);
+        newStorage.saveAddressBook(addressBook);
+
+        assertEquals(2, readJournalLines().size());
+        assertEquals(addressBook, readWithNewStorage());
+    }
+
+    @Test
+    public void trackLoadedAddressBook_copyOfReadData_savedOnlyOnceChanged() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        JournaledAddressBookStorage newStorage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(newStorage.readAddressBook().get().getPersonList());
+        addressBook.setAppointments(getTypicalAddressBook().getAppointmentList());
+        newStorage.trackLoadedAddressBook(addressBook, true);
+        newStorage.compactAddressBook(addressBook);
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+
+        addressBook.addPerson(IDA);
+        newStorage.saveAddressBook(addressBook);
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertEquals(2, readJournalLines().size());
+        assertEquals(addressBook, readWithNewStorage());
+    }
+
+    @Test
+    public void trackLoadedAddressBook_unreadableDataFile_backedUpAndKeptUntilChanged() throws Exception {
+        Files.writeString(filePath, "not a json file");
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+
+        AddressBook addressBook = new AddressBook();
+        storage.trackLoadedAddressBook(addressBook, false);
+        storage.compactAddressBook(addressBook);
+        assertEquals("not a json file", Files.readString(filePath));
+
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+        assertEquals(addressBook, readWithNewStorage());
+        assertEquals("not a json file", Files.readString(testFolder.resolve("healthnote.json.bak")));
+    }
+
+    @Test
+    public void compactAddressBook_journaledChanges_foldedIntoSnapshot() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        storage.compactAddressBook(original);
+
+        assertEquals(1, readJournalLines().size());
+        assertEquals(original, new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void compactAddressBook_untrackedAddressBook_nothingSaved() throws Exception {
+        storage.compactAddressBook(getTypicalAddressBook());
+        assertFalse(Files.exists(filePath));
+    }
+
+    @Test
+    public void readAddressBook_partiallyWrittenLastChange_ignored() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        Files.write(storage.getJournalFilePath(), "{\"operation\":\"ADD_PE".getBytes(UTF_8),
+                StandardOpenOption.APPEND);
+
+        JournaledAddressBookStorage newStorage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+        AddressBook readBack = new AddressBook(newStorage.readAddressBook().get());
+        assertEquals(original, readBack);
+
+        // later changes are appended after the last complete change
+        newStorage.trackAddressBook(readBack);
+        readBack.addPerson(IDA);
+        newStorage.saveAddressBook(readBack);
+        assertEquals(readBack, readWithNewStorage());
+    }
+
+    @Test
+    public void readAddressBook_journalOfOlderSnapshot_ignored() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // the snapshot is replaced without resetting the journal, as if the app crashed in between
+        AddressBook replacement = new AddressBook();
+        replacement.addPerson(IDA);
+        new JsonAddressBookStorage(filePath).saveAddressBook(replacement);
+        Files.setLastModifiedTime(filePath, FileTime.fromMillis(0));
+
+        assertEquals(replacement, readWithNewStorage());
+    }
+
+    @Test
+    public void readAddressBook_filesCopiedElsewhere_changesReplayed() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        Path copyFolder = Files.createDirectory(testFolder.resolve("copy"));
+        Path copyFilePath = copyFolder.resolve(filePath.getFileName());
+        Files.copy(filePath, copyFilePath);
+        Files.copy(storage.getJournalFilePath(), copyFolder.resolve(storage.getJournalFilePath().getFileName()));
+        Files.setLastModifiedTime(copyFilePath, FileTime.fromMillis(0));
+
+        JournaledAddressBookStorage copyStorage =
+                new JournaledAddressBookStorage(new JsonAddressBookStorage(copyFilePath));
+        assertEquals(original, copyStorage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_snapshotReplacedWithSameSizeAndTime_journalIgnored() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // another snapshot of the same size, with the same last modified time
+        FileTime lastModified = Files.getLastModifiedTime(filePath);
+        String snapshot = Files.readString(filePath);
+        Files.writeString(filePath, snapshot.replace("ALICE", "ALICF"));
+        Files.setLastModifiedTime(filePath, lastModified);
+
+        assertFalse(readWithNewStorage().getPersonList().contains(HOON));
+    }
+
+    @Test
+    public void readAddressBook_journalFromEarlierVersion_replayedThenSnapshotSaved() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        List<String> lines = readJournalLines();
+        lines.set(0, "{\"snapshotSize\":" + Files.size(filePath) + ",\"snapshotLastModified\":"
+                + Files.getLastModifiedTime(filePath).toMillis() + "}");
+        Files.write(storage.getJournalFilePath(), lines, UTF_8);
+
+        JournaledAddressBookStorage newStorage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+        AddressBook readBack = new AddressBook(newStorage.readAddressBook().get());
+        assertEquals(original, readBack);
+
+        // the journal is not appended to, as it does not identify the snapshot by checksum
+        newStorage.trackLoadedAddressBook(readBack, true);
+        readBack.addPerson(IDA);
+        newStorage.saveAddressBook(readBack);
+        assertEquals(1, readJournalLines().size());
+        assertEquals(readBack, readWithNewStorage());
+    }
+
+    @Test
+    public void readAddressBook_invalidChange_throwsDataLoadingException() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        Files.write(storage.getJournalFilePath(), "{\"operation\":\"REMOVE_PERSON\",\"personId\":\"ZZ99\"}\n"
+                .getBytes(UTF_8), StandardOpenOption.APPEND);
+
+        assertThrows(DataLoadingException.class, this::readWithNewStorage);
+    }
+
+    @Test
+    public void saveAddressBook_manyChanges_compacted() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        int changesPerSave = 100;
+        for (int i = 1; i <= JournaledAddressBookStorage.MIN_ENTRIES_BEFORE_COMPACTION + changesPerSave; i++) {
+            original.setPerson(original.getPerson(BENSON.getIdentityNumber()).get(),
+                    new PersonBuilder(BENSON).withPhone(String.valueOf(90000000 + i)).build());
+            if (i % changesPerSave == 0) {
+                storage.saveAddressBook(original);
+            }
+        }
+
+        assertEquals(1, readJournalLines().size());
+        assertEquals(original, readWithNewStorage());
+    }
+
+    @Test
+    public void readAddressBook_binarySnapshot_changesReplayed() throws Exception {
+        Path binaryFilePath = testFolder.resolve("healthnote.bin");
+        JournaledAddressBookStorage binaryStorage =
+                new JournaledAddressBookStorage(new BinaryAddressBookStorage(binaryFilePath));
+        AddressBook original = getTypicalAddressBook();
+        binaryStorage.saveAddressBook(original);
+
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(new BinaryAddressBookStorage(binaryFilePath))
+                .readAddressBook().get();
+        assertEquals(original, readBack);
+
+        original.addPerson(HOON);
+        binaryStorage.saveAddressBook(original);
+        readBack = new JournaledAddressBookStorage(new BinaryAddressBookStorage(binaryFilePath))
+                .readAddressBook().get();
+        assertEquals(original, readBack);
+    }
+
+    private ReadOnlyAddressBook readWithNewStorage() throws DataLoadingException {
+        return new AddressBook(new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath))
+                .readAddressBook().get());
+    }
+
+    private List<String> readJournalLines() throws IOException {
+        Path journalFilePath = storage.getJournalFilePath();
+        return Files.exists(journalFilePath) ? Files.readAllLines(journalFilePath, UTF_8) : Collections.emptyList();
+    }
+}
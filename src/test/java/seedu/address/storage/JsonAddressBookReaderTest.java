@@ -0,0 +1,171 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.zip.CRC32C;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.EmergencyContact;
+import seedu.address.model.person.IdentityNumber;
+import seedu.address.testutil.TypicalPersons;
+
+public class JsonAddressBookReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
+    private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
+    private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+    private static final Path NOT_JSON_FORMAT_FILE =
+            Paths.get("src", "test", "data", "JsonAddressBookStorageTest", "notJsonFormatAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> JsonAddressBookReader.read(null));
+    }
+
+    @Test
+    public void read_typicalPersonsFile_success() throws Exception {
+        assertEquals(TypicalPersons.getTypicalAddressBook(), JsonAddressBookReader.read(TYPICAL_PERSONS_FILE));
+    }
+
+    @Test
+    public void read_invalidPersonFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> JsonAddressBookReader.read(INVALID_PERSON_FILE));
+    }
+
+    @Test
+    public void read_duplicatePersons_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                JsonAddressBookReader.read(DUPLICATE_PERSON_FILE));
+    }
+
+    @Test
+    public void read_notJsonFormat_throwsIoException() {
+        assertThrows(IOException.class, () -> JsonAddressBookReader.read(NOT_JSON_FORMAT_FILE));
+    }
+
+    @Test
+    public void read_missingFile_throwsIoException() {
+        assertThrows(IOException.class, () -> JsonAddressBookReader.read(testFolder.resolve("missing.json")));
+    }
+
+    @Test
+    public void read_unknownFieldsAndNullLists_ignored() throws Exception {
+        Path filePath = write("{\"version\": 2, \"persons\": null, \"extra\": {\"persons\": [1]}, "
+                + "\"appointments\": []}");
+        assertEquals(new AddressBook(), JsonAddressBookReader.read(filePath));
+    }
+
+    @Test
+    public void read_personsNotArray_throwsIoException() throws Exception {
+        Path filePath = write("{\"persons\": {}}");
+        assertThrows(IOException.class, () -> JsonAddressBookReader.read(filePath));
+    }
+
+    @Test
+    public void read_appointmentNotObject_throwsIoException() throws Exception {
+        Path filePath = write("{\"appointments\": [\"tomorrow\"]}");
+        assertThrows(IOException.class, () -> JsonAddressBookReader.read(filePath));
+    }
+
+    @Test
+    public void read_notObject_throwsIoException() throws Exception {
+        Path filePath = write("[]");
+        assertThrows(IOException.class, () -> JsonAddressBookReader.read(filePath));
+    }
+
+    @Test
+    public void read_editedAfterWritten_valuesChecked() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JsonAddressBookWriter.write(TypicalPersons.getTypicalAddressBook(), filePath, true);
+        String json = new String(Files.readAllBytes(filePath), UTF_8);
+        write(json.replace("\"20-05-1998\"", "\"31-02-1998\""));
+
+        assertFalse(JsonAddressBookReader.isTrusted(filePath));
+        assertThrows(IllegalValueException.class, () -> JsonAddressBookReader.read(filePath));
+    }
+
+    @Test
+    public void read_invalidValueWithMatchingChecksum_valuesChecked() throws Exception {
+        Path filePath = writeWithChecksum("{\"persons\":[{\"name\":\"ALICE\",\"dateOfBirth\":\"not a date\"}]",
+                JsonAddressBookWriter.FORMAT_VERSION);
+
+        assertTrue(JsonAddressBookReader.isTrusted(filePath));
+        assertThrows(IllegalValueException.class, String.format(JsonAdaptedPerson.MISSING_FIELD_MESSAGE_FORMAT,
+                IdentityNumber.class.getSimpleName()), () -> JsonAddressBookReader.read(filePath));
+    }
+
+    @Test
+    public void read_unconvertibleValueWithMatchingChecksum_valuesChecked() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JsonAddressBookWriter.write(TypicalPersons.getTypicalAddressBook(), filePath, true);
+        String json = new String(Files.readAllBytes(filePath), UTF_8);
+        // brackets the wrong way round, which cannot be split into a relationship and a phone without checking
+        writeWithChecksum(withoutTrailer(json).replace("[mother] 12345679", "] 12345679 [mother"),
+                JsonAddressBookWriter.FORMAT_VERSION);
+
+        assertTrue(JsonAddressBookReader.isTrusted(filePath));
+        assertThrows(IllegalValueException.class, EmergencyContact.MESSAGE_FORMAT_CONSTRAINTS, () ->
+                JsonAddressBookReader.read(filePath));
+    }
+
+    @Test
+    public void isTrusted_otherFormatVersion_false() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JsonAddressBookWriter.write(TypicalPersons.getTypicalAddressBook(), filePath, true);
+        assertTrue(JsonAddressBookReader.isTrusted(filePath));
+
+        String json = withoutTrailer(new String(Files.readAllBytes(filePath), UTF_8));
+        writeWithChecksum(json, JsonAddressBookWriter.FORMAT_VERSION + 1);
+        assertFalse(JsonAddressBookReader.isTrusted(filePath));
+        assertEquals(TypicalPersons.getTypicalAddressBook(), JsonAddressBookReader.read(filePath));
+
+        // written by a version that did not write the format version
+        CRC32C checksum = new CRC32C();
+        checksum.update(json.getBytes(UTF_8));
+        write(json + ",\"" + JsonAddressBookWriter.CHECKSUM_FIELD + "\":\""
+                + String.format(JsonAddressBookWriter.CHECKSUM_FORMAT, checksum.getValue()) + "\"}");
+        assertFalse(JsonAddressBookReader.isTrusted(filePath));
+    }
+
+    /**
+     * Returns {@code json}, a compact document written by {@code JsonAddressBookWriter}, without the fields after the
+     * appointments and its closing brace.
+     */
+    private static String withoutTrailer(String json) {
+        return json.substring(0, json.lastIndexOf(",\"" + JsonAddressBookWriter.FORMAT_VERSION_FIELD));
+    }
+
+    /**
+     * Writes {@code json}, a document without its closing brace, followed by {@code formatVersion} and a checksum
+     * field that matches them.
+     */
+    private Path writeWithChecksum(String json, int formatVersion) throws IOException {
+        String checkedJson = json + ",\"" + JsonAddressBookWriter.FORMAT_VERSION_FIELD + "\":" + formatVersion;
+        CRC32C checksum = new CRC32C();
+        checksum.update(checkedJson.getBytes(UTF_8));
+        return write(checkedJson + ",\"" + JsonAddressBookWriter.CHECKSUM_FIELD + "\":\""
+                + String.format(JsonAddressBookWriter.CHECKSUM_FORMAT, checksum.getValue()) + "\"}");
+    }
+
+    private Path write(String content) throws IOException {
+        Path filePath = testFolder.resolve("addressBook.json");
+        Files.write(filePath, content.getBytes(UTF_8));
+        return filePath;
+    }
+}
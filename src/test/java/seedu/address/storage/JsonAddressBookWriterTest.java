@@ -0,0 +1,88 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+
+public class JsonAddressBookWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void write_nullArguments_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("addressBook.json");
+        assertThrows(NullPointerException.class, () -> JsonAddressBookWriter.write(null, filePath, false));
+        assertThrows(NullPointerException.class, () ->
+                JsonAddressBookWriter.write(getTypicalAddressBook(), null, false));
+    }
+
+    @Test
+    public void write_notCompact_sameAsSerializedAddressBook() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        Path filePath = testFolder.resolve("addressBook.json");
+        JsonAddressBookWriter.write(addressBook, filePath, false);
+
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook)),
+                withoutChecksum(new String(Files.readAllBytes(filePath), UTF_8)));
+    }
+
+    @Test
+    public void write_compact_singleLineReadBack() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        Path filePath = testFolder.resolve("addressBook.json");
+        JsonAddressBookWriter.write(addressBook, filePath, true);
+
+        assertEquals(JsonUtil.toCompactJsonString(new JsonSerializableAddressBook(addressBook)),
+                withoutChecksum(new String(Files.readAllBytes(filePath), UTF_8)));
+        assertEquals(addressBook, JsonAddressBookReader.read(filePath));
+    }
+
+    @Test
+    public void write_longerFileExists_fileReplaced() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JsonAddressBookWriter.write(getTypicalAddressBook(), filePath, false);
+        JsonAddressBookWriter.write(new AddressBook(), filePath, false);
+
+        assertEquals(new AddressBook(), JsonAddressBookReader.read(filePath));
+    }
+
+    @Test
+    public void write_missingFolders_foldersCreated() throws Exception {
+        Path filePath = testFolder.resolve("data").resolve("healthnote").resolve("addressBook.json");
+        JsonAddressBookWriter.write(getTypicalAddressBook(), filePath, true);
+
+        assertEquals(getTypicalAddressBook(), JsonAddressBookReader.read(filePath));
+    }
+
+    @Test
+    public void write_checksum_matchesContents() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JsonAddressBookWriter.write(getTypicalAddressBook(), filePath, false);
+        assertTrue(JsonAddressBookReader.isTrusted(filePath));
+
+        JsonAddressBookWriter.write(getTypicalAddressBook(), filePath, true, FileUtil.MAX_COMPRESSION_LEVEL);
+        assertTrue(JsonAddressBookReader.isTrusted(filePath));
+    }
+
+    /**
+     * Returns {@code json} without the format version and checksum fields that {@code JsonAddressBookWriter} ends the
+     * document with.
+     */
+    private static String withoutChecksum(String json) {
+        return json.replaceFirst(",\\s*\"" + JsonAddressBookWriter.FORMAT_VERSION_FIELD + "\"\\s*:\\s*\\d+"
+                + ",\\s*\"" + JsonAddressBookWriter.CHECKSUM_FIELD + "\"\\s*:\\s*\"\\p{XDigit}{8}\"", "");
+    }
+}
@@ -12,6 +12,7 @@ import java.util.Optional;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.core.DataFileFormat;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.UserPrefs;
@@ -74,6 +75,10 @@ public class JsonUserPrefsStorageTest {
         UserPrefs userPrefs = new UserPrefs();
         userPrefs.setGuiSettings(new GuiSettings(1000, 500, 300, 100));
         userPrefs.setAddressBookFilePath(Paths.get("healthnote.json"));
+        userPrefs.setAddressBookFileFormat(DataFileFormat.BINARY);
+        userPrefs.setAddressBookSegmentCount(16);
+        userPrefs.setAddressBookCompressionLevel(6);
+        userPrefs.setUndoHistoryLimit(5);
         return userPrefs;
     }
 
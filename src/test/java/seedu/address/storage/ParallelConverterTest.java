@@ -0,0 +1,77 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+public class ParallelConverterTest {
+
+    private final List<Integer> consumed = new ArrayList<>();
+
+    @Test
+    public void constructor_invalidChunkSize_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ParallelConverter<Integer, Integer>(
+                element -> element, consumed::add, 0));
+    }
+
+    @Test
+    public void convertAll_manyElements_consumedInOrder() throws Exception {
+        List<Integer> elements = range(0, 10 * ParallelConverter.DEFAULT_CHUNK_SIZE + 1);
+        ParallelConverter.convertAll(elements, element -> element * 2, consumed::add);
+
+        assertEquals(elements.stream().map(element -> element * 2).collect(Collectors.toList()), consumed);
+    }
+
+    @Test
+    public void finish_invalidElements_firstInvalidElementReported() {
+        ParallelConverter<Integer, Integer> converter = new ParallelConverter<>(element -> {
+            if (element == 10 || element == 50) {
+                throw new IllegalValueException("invalid " + element);
+            }
+            return element;
+        }, consumed::add, 4);
+
+        assertThrows(IllegalValueException.class, "invalid 10", () -> {
+            for (int i = 0; i <= 100; i++) {
+                converter.add(i);
+            }
+            converter.finish();
+        });
+        assertEquals(range(0, 10), consumed);
+    }
+
+    @Test
+    public void finish_consumerErrorBeforeInvalidElement_consumerErrorReported() {
+        ParallelConverter<Integer, Integer> converter = new ParallelConverter<>(element -> {
+            if (element == 7) {
+                throw new IllegalValueException("invalid");
+            }
+            return element;
+        }, object -> {
+            if (object == 5) {
+                throw new IllegalValueException("duplicate");
+            }
+            consumed.add(object);
+        }, 4);
+
+        assertThrows(IllegalValueException.class, "duplicate", () -> {
+            for (int i = 0; i < 10; i++) {
+                converter.add(i);
+            }
+            converter.finish();
+        });
+        assertEquals(range(0, 5), consumed);
+    }
+
+    private static List<Integer> range(int start, int end) {
+        return IntStream.range(start, end).boxed().collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,179 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+public class SegmentedAddressBookStorageTest {
+
+    private static final int SEGMENT_COUNT = 4;
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private SegmentedAddressBookStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("healthnote.json");
+        storage = new SegmentedAddressBookStorage(new JsonAddressBookStorage(filePath), SEGMENT_COUNT);
+    }
+
+    @Test
+    public void constructor_invalidSegmentCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new SegmentedAddressBookStorage(new JsonAddressBookStorage(filePath), 0));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        assertTrue(SegmentedAddressBookStorage.isManifest(filePath));
+        assertEquals(SEGMENT_COUNT, readManifest().getSegmentFiles().size());
+        assertEquals(original, readWithNewStorage());
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, readWithNewStorage());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_binarySegments_success() throws Exception {
+        Path binaryFilePath = testFolder.resolve("healthnote.bin");
+        new SegmentedAddressBookStorage(new BinaryAddressBookStorage(binaryFilePath), SEGMENT_COUNT)
+                .saveAddressBook(getTypicalAddressBook());
+
+        assertEquals(getTypicalAddressBook(), new AddressBook(
+                new SegmentedAddressBookStorage(new BinaryAddressBookStorage(binaryFilePath), SEGMENT_COUNT)
+                        .readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_editedPerson_onlyItsSegmentSaved() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        List<String> segmentFiles = readManifest().getSegmentFiles();
+
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withPhone("99999999").build());
+        storage.saveAddressBook(original);
+
+        assertEquals(1, countChangedSegmentFiles(segmentFiles, readManifest().getSegmentFiles()));
+        assertEquals(original, readWithNewStorage());
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_onlyChangedSegmentSaved() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        List<String> segmentFiles = readManifest().getSegmentFiles();
+
+        SegmentedAddressBookStorage newStorage =
+                new SegmentedAddressBookStorage(new JsonAddressBookStorage(filePath), SEGMENT_COUNT);
+        AddressBook addressBook = new AddressBook(newStorage.readAddressBook().get());
+        addressBook.addPerson(HOON);
+        newStorage.saveAddressBook(addressBook);
+
+        assertEquals(1, countChangedSegmentFiles(segmentFiles, readManifest().getSegmentFiles()));
+        assertEquals(addressBook, readWithNewStorage());
+    }
+
+    @Test
+    public void saveAddressBook_unchangedAddressBook_nothingSaved() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] manifest = Files.readAllBytes(filePath);
+
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertArrayEquals(manifest, Files.readAllBytes(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_changedSegment_previousSegmentFileDeleted() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        List<String> segmentFiles = readManifest().getSegmentFiles();
+
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+
+        for (String segmentFile : segmentFiles) {
+            assertEquals(readManifest().getSegmentFiles().contains(segmentFile),
+                    Files.exists(testFolder.resolve(segmentFile)));
+        }
+    }
+
+    @Test
+    public void readAddressBook_singleDataFile_splitWhenSaved() throws Exception {
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(getTypicalAddressBook(), readBack);
+
+        storage.saveAddressBook(readBack);
+        assertTrue(SegmentedAddressBookStorage.isManifest(filePath));
+        assertEquals(getTypicalAddressBook(), readWithNewStorage());
+    }
+
+    @Test
+    public void readAddressBook_manifestWithFileStorage_segmentsRead() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertEquals(getTypicalAddressBook(), new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_missingSegmentFile_throwsDataLoadingException() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        Files.delete(testFolder.resolve(readManifest().getSegmentFiles().get(0)));
+
+        assertThrows(DataLoadingException.class, this::readWithNewStorage);
+    }
+
+    @Test
+    public void getSegmentFileName_withAndWithoutExtension() {
+        assertEquals("healthnote-03-7.json",
+                SegmentedAddressBookStorage.getSegmentFileName(filePath, 3, 7));
+        assertEquals("healthnote-12-1",
+                SegmentedAddressBookStorage.getSegmentFileName(testFolder.resolve("healthnote"), 12, 1));
+    }
+
+    private ReadOnlyAddressBook readWithNewStorage() throws DataLoadingException {
+        return new SegmentedAddressBookStorage(new JsonAddressBookStorage(filePath), SEGMENT_COUNT)
+                .readAddressBook().get();
+    }
+
+    private JsonAdaptedSegmentManifest readManifest() throws DataLoadingException {
+        return JsonUtil.readJsonFile(filePath, JsonAdaptedSegmentManifest.class).get();
+    }
+
+    private static int countChangedSegmentFiles(List<String> before, List<String> after) {
+        List<String> changed = new ArrayList<>(after);
+        changed.removeAll(before);
+        return changed.size();
+    }
+}
@@ -0,0 +1,200 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class WriteBehindStorageTest {
+
+    private static final Duration LONG_DELAY = Duration.ofHours(1);
+    private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy IO exception");
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private AtomicInteger writeCount;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("healthnote.json");
+        writeCount = new AtomicInteger();
+    }
+
+    @Test
+    public void constructor_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new WriteBehindStorage(null, LONG_DELAY, e -> {}));
+        assertThrows(NullPointerException.class, () -> new WriteBehindStorage(createStorage(), null, e -> {}));
+        assertThrows(NullPointerException.class, () -> new WriteBehindStorage(createStorage(), LONG_DELAY, null));
+    }
+
+    @Test
+    public void saveAddressBook_beforeMaxDelay_notWritten() throws Exception {
+        WriteBehindStorage storage = new WriteBehindStorage(createStorage(), LONG_DELAY, e -> {});
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        assertFalse(Files.exists(filePath));
+        storage.flush();
+        assertEquals(getTypicalAddressBook(), readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_afterMaxDelay_written() throws Exception {
+        WriteBehindStorage storage = new WriteBehindStorage(createStorage(), Duration.ofMillis(10), e -> {});
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (writeCount.get() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, writeCount.get());
+    }
+
+    @Test
+    public void saveAddressBook_burstOfSaves_writtenOnce() throws Exception {
+        WriteBehindStorage storage = new WriteBehindStorage(createStorage(), LONG_DELAY, e -> {});
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+
+        storage.flush();
+        storage.flush();
+        assertEquals(1, writeCount.get());
+        assertEquals(addressBook, readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_changedAfterSave_snapshotWritten() throws Exception {
+        WriteBehindStorage storage = new WriteBehindStorage(createStorage(), LONG_DELAY, e -> {});
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+
+        storage.flush();
+        assertEquals(getTypicalAddressBook(), readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_writeFails_failureReportedAndRetried() throws Exception {
+        CompletableFuture<IOException> reportedFailure = new CompletableFuture<>();
+        WriteBehindStorage storage = new WriteBehindStorage(createFailingStorage(), Duration.ofMillis(10),
+                reportedFailure::complete);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        assertSame(DUMMY_IO_EXCEPTION, reportedFailure.get(10, TimeUnit.SECONDS));
+        assertThrows(IOException.class, storage::flush);
+        assertEquals(2, writeCount.get());
+    }
+
+    @Test
+    public void saveAddressBook_sameVersionWaiting_notSnapshotAgain() throws Exception {
+        WriteBehindStorage storage = new WriteBehindStorage(createStorage(), LONG_DELAY, e -> {});
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        storage.saveAddressBook(new AddressBook(addressBook) {
+            @Override
+            public AddressBookSnapshot snapshot() {
+                throw new AssertionError("snapshot taken again");
+            }
+        });
+
+        storage.flush();
+        assertEquals(1, writeCount.get());
+    }
+
+    @Test
+    public void getWrittenAddressBookVersion_onlyWrittenSavesCounted() throws Exception {
+        WriteBehindStorage storage = new WriteBehindStorage(createStorage(), LONG_DELAY, e -> {});
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        assertEquals(OptionalLong.empty(), storage.getWrittenAddressBookVersion());
+
+        storage.flush();
+        long writtenVersion = addressBook.getVersion();
+        assertEquals(OptionalLong.of(writtenVersion), storage.getWrittenAddressBookVersion());
+
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertEquals(OptionalLong.of(writtenVersion), storage.getWrittenAddressBookVersion());
+    }
+
+    @Test
+    public void getWrittenAddressBookVersion_writeFails_previousVersion() throws Exception {
+        WriteBehindStorage storage = new WriteBehindStorage(createFailingStorage(), LONG_DELAY, e -> {});
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.trackLoadedAddressBook(addressBook, true);
+        long loadedVersion = addressBook.getVersion();
+
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertThrows(IOException.class, storage::flush);
+        assertEquals(OptionalLong.of(loadedVersion), storage.getWrittenAddressBookVersion());
+    }
+
+    @Test
+    public void compactAddressBook_pendingSave_writtenFirst() throws Exception {
+        JournaledAddressBookStorage journaledStorage =
+                new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+        WriteBehindStorage storage = new WriteBehindStorage(
+                new StorageManager(journaledStorage, new JsonUserPrefsStorage(testFolder.resolve("prefs"))),
+                LONG_DELAY, e -> {});
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        storage.flush();
+
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        storage.compactAddressBook(addressBook);
+
+        assertEquals(1, Files.readAllLines(journaledStorage.getJournalFilePath()).size());
+        assertEquals(addressBook, readAddressBook());
+    }
+
+    private Storage createStorage() {
+        return new StorageManager(new JsonAddressBookStorage(filePath) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+                writeCount.incrementAndGet();
+                super.saveAddressBook(addressBook);
+            }
+        }, new JsonUserPrefsStorage(testFolder.resolve("prefs")));
+    }
+
+    private Storage createFailingStorage() {
+        return new StorageManager(new JsonAddressBookStorage(filePath) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+                writeCount.incrementAndGet();
+                throw DUMMY_IO_EXCEPTION;
+            }
+        }, new JsonUserPrefsStorage(testFolder.resolve("prefs")));
+    }
+
+    private AddressBook readAddressBook() throws Exception {
+        return new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+}
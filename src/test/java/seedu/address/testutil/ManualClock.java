@@ -0,0 +1,45 @@
+package seedu.address.testutil;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * A {@code Clock} that only moves when told to, for testing time-dependent code.
+ */
+public class ManualClock extends Clock {
+
+    private static final ZoneId ZONE = ZoneOffset.UTC;
+
+    private Instant instant;
+
+    public ManualClock(LocalDateTime dateTime) {
+        setDateTime(dateTime);
+    }
+
+    public void setDateTime(LocalDateTime dateTime) {
+        instant = dateTime.toInstant(ZoneOffset.UTC);
+    }
+
+    public void advance(Duration duration) {
+        instant = instant.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return ZONE;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Instant instant() {
+        return instant;
+    }
+}
@@ -0,0 +1,89 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.LogicManager;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class PersonSearchPreviewerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model;
+    private PersonSearchPreviewer previewer;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        previewer = new PersonSearchPreviewer(new LogicManager(model, storage), Runnable::run, Runnable::run);
+    }
+
+    @Test
+    public void preview_findCommand_showsMatchingPersons() {
+        previewer.preview("find kur");
+        assertEquals(List.of(CARL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void preview_cleared_restoresPreviousFilter() {
+        model.updateFilteredPersonList(person -> !person.equals(ALICE));
+        List<Person> filteredPersons = List.copyOf(model.getFilteredPersonList());
+
+        previewer.preview("find kur");
+        previewer.preview("find al");
+        previewer.preview("");
+        assertEquals(filteredPersons, model.getFilteredPersonList());
+    }
+
+    @Test
+    public void cancel_afterPreview_restoresPreviousFilter() {
+        model.updateFilteredPersonList(person -> person.equals(BENSON));
+
+        previewer.preview("find kur");
+        previewer.cancel();
+        assertEquals(List.of(BENSON), model.getFilteredPersonList());
+
+        // nothing to restore without a preview
+        model.updateFilteredPersonList(person -> person.equals(ALICE));
+        previewer.cancel();
+        assertEquals(List.of(ALICE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void getSearchPrefixes_findCommand_returnsWords() {
+        assertEquals(List.of("al"), PersonSearchPreviewer.getSearchPrefixes("find al"));
+        assertEquals(List.of("al", "BM6"), PersonSearchPreviewer.getSearchPrefixes("  find   al  BM6 "));
+        assertEquals(List.of("al"), PersonSearchPreviewer.getSearchPrefixes("find al m\\Warf"));
+    }
+
+    @Test
+    public void getSearchPrefixes_notFindCommandOrNoWords_returnsEmptyList() {
+        assertTrue(PersonSearchPreviewer.getSearchPrefixes("").isEmpty());
+        assertTrue(PersonSearchPreviewer.getSearchPrefixes("find").isEmpty());
+        assertTrue(PersonSearchPreviewer.getSearchPrefixes("find   ").isEmpty());
+        assertTrue(PersonSearchPreviewer.getSearchPrefixes("findal").isEmpty());
+        assertTrue(PersonSearchPreviewer.getSearchPrefixes("delete 1").isEmpty());
+    }
+}